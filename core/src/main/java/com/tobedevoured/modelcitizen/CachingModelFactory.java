@@ -0,0 +1,229 @@
+package com.tobedevoured.modelcitizen;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.cache.BlueprintModelCloner;
+import com.tobedevoured.modelcitizen.cache.CacheStats;
+import com.tobedevoured.modelcitizen.cache.ModelCache;
+import com.tobedevoured.modelcitizen.cache.ModelCloner;
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+import com.tobedevoured.modelcitizen.policy.Policy;
+import com.tobedevoured.modelcitizen.policy.PolicyException;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
+
+/**
+ * {@link ModelFactory} that caches the Models created for a Blueprint alias and class in a
+ * {@link ModelCache}, so repeated requests for the same fixture return the same graph. Only
+ * the outermost create is cached, Models created from a reference model are never cached.
+ * Registering a Blueprint, adding a Policy, or changing the collection sizes, the
+ * {@link CollectionFactory} or creating from plans invalidates the cache.
+ *
+ * A Model is cached under the seed of the ModelFactory and the {@link Projection} or
+ * {@link SizeOverrides} it was created with, so changing the seed or the overrides creates a
+ * new Model. SizeOverrides must not be changed after a Model is cached with them.
+ *
+ * Cached Models are shared by every caller unless {@link #setCopyOnRead(boolean)} is enabled,
+ * in which case each caller receives a copy made by the {@link ModelCloner}.
+ */
+public class CachingModelFactory extends ModelFactory {
+
+    private final ModelCache cache = new ModelCache();
+    private ModelCloner modelCloner = new BlueprintModelCloner(this);
+    private boolean copyOnRead = false;
+
+    @Override
+    public <T> T createModel(String blueprintName, Class<T> clazz, boolean withPolicies) throws CreateModelException {
+        if (isCreatingModel()) {
+            return super.createModel(blueprintName, clazz, withPolicies);
+        }
+
+        CacheKey key = new CacheKey(blueprintName, clazz, withPolicies, null, null, getSeed());
+        T model = (T) cache.get(key);
+        if (model == null) {
+            model = super.createModel(blueprintName, clazz, withPolicies);
+            cache.put(key, model);
+        }
+
+        return copyOnRead ? modelCloner.clone(model) : model;
+    }
+
+    @Override
+    public <T> T createModel(String blueprintName, Class<T> clazz, Projection projection) throws CreateModelException {
+        if (isCreatingModel()) {
+            return super.createModel(blueprintName, clazz, projection);
+        }
+
+        CacheKey key = new CacheKey(blueprintName, clazz, true, projection, null, getSeed());
+        T model = (T) cache.get(key);
+        if (model == null) {
+            model = super.createModel(blueprintName, clazz, projection);
+            cache.put(key, model);
+        }
+
+        return copyOnRead ? modelCloner.clone(model) : model;
+    }
+
+    @Override
+    public <T> T createModel(String blueprintName, Class<T> clazz, SizeOverrides sizeOverrides) throws CreateModelException {
+        if (isCreatingModel()) {
+            return super.createModel(blueprintName, clazz, sizeOverrides);
+        }
+
+        CacheKey key = new CacheKey(blueprintName, clazz, true, null, sizeOverrides, getSeed());
+        T model = (T) cache.get(key);
+        if (model == null) {
+            model = super.createModel(blueprintName, clazz, sizeOverrides);
+            cache.put(key, model);
+        }
+
+        return copyOnRead ? modelCloner.clone(model) : model;
+    }
+
+    @Override
+    public void registerBlueprint(String blueprintName, Object blueprint) throws RegisterBlueprintException {
+        super.registerBlueprint(blueprintName, blueprint);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void addPolicy(String blueprintName, Policy policy) throws PolicyException {
+        super.addPolicy(blueprintName, policy);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void setCollectionSize(Class modelClass, String fieldName, int size) {
+        super.setCollectionSize(modelClass, fieldName, size);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void clearCollectionSizes() {
+        super.clearCollectionSizes();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void setCollectionFactory(CollectionFactory collectionFactory) {
+        super.setCollectionFactory(collectionFactory);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void setCreateFromPlans(boolean createFromPlans) {
+        super.setCreateFromPlans(createFromPlans);
+        cache.invalidateAll();
+    }
+
+    /**
+     * {@link ModelCache} of the created Models, to configure its bounds and eviction
+     *
+     * @return {@link ModelCache}
+     */
+    public ModelCache getCache() {
+        return cache;
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
+    public ModelCloner getModelCloner() {
+        return modelCloner;
+    }
+
+    /**
+     * {@link ModelCloner} for copies of cached Models, default is {@link BlueprintModelCloner}
+     *
+     * @param modelCloner {@link ModelCloner}
+     */
+    public void setModelCloner(ModelCloner modelCloner) {
+        this.modelCloner = modelCloner;
+    }
+
+    /**
+     * If true, a copy of the cached Model is returned by createModel. Default is false.
+     *
+     * @return boolean
+     */
+    public boolean isCopyOnRead() {
+        return copyOnRead;
+    }
+
+    public void setCopyOnRead(boolean copyOnRead) {
+        this.copyOnRead = copyOnRead;
+    }
+
+    /**
+     * Key of a cached Model
+     */
+    private static class CacheKey {
+        private final String blueprintName;
+        private final Class clazz;
+        private final boolean withPolicies;
+        private final Projection projection;
+        private final SizeOverrides sizeOverrides;
+        private final long seed;
+
+        CacheKey(String blueprintName, Class clazz, boolean withPolicies, Projection projection, SizeOverrides sizeOverrides, long seed) {
+            this.blueprintName = blueprintName;
+            this.clazz = clazz;
+            this.withPolicies = withPolicies;
+            this.projection = projection;
+            this.sizeOverrides = sizeOverrides;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CacheKey cacheKey = (CacheKey) o;
+
+            return withPolicies == cacheKey.withPolicies && seed == cacheKey.seed && blueprintName.equals(cacheKey.blueprintName) && clazz.equals(cacheKey.clazz)
+                    && (projection == null ? cacheKey.projection == null : projection.equals(cacheKey.projection))
+                    && (sizeOverrides == null ? cacheKey.sizeOverrides == null : sizeOverrides.equals(cacheKey.sizeOverrides));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = blueprintName.hashCode();
+            result = 31 * result + clazz.hashCode();
+            result = 31 * result + (withPolicies ? 1 : 0);
+            result = 31 * result + (projection != null ? projection.hashCode() : 0);
+            result = 31 * result + (sizeOverrides != null ? sizeOverrides.hashCode() : 0);
+            result = 31 * result + (int) (seed ^ (seed >>> 32));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheKey{" +
+                    "blueprintName='" + blueprintName + '\'' +
+                    ", clazz=" + clazz +
+                    ", withPolicies=" + withPolicies +
+                    ", projection=" + projection +
+                    ", sizeOverrides=" + sizeOverrides +
+                    ", seed=" + seed +
+                    '}';
+        }
+    }
+}
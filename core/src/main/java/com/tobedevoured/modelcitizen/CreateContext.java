@@ -0,0 +1,304 @@
+package com.tobedevoured.modelcitizen;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.annotation.Unique;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of a single Model graph being created by the {@link ModelFactory}. A context
+ * is opened by the outermost call to createModel and is shared by every nested Model
+ * created on the same thread until that call returns.
+ */
+public class CreateContext {
+
+    private final Map<Object, Object> createdByReference = new IdentityHashMap<Object, Object>();
+    private InternTable interned;
+    private Projection projection;
+    private SizeOverrides sizeOverrides;
+    private String backReference;
+    private Object parent;
+    private final List<Erector> erectorPath;
+    private final List<String> fieldPath;
+    private final AtomicInteger nodeCount;
+    private final boolean forked;
+    private final ConcurrentMap<Object, Object> attributes;
+    private long random;
+    private long owner;
+    private long owned;
+
+    CreateContext(long random) {
+        this.random = random;
+        attributes = new ConcurrentHashMap<Object, Object>();
+        erectorPath = new ArrayList<Erector>();
+        fieldPath = new ArrayList<String>();
+        nodeCount = new AtomicInteger();
+        forked = false;
+    }
+
+    private CreateContext(CreateContext parent) {
+        erectorPath = new ArrayList<Erector>(parent.erectorPath);
+        fieldPath = new ArrayList<String>(parent.fieldPath);
+        nodeCount = parent.nodeCount;
+        interned = parent.getInterned();
+        attributes = parent.attributes;
+        random = parent.random;
+        owner = parent.owner;
+        forked = true;
+    }
+
+    /**
+     * Context for creating Models nested in the Model being created on another thread. The
+     * forked context continues the path and node count, and shares the {@link Scope#BATCH}
+     * interned Models and the attributes.
+     */
+    CreateContext fork() {
+        return new CreateContext(this);
+    }
+
+    /**
+     * If the context was forked to create Models on another thread
+     *
+     * @return boolean
+     */
+    public boolean isForked() {
+        return forked;
+    }
+
+    /**
+     * Next random bits of the context. The stream of a context is determined by the seed of the
+     * {@link ModelFactory}, so Models created in the same order draw the same bits.
+     *
+     * @return long
+     */
+    public long nextRandom() {
+        random += SplitMix.GAMMA;
+        return SplitMix.mix(random);
+    }
+
+    /**
+     * Restart the random stream, so the next Model draws bits that only depend on the stream
+     */
+    void reseed(long stream) {
+        random = stream;
+        if (owner != 0) {
+            own(stream);
+        }
+    }
+
+    /**
+     * Own the {@link Unique} values drawn in this context by
+     * the stream, so the same Model created again from the stream may use them again
+     */
+    void own(long stream) {
+        owner = SplitMix.mix(owner ^ stream) | 1;
+        owned = 0;
+    }
+
+    /**
+     * Owner of the next {@link Unique} value, the same for
+     * the same value drawn by the same seeded Model. 0 if the context is not seeded.
+     *
+     * @return long
+     */
+    public long nextOwner() {
+        return owner == 0 ? 0 : SplitMix.at(owner, owned++);
+    }
+
+    /**
+     * Model already created in this context for the reference model, by identity
+     *
+     * @param referenceModel Object
+     * @return Object created Model, or null
+     */
+    public Object getCreated(Object referenceModel) {
+        return createdByReference.get(referenceModel);
+    }
+
+    void putCreated(Object referenceModel, Object createdModel) {
+        createdByReference.put(referenceModel, createdModel);
+    }
+
+    /**
+     * Start creating a Model nested in the Model being created. The node count is reset
+     * when an outermost Model is started.
+     */
+    void enter(Erector erector) {
+        if (erectorPath.isEmpty() && !forked) {
+            nodeCount.set(0);
+        }
+        erectorPath.add(erector);
+        fieldPath.add(null);
+        nodeCount.incrementAndGet();
+    }
+
+    /**
+     * Finish creating the innermost Model
+     */
+    void exit() {
+        erectorPath.remove(erectorPath.size() - 1);
+        fieldPath.remove(fieldPath.size() - 1);
+    }
+
+    /**
+     * Set the field of the innermost Model being populated
+     */
+    void setField(String name) {
+        if (!fieldPath.isEmpty()) {
+            fieldPath.set(fieldPath.size() - 1, name);
+        }
+    }
+
+    /**
+     * Number of Models being created, nested in each other
+     *
+     * @return int
+     */
+    public int getDepth() {
+        return erectorPath.size();
+    }
+
+    /**
+     * Number of Models created for the outermost Model being created
+     *
+     * @return int
+     */
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    /**
+     * Path of the Models being created and the fields they are created for,
+     * such as <code>Car.wheels &gt; Wheel.options &gt; Option</code>
+     *
+     * @return String
+     */
+    public String getPath() {
+        StringBuilder path = new StringBuilder();
+        for (int x = 0; x < erectorPath.size(); x++) {
+            if (x > 0) {
+                path.append(" > ");
+            }
+
+            Class target = erectorPath.get(x).getTarget();
+            path.append(target == null ? "?" : target.getSimpleName());
+            if (fieldPath.get(x) != null) {
+                path.append('.').append(fieldPath.get(x));
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * {@link Projection} and {@link SizeOverrides} for the next Model created in this context
+     */
+    void setNext(Projection projection, SizeOverrides sizeOverrides) {
+        this.projection = projection;
+        this.sizeOverrides = sizeOverrides;
+    }
+
+    /**
+     * {@link Projection} for the Model being created, cleared so it does not apply to nested Models
+     */
+    Projection takeProjection() {
+        Projection taken = projection;
+        projection = null;
+        return taken;
+    }
+
+    /**
+     * {@link SizeOverrides} for the Model being created, cleared so it does not apply to nested Models
+     */
+    SizeOverrides takeSizeOverrides() {
+        SizeOverrides taken = sizeOverrides;
+        sizeOverrides = null;
+        return taken;
+    }
+
+    /**
+     * Attribute kept for the Models of a {@link Scope#BATCH}, shared by contexts forked from this context
+     *
+     * @param key Object
+     * @return Object value, or null
+     */
+    public Object getAttribute(Object key) {
+        return attributes.get(key);
+    }
+
+    /**
+     * Set the attribute if not already set, safe for forked contexts on other threads
+     *
+     * @param key   Object
+     * @param value Object
+     * @return Object the attribute already set, or null if the value was set
+     */
+    public Object putAttributeIfAbsent(Object key, Object value) {
+        return attributes.putIfAbsent(key, value);
+    }
+
+    /**
+     * Parent Model set to the backReference property of the next Model created in this context
+     */
+    void setNextParent(String backReference, Object parent) {
+        this.backReference = backReference;
+        this.parent = parent;
+    }
+
+    /**
+     * Set the parent Model to the Model newly constructed by the {@link Erector}, cleared
+     * so it does not apply to nested Models
+     */
+    <T> T injectParent(Erector erector, T model) throws CreateModelException {
+        if (backReference == null) {
+            return model;
+        }
+
+        String property = backReference;
+        Object taken = parent;
+        backReference = null;
+        parent = null;
+
+        try {
+            return erector.getTemplate().set(model, property, taken);
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+    }
+
+    /**
+     * {@link InternTable} for {@link Scope#BATCH}
+     */
+    InternTable getInterned() {
+        if (interned == null) {
+            interned = new InternTable();
+        }
+        return interned;
+    }
+}
@@ -26,23 +26,31 @@ import com.tobedevoured.modelcitizen.erector.Command;
 import com.tobedevoured.modelcitizen.field.ModelField;
 import com.tobedevoured.modelcitizen.template.BlueprintTemplate;
 import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.BulkBlueprintTemplate;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+import com.tobedevoured.modelcitizen.template.TemplatePropertyAccessor;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 /**
- * Erector for a Class to create an instance from a {@link com.tobedevoured.modelcitizen.annotation.Blueprint} annotated Class
+ * Erector for a Class to create an instance from a {@link com.tobedevoured.modelcitizen.annotation.Blueprint} annotated Class.
+ * The commands and reference are kept per thread, so Models can be created by the Erector on several threads.
  */
 public class Erector {
 
 	private static final Set<Command> EMPTY_SET = new HashSet<Command>();
 	
 	private Object blueprint;
+	private String blueprintName;
 	private Map<String,ModelField> modelFields;
-	private Map<ModelField,Set<Command>> modelFieldCommands = new HashMap<ModelField,Set<Command>>();
+	private final ThreadLocal<Map<ModelField,Set<Command>>> modelFieldCommands = new ThreadLocal<Map<ModelField,Set<Command>>>();
 	private BlueprintTemplate blueprintTemplate;
 	private Class target;
 	private Constructable newInstance;
-	private Object reference;
+	private final ThreadLocal<Object> reference = new ThreadLocal<Object>();
     private Map<String, List<Callback>> callbacks;
+    private volatile List<ModelField> boundModelFields;
+    private volatile PropertyAccessor propertyAccessor;
+    private volatile PropertyAccessor unmappedPropertyAccessor;
 
     public Erector() {
         modelFields = new HashMap<String,ModelField>();
@@ -72,17 +80,24 @@ public class Erector {
 	}
 	
 	public void addCommand( ModelField modelField, Command command ) {
-		Set<Command> commands = modelFieldCommands.get( modelField );
+		Map<ModelField,Set<Command>> fieldCommands = modelFieldCommands.get();
+		if ( fieldCommands == null ) {
+			fieldCommands = new HashMap<ModelField,Set<Command>>();
+			modelFieldCommands.set( fieldCommands );
+		}
+
+		Set<Command> commands = fieldCommands.get( modelField );
 		if ( commands == null ) {
 			commands = new HashSet<Command>();
 		}
 		
 		commands.add( command );
-		modelFieldCommands.put( modelField, commands );
+		fieldCommands.put( modelField, commands );
 	}
 	
 	public Set<Command> getCommands( ModelField modelField ) {
-		Set<Command> commands = modelFieldCommands.get( modelField );
+		Map<ModelField,Set<Command>> fieldCommands = modelFieldCommands.get();
+		Set<Command> commands = fieldCommands == null ? null : fieldCommands.get( modelField );
 		if ( commands != null ) {
 			return commands;
 		} else {
@@ -90,8 +105,95 @@ public class Erector {
 		}
 	}
 	
+	/**
+	 * Bind the {@link ModelField}s to a {@link PropertyAccessor} from the {@link #getTemplate()}. The
+	 * index of each ModelField in {@link #getBoundModelFields()} is the index of the property in
+	 * the PropertyAccessor. A template that does not implement {@link BulkBlueprintTemplate}
+	 * is adapted by {@link TemplatePropertyAccessor}. The properties that are not fields of the
+	 * Blueprint are bound to {@link #getUnmappedPropertyAccessor()}.
+	 *
+	 * @throws BlueprintTemplateException
+	 */
+	public synchronized void bind() throws BlueprintTemplateException {
+		List<ModelField> fields = new ArrayList<ModelField>( modelFields.values() );
+		String[] properties = new String[fields.size()];
+		for ( int idx = 0; idx < properties.length; idx++ ) {
+			properties[idx] = fields.get( idx ).getName();
+		}
+
+		List<String> unmappedProperties = new ArrayList<String>();
+		if ( blueprintTemplate instanceof BulkBlueprintTemplate ) {
+			for ( String property : ((BulkBlueprintTemplate)blueprintTemplate).getProperties( target ) ) {
+				if ( !modelFields.containsKey( property ) ) {
+					unmappedProperties.add( property );
+				}
+			}
+		}
+		String[] unmapped = unmappedProperties.toArray( new String[unmappedProperties.size()] );
+
+		if ( blueprintTemplate instanceof BulkBlueprintTemplate ) {
+			propertyAccessor = ((BulkBlueprintTemplate)blueprintTemplate).bind( target, properties );
+			unmappedPropertyAccessor = ((BulkBlueprintTemplate)blueprintTemplate).bind( target, unmapped );
+		} else {
+			propertyAccessor = new TemplatePropertyAccessor( blueprintTemplate, properties );
+			unmappedPropertyAccessor = new TemplatePropertyAccessor( blueprintTemplate, unmapped );
+		}
+
+		boundModelFields = Collections.unmodifiableList( fields );
+	}
+
+	/**
+	 * {@link ModelField}s in the order bound to {@link #getPropertyAccessor()}, binding if required.
+	 *
+	 * @return List
+	 * @throws BlueprintTemplateException
+	 */
+	public List<ModelField> getBoundModelFields() throws BlueprintTemplateException {
+		if ( boundModelFields == null ) {
+			bind();
+		}
+		return boundModelFields;
+	}
+
+	/**
+	 * {@link PropertyAccessor} for the {@link #getBoundModelFields()}, binding if required.
+	 *
+	 * @return PropertyAccessor
+	 * @throws BlueprintTemplateException
+	 */
+	public PropertyAccessor getPropertyAccessor() throws BlueprintTemplateException {
+		if ( propertyAccessor == null ) {
+			bind();
+		}
+		return propertyAccessor;
+	}
+
+	/**
+	 * {@link PropertyAccessor} for the properties of the {@link #getTarget()} that are not
+	 * fields of the Blueprint, as reported by {@link BulkBlueprintTemplate#getProperties(Class)},
+	 * binding if required. A template that does not implement {@link BulkBlueprintTemplate} has
+	 * no unmapped properties.
+	 *
+	 * @return PropertyAccessor
+	 * @throws BlueprintTemplateException
+	 */
+	public PropertyAccessor getUnmappedPropertyAccessor() throws BlueprintTemplateException {
+		if ( unmappedPropertyAccessor == null ) {
+			bind();
+		}
+		return unmappedPropertyAccessor;
+	}
+
 	public void clearCommands() {
-		modelFieldCommands = new HashMap<ModelField,Set<Command>>();
+		modelFieldCommands.remove();
+	}
+
+	/**
+	 * Remove the commands and reference of the current thread
+	 */
+	public void clear() {
+		modelFieldCommands.remove();
+		reference.remove();
 	}
 	
 	public Object getBlueprint() {
@@ -102,6 +204,19 @@ public class Erector {
 		this.blueprint = blueprint;
 	}
 	
+	/**
+	 * Alias the Blueprint is registered with
+	 *
+	 * @return String
+	 */
+	public String getBlueprintName() {
+		return blueprintName;
+	}
+
+	public void setBlueprintName(String blueprintName) {
+		this.blueprintName = blueprintName;
+	}
+
 	public Collection<ModelField> getModelFields() {
 		return modelFields.values();
 	}
@@ -118,6 +233,7 @@ public class Erector {
 
     public void addModelField(ModelField modelField) {
 		this.modelFields.put(modelField.getName(), modelField);
+		unbind();
 	}
 	
 	public BlueprintTemplate getTemplate() {
@@ -126,6 +242,7 @@ public class Erector {
 
 	public void setTemplate(BlueprintTemplate blueprintTemplate) {
 		this.blueprintTemplate = blueprintTemplate;
+		unbind();
 	}
 
 	public Class getTarget() {
@@ -134,14 +251,21 @@ public class Erector {
 	
 	public void setTarget(Class target) {
 		this.target = target;
+		unbind();
+	}
+
+	private void unbind() {
+		this.boundModelFields = null;
+		this.propertyAccessor = null;
+		this.unmappedPropertyAccessor = null;
 	}
 
 	public Object getReference() {
-		return reference;
+		return reference.get();
 	}
 
 	public void setReference(Object reference) {
-		this.reference = reference;
+		this.reference.set(reference);
 	}
 
 	public Constructable getNewInstance() {
@@ -165,7 +289,7 @@ public class Erector {
         return new ToStringBuilder(this).
                 append("blueprint", blueprint).
                 append("target", target).
-                append("reference", reference).
+                append("reference", reference.get()).
                 toString();
     }
 }
@@ -0,0 +1,82 @@
+package com.tobedevoured.modelcitizen;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table of interned Models, keyed by their class and property values. A Model is looked up
+ * after it has been created, so only leaf Models are interned.
+ */
+class InternTable {
+
+    private final Map<Key, Object> models = new HashMap<Key, Object>();
+
+    /**
+     * The Model already interned with the same class and property values, otherwise the Model
+     * is interned and returned.
+     */
+    synchronized Object intern(Object model, Object[] values) {
+        Key key = new Key(model.getClass(), values);
+        Object interned = models.get(key);
+        if (interned == null) {
+            models.put(key, model);
+            return model;
+        }
+
+        return interned;
+    }
+
+    synchronized int size() {
+        return models.size();
+    }
+
+    synchronized void clear() {
+        models.clear();
+    }
+
+    private static class Key {
+        private final Class clazz;
+        private final Object[] values;
+        private final int hashCode;
+
+        Key(Class clazz, Object[] values) {
+            this.clazz = clazz;
+            this.values = values;
+            this.hashCode = 31 * clazz.hashCode() + Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return hashCode == key.hashCode && clazz.equals(key.clazz) && Arrays.deepEquals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -23,26 +23,53 @@ import com.tobedevoured.modelcitizen.annotation.*;
 import com.tobedevoured.modelcitizen.callback.AfterCreateCallback;
 import com.tobedevoured.modelcitizen.callback.Callback;
 import com.tobedevoured.modelcitizen.callback.ConstructorCallback;
+import com.tobedevoured.modelcitizen.callback.PrimitiveFieldCallback;
 import com.tobedevoured.modelcitizen.callback.internal.Constructable;
 import com.tobedevoured.modelcitizen.callback.internal.Getable;
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+import com.tobedevoured.modelcitizen.collection.JdkCollectionFactory;
+import com.tobedevoured.modelcitizen.dictionary.Dictionary;
+import com.tobedevoured.modelcitizen.dictionary.DictionaryCallback;
 import com.tobedevoured.modelcitizen.erector.Command;
+import com.tobedevoured.modelcitizen.erector.CreationPlan;
+import com.tobedevoured.modelcitizen.erector.ResolvedPolicies;
 import com.tobedevoured.modelcitizen.field.*;
+import com.tobedevoured.modelcitizen.lazy.LazyModelList;
+import com.tobedevoured.modelcitizen.lazy.VirtualModelList;
+import com.tobedevoured.modelcitizen.lazy.LazyModelProxy;
 import com.tobedevoured.modelcitizen.policy.BlueprintPolicy;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
 import com.tobedevoured.modelcitizen.policy.FieldPolicy;
 import com.tobedevoured.modelcitizen.policy.Policy;
 import com.tobedevoured.modelcitizen.policy.PolicyException;
+import com.tobedevoured.modelcitizen.policy.StaticBlueprintPolicy;
+import com.tobedevoured.modelcitizen.policy.StaticFieldPolicy;
 import com.tobedevoured.modelcitizen.template.BlueprintTemplate;
 import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
 import com.tobedevoured.modelcitizen.util.Pair;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+import com.tobedevoured.modelcitizen.util.UniqueValues;
 import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.reflect.ConstructorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ModelFactory for generating Models. A Model's {@link Blueprint} is registered
@@ -52,12 +79,31 @@ import java.util.*;
 public class ModelFactory {
 
     public static final String DEFAULT_BLUEPRINT_NAME = "default";
+    public static final int DEFAULT_MAX_DEPTH = 100;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private List<Object> blueprints = new ArrayList<Object>();
     private Map<Pair<String, Class>, Erector> erectors = new HashMap<Pair<String, Class>, Erector>();
-    private Map<Class, List<FieldPolicy>> fieldPolicies = new HashMap<Class, List<FieldPolicy>>();
-    private Map<Class, List<BlueprintPolicy>> blueprintPolicies = new HashMap<Class, List<BlueprintPolicy>>();
+    private final Map<Pair<String, Class>, List<FieldPolicy>> aliasFieldPolicies = new LinkedHashMap<Pair<String, Class>, List<FieldPolicy>>();
+    private final Map<Pair<String, Class>, List<BlueprintPolicy>> aliasBlueprintPolicies = new LinkedHashMap<Pair<String, Class>, List<BlueprintPolicy>>();
+    private final Map<Erector, ResolvedPolicies> resolvedPolicies = new ConcurrentHashMap<Erector, ResolvedPolicies>();
+    private boolean copyReferenceProperties = false;
+    private boolean reuseReferenceModels = false;
+    private boolean createFromPlans = false;
+    private final Map<Erector, CreationPlan> plans = new ConcurrentHashMap<Erector, CreationPlan>();
+    private final ThreadLocal<CreateContext> contexts = new ThreadLocal<CreateContext>();
+    private final InternTable factoryInterned = new InternTable();
+    private final ThreadLocal<InternTable> threadInterned = new ThreadLocal<InternTable>();
+    private final Map<Pair<Class, String>, Integer> collectionSizes = new ConcurrentHashMap<Pair<Class, String>, Integer>();
+    private int bulkCreateThreshold = 1000;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxNodes = -1;
+    private boolean rejectBlueprintCycles = true;
+    private ExecutorService executorService;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private CollectionFactory collectionFactory = new JdkCollectionFactory();
+    private volatile long seed = 0;
+    private final AtomicLong streams = new AtomicLong();
 
 
     /**
@@ -69,7 +115,9 @@ public class ModelFactory {
     }
 
     /**
-     * Add Policy to ModelFactory
+     * Add Policy to ModelFactory. A {@link BlueprintPolicy} applies to the Models created by the
+     * Blueprint registered with the alias, a {@link FieldPolicy} applies to the fields that create
+     * Models with the alias.
      *
      * @param blueprintName name for identify template for class
      * @param policy {@link FieldPolicy} or {@link BlueprintPolicy}
@@ -84,16 +132,9 @@ public class ModelFactory {
                         + " with alias " + blueprintName);
             }
 
-            List<BlueprintPolicy> policies = blueprintPolicies.get(policy.getTarget());
-            if (policies == null) {
-                policies = new ArrayList<BlueprintPolicy>();
-            }
-
-            policies.add((BlueprintPolicy) policy);
+            logger.debug("Setting BlueprintPolicy {} for key ({}, {})", policy, blueprintName, policy.getTarget());
 
-            logger.info("Setting BlueprintPolicy {} for key ({}, {})", policy, blueprintName, policy.getTarget());
-
-            blueprintPolicies.put(policy.getTarget(), policies);
+            addPolicy(aliasBlueprintPolicies, Pair.of(blueprintName, policy.getTarget()), (BlueprintPolicy) policy);
 
             // Add FieldPolicy
         } else if (policy instanceof FieldPolicy) {
@@ -104,17 +145,159 @@ public class ModelFactory {
                         + " with alias " + blueprintName);
             }
 
-            List<FieldPolicy> policies = fieldPolicies.get(policy.getTarget());
-            if (policies == null) {
-                policies = new ArrayList<FieldPolicy>();
+            logger.debug("Setting FieldPolicy {} for key ({}, {})", policy, blueprintName, policy.getTarget());
+
+            addPolicy(aliasFieldPolicies, Pair.of(blueprintName, policy.getTarget()), (FieldPolicy) policy);
+        }
+
+        // Resolve the Policies again only for the registered Blueprints the Policy applies to,
+        // evaluating the static Policies once
+        for (Erector erector : erectors.values()) {
+            try {
+                if (isPolicyTarget(erector, blueprintName, policy)) {
+                    resolvedPolicies.put(erector, resolvePolicies(erector));
+                }
+            } catch (BlueprintTemplateException e) {
+                throw new PolicyException(e);
+            }
+        }
+    }
+
+    /**
+     * True if the Policy added with the alias applies to the Models created by the {@link Erector}:
+     * a {@link BlueprintPolicy} to the Erector of its alias and target, a {@link FieldPolicy} to
+     * an Erector with a field that creates Models of its target with the alias.
+     */
+    private boolean isPolicyTarget(Erector erector, String blueprintName, Policy policy) throws BlueprintTemplateException {
+        if (policy instanceof BlueprintPolicy) {
+            return erector == erectors.get(Pair.of(blueprintName, policy.getTarget()));
+        }
+
+        for (ModelField modelField : erector.getBoundModelFields()) {
+            if (policy.getTarget().equals(modelField.getTarget())
+                    && Arrays.asList(getCreatedAliases(modelField)).contains(blueprintName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <P extends Policy> void addPolicy(Map<Pair<String, Class>, List<P>> index, Pair<String, Class> key, P policy) {
+        List<P> policies = index.get(key);
+        if (policies == null) {
+            policies = new ArrayList<P>();
+            index.put(key, policies);
+        }
+        policies.add(policy);
+    }
+
+    /**
+     * The Policies that apply to the Models created by the {@link Erector}, resolved when first used
+     */
+    private ResolvedPolicies getPolicies(Erector erector) throws CreateModelException {
+        if (aliasBlueprintPolicies.isEmpty() && aliasFieldPolicies.isEmpty()) {
+            return ResolvedPolicies.NONE;
+        }
+
+        ResolvedPolicies policies = resolvedPolicies.get(erector);
+        if (policies == null) {
+            try {
+                policies = resolvePolicies(erector);
+            } catch (BlueprintTemplateException e) {
+                throw new CreateModelException(e);
+            } catch (PolicyException e) {
+                throw new CreateModelException(e);
+            }
+            resolvedPolicies.put(erector, policies);
+        }
+
+        return policies;
+    }
+
+    private ResolvedPolicies resolvePolicies(Erector erector) throws BlueprintTemplateException, PolicyException {
+        String blueprintName = erector.getBlueprintName() == null ? DEFAULT_BLUEPRINT_NAME : erector.getBlueprintName();
+        Map<ModelField, Set<Command>> staticByField = new HashMap<ModelField, Set<Command>>();
+
+        List<BlueprintPolicy> forBlueprint = new ArrayList<BlueprintPolicy>();
+        List<BlueprintPolicy> blueprintPolicies = aliasBlueprintPolicies.get(Pair.of(blueprintName, erector.getTarget()));
+        if (blueprintPolicies != null) {
+            for (BlueprintPolicy policy : blueprintPolicies) {
+                if (policy instanceof StaticBlueprintPolicy) {
+                    Map<ModelField, Set<Command>> commands = ((StaticBlueprintPolicy) policy).getStaticCommands(this, erector);
+                    for (Map.Entry<ModelField, Set<Command>> entry : commands.entrySet()) {
+                        addStaticCommands(staticByField, entry.getKey(), entry.getValue());
+                    }
+                } else {
+                    forBlueprint.add(policy);
+                }
+            }
+        }
+
+        List<ModelField> modelFields = erector.getBoundModelFields();
+        FieldPolicy[][] forFields = new FieldPolicy[modelFields.size()][];
+        for (int idx = 0; idx < forFields.length; idx++) {
+            ModelField modelField = modelFields.get(idx);
+
+            Set<FieldPolicy> policies = new LinkedHashSet<FieldPolicy>();
+            for (String alias : getCreatedAliases(modelField)) {
+                List<FieldPolicy> forAlias = aliasFieldPolicies.get(Pair.of(alias, modelField.getTarget()));
+                if (forAlias != null) {
+                    policies.addAll(forAlias);
+                }
+            }
+
+            for (Iterator<FieldPolicy> iterator = policies.iterator(); iterator.hasNext(); ) {
+                FieldPolicy policy = iterator.next();
+                if (policy instanceof StaticFieldPolicy) {
+                    Command command = ((StaticFieldPolicy) policy).getStaticCommand(this, erector, modelField);
+                    if (command != null) {
+                        addStaticCommands(staticByField, modelField, Collections.singleton(command));
+                    }
+                    iterator.remove();
+                }
+            }
+
+            if (!policies.isEmpty()) {
+                forFields[idx] = policies.toArray(new FieldPolicy[policies.size()]);
             }
+        }
+
+        List<Set<Command>> staticCommands = new ArrayList<Set<Command>>(modelFields.size());
+        for (ModelField modelField : modelFields) {
+            Set<Command> commands = staticByField.get(modelField);
+            staticCommands.add(commands == null ? null : Collections.unmodifiableSet(commands));
+        }
+
+        return new ResolvedPolicies(forBlueprint, forFields, staticCommands);
+    }
 
-            policies.add((FieldPolicy) policy);
+    private void addStaticCommands(Map<ModelField, Set<Command>> staticByField, ModelField modelField, Set<Command> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return;
+        }
 
-            logger.info("Setting FieldPolicy {} for key ({}, {})", policy, blueprintName, policy.getTarget());
+        Set<Command> fieldCommands = staticByField.get(modelField);
+        if (fieldCommands == null) {
+            fieldCommands = new HashSet<Command>();
+            staticByField.put(modelField, fieldCommands);
+        }
+        fieldCommands.addAll(commands);
+    }
 
-            fieldPolicies.put(policy.getTarget(), policies);
+    /**
+     * Aliases of the Blueprints a field creates Models from
+     */
+    private String[] getCreatedAliases(ModelField modelField) {
+        if (modelField instanceof MappedListField) {
+            String[] aliases = ((MappedListField) modelField).getAliases();
+            if (aliases.length > 0) {
+                return aliases;
+            }
+        } else if (modelField instanceof MappedArrayField) {
+            return new String[]{((MappedArrayField) modelField).getAlias()};
         }
+
+        return new String[]{DEFAULT_BLUEPRINT_NAME};
     }
 
     /**
@@ -304,6 +487,8 @@ public class ModelFactory {
                 continue;
             }
 
+            int firstModelField = modelFields.size();
+
             // Process @Default
             Default defaultAnnotation = field.getAnnotation(Default.class);
             if (defaultAnnotation != null) {
@@ -313,7 +498,12 @@ public class ModelFactory {
                 defaultField.setForce(defaultAnnotation.force());
 
                 try {
-                    defaultField.setValue(field.get(blueprint));
+                    // Primitive defaults are kept unboxed for injection
+                    if (field.getType().isPrimitive()) {
+                        defaultField.setPrimitiveValue(field.getType(), field.get(blueprint));
+                    } else {
+                        defaultField.setValue(field.get(blueprint));
+                    }
                 } catch (IllegalArgumentException e) {
                     throw new RegisterBlueprintException(e);
                 } catch (IllegalAccessException e) {
@@ -328,6 +518,34 @@ public class ModelFactory {
 
             }
 
+            // Process @FromDictionary
+            FromDictionary fromDictionary = field.getAnnotation(FromDictionary.class);
+            if (fromDictionary != null) {
+                if (defaultAnnotation != null) {
+                    throw new RegisterBlueprintException("@FromDictionary can not be used with @Default for field " + field.getName());
+                }
+                if (!field.getType().isAssignableFrom(String.class)) {
+                    throw new RegisterBlueprintException("@FromDictionary field " + field.getName() + " must be a String");
+                }
+
+                Dictionary dictionary;
+                try {
+                    dictionary = Dictionary.open(fromDictionary.value());
+                } catch (IOException e) {
+                    throw new RegisterBlueprintException("Unable to open dictionary " + fromDictionary.value() + " for field " + field.getName(), e);
+                }
+
+                DefaultField defaultField = new DefaultField();
+                defaultField.setName(field.getName());
+                defaultField.setForce(fromDictionary.force());
+                defaultField.setValue(new DictionaryCallback(this, dictionary, fromDictionary.weighted()));
+                defaultField.setTarget(field.getType());
+                defaultField.setFieldClass(field.getType());
+                modelFields.add(defaultField);
+
+                logger.trace("  Setting dictionary for {} to {}", defaultField.getName(), dictionary.getFile());
+            }
+
             // Process @Mapped
             Mapped mapped = field.getAnnotation(Mapped.class);
             if (mapped != null) {
@@ -348,6 +566,14 @@ public class ModelFactory {
                 }
 
                 mappedField.setFieldClass(field.getType());
+
+                if (mapped.lazy()) {
+                    if (!field.getType().isInterface()) {
+                        throw new RegisterBlueprintException("Lazy @Mapped field " + field.getName() + " must be an interface");
+                    }
+                    mappedField.setLazy(true);
+                }
+
                 modelFields.add(mappedField);
 
                 logger.trace("  Setting mapped for {} to {}", mappedField.getName(), mappedField.getTarget());
@@ -363,11 +589,8 @@ public class ModelFactory {
                 listField.setIgnoreEmpty(mappedCollection.ignoreEmpty());
                 listField.setForce(mappedCollection.force());
 
-                String[] aliases = new String[mappedCollection.size()];
-                for (int i = 0; i < mappedCollection.size(); i++) {
-                    aliases[i] = mappedCollection.alias();
-                }
-                listField.setAliases(aliases);
+                // Every Model has the same alias, whatever size the List is created with
+                listField.setAliases(new String[]{mappedCollection.alias()});
 
                 // If @MappedList(target) not set, use Field's class
                 if (NotSet.class.equals(mappedCollection.target())) {
@@ -399,6 +622,32 @@ public class ModelFactory {
                     listField.setTargetList(mappedCollection.targetList());
                 }
 
+                if (mappedCollection.lazy()) {
+                    if (!field.getType().isAssignableFrom(LazyModelList.class)) {
+                        throw new RegisterBlueprintException("Lazy @MappedList field " + field.getName() + " must be a List");
+                    }
+                    listField.setLazy(true);
+                }
+
+                if (mappedCollection.virtual()) {
+                    if (mappedCollection.lazy()) {
+                        throw new RegisterBlueprintException("@MappedList field " + field.getName() + " can not be both lazy and virtual");
+                    }
+                    if (!field.getType().isAssignableFrom(VirtualModelList.class)) {
+                        throw new RegisterBlueprintException("Virtual @MappedList field " + field.getName() + " must be a List");
+                    }
+                    if (mappedCollection.window() < 1) {
+                        throw new RegisterBlueprintException("Virtual @MappedList field " + field.getName() + " must have a window of at least 1");
+                    }
+
+                    // Models of a virtual List are created when read, like a lazy List
+                    listField.setLazy(true);
+                    listField.setWindow(mappedCollection.window());
+                }
+
+                listField.setCollectionFactory(newCollectionFactory(mappedCollection.collectionFactory(), field));
+                listField.setParallel(mappedCollection.parallel());
+
                 modelFields.add(listField);
 
                 logger.trace("  Setting mapped list for {} to {} as <{}> and forced {}", listField.getName(), listField.getFieldClass(), listField.getTarget(), listField.isForce());
@@ -448,6 +697,9 @@ public class ModelFactory {
                     setField.setTargetSet(mappedSet.targetSet());
                 }
 
+                setField.setCollectionFactory(newCollectionFactory(mappedSet.collectionFactory(), field));
+                setField.setParallel(mappedSet.parallel());
+
                 modelFields.add(setField);
 
                 logger.trace("  Setting mapped set for {} to {} as <{}> and is forced {}", setField.getName(), setField.getFieldClass(), setField.getTarget(), setField.isForce());
@@ -493,10 +745,130 @@ public class ModelFactory {
                     listField.setTargetList(listByAliases.targetList());
                 }
 
+                listField.setCollectionFactory(newCollectionFactory(listByAliases.collectionFactory(), field));
+                listField.setParallel(listByAliases.parallel());
+
                 modelFields.add(listField);
 
                 logger.trace("  Setting mapped list for {} to {} as <{}> and forced {}", listField.getName(), listField.getFieldClass(), listField.getTarget(), listField.isForce());
             }
+
+            // Process @MappedArray
+            MappedArray mappedArray = field.getAnnotation(MappedArray.class);
+            if (mappedArray != null) {
+                if (!field.getType().isArray()) {
+                    throw new RegisterBlueprintException("@MappedArray field " + field.getName() + " must be an array");
+                }
+
+                MappedArrayField arrayField = new MappedArrayField();
+                arrayField.setName(field.getName());
+                arrayField.setFieldClass(field.getType());
+                arrayField.setSize(mappedArray.size());
+                arrayField.setAlias(mappedArray.alias());
+                arrayField.setForce(mappedArray.force());
+                arrayField.setParallel(mappedArray.parallel());
+
+                Class componentType = field.getType().getComponentType();
+                if (componentType.isPrimitive()) {
+                    if (!MappedArrayField.isFillable(componentType)) {
+                        throw new RegisterBlueprintException("@MappedArray can not fill " + componentType + " for field " + field.getName());
+                    }
+
+                    if (mappedArray.fill() == ArrayFill.RANDOM && mappedArray.max() <= mappedArray.min()) {
+                        throw new RegisterBlueprintException("@MappedArray max must be greater than min for field " + field.getName());
+                    }
+
+                    arrayField.setTarget(componentType);
+                    arrayField.setFill(mappedArray.fill());
+                    arrayField.setFillValue(mappedArray.value());
+                    arrayField.setStep(mappedArray.step());
+                    arrayField.setMin(mappedArray.min());
+                    arrayField.setMax(mappedArray.max());
+                    arrayField.setSeed(mappedArray.seed());
+
+                    // If @MappedArray(target) not set, use the array component type
+                } else if (NotSet.class.equals(mappedArray.target())) {
+                    arrayField.setTarget(componentType);
+
+                } else {
+                    if (!componentType.isAssignableFrom(mappedArray.target())) {
+                        throw new RegisterBlueprintException("@MappedArray target must be assignable to " + componentType + " for field " + field.getName());
+                    }
+                    arrayField.setTarget(mappedArray.target());
+                }
+
+                modelFields.add(arrayField);
+
+                logger.trace("  Setting mapped array for {} to {} of size {}", arrayField.getName(), arrayField.getTarget(), arrayField.getSize());
+            }
+
+            // Process @Interned
+            Interned interned = field.getAnnotation(Interned.class);
+            if (interned != null) {
+                List<ModelField> internedFields = modelFields.subList(firstModelField, modelFields.size());
+                if (internedFields.isEmpty()) {
+                    throw new RegisterBlueprintException("@Interned requires @Mapped, @MappedList or @MappedSet for field " + field.getName());
+                }
+
+                for (ModelField modelField : internedFields) {
+                    if (modelField instanceof DefaultField) {
+                        throw new RegisterBlueprintException("@Interned can not be used with @Default for field " + field.getName());
+                    }
+
+                    modelField.setInternScope(interned.value());
+                }
+
+                logger.trace("  Interning {} in scope {}", field.getName(), interned.value());
+            }
+
+            // Process @BackReference
+            BackReference backReference = field.getAnnotation(BackReference.class);
+            if (backReference != null) {
+                List<ModelField> referencingFields = modelFields.subList(firstModelField, modelFields.size());
+                if (referencingFields.isEmpty()) {
+                    throw new RegisterBlueprintException("@BackReference requires @Mapped, @MappedList, @MappedSet or @MappedArray for field " + field.getName());
+                }
+
+                for (ModelField modelField : referencingFields) {
+                    if (modelField instanceof DefaultField || (modelField instanceof MappedArrayField && ((MappedArrayField) modelField).isPrimitive())) {
+                        throw new RegisterBlueprintException("@BackReference requires Models to be created for field " + field.getName());
+                    }
+
+                    // Shared and lazily created Models can not reference the Model being created
+                    if (modelField.getInternScope() != null) {
+                        throw new RegisterBlueprintException("@BackReference can not be used with @Interned for field " + field.getName());
+                    }
+                    if (modelField.isLazy()) {
+                        throw new RegisterBlueprintException("@BackReference can not be used with lazy for field " + field.getName());
+                    }
+
+                    modelField.setBackReference(backReference.value());
+                }
+
+                logger.trace("  Setting back reference {} for {}", backReference.value(), field.getName());
+            }
+
+            // Process @Unique
+            Unique unique = field.getAnnotation(Unique.class);
+            if (unique != null) {
+                List<ModelField> uniqueFields = modelFields.subList(firstModelField, modelFields.size());
+                if (uniqueFields.isEmpty() || !(uniqueFields.get(0) instanceof DefaultField)) {
+                    throw new RegisterBlueprintException("@Unique requires @Default for field " + field.getName());
+                }
+
+                // Primitive values are injected without being read
+                DefaultField defaultField = (DefaultField) uniqueFields.get(0);
+                if (field.getType().isPrimitive() || defaultField.getValue() instanceof PrimitiveFieldCallback) {
+                    throw new RegisterBlueprintException("@Unique can not be used with a primitive value for field " + field.getName());
+                }
+                if (unique.attempts() < 1) {
+                    throw new RegisterBlueprintException("@Unique requires at least 1 attempt for field " + field.getName());
+                }
+
+                defaultField.setUniqueValues(new UniqueValues(unique.expected(), unique.attempts()));
+
+                logger.trace("  Setting unique values for {}", field.getName());
+            }
         }
 
         blueprints.add(blueprint);
@@ -517,6 +889,7 @@ public class ModelFactory {
 
         // Create Erector for this Blueprint
         Erector erector = new Erector();
+        erector.setBlueprintName(blueprintName);
         erector.setTemplate(template);
         erector.setBlueprint(blueprint);
         erector.setModelFields(modelFields);
@@ -524,7 +897,132 @@ public class ModelFactory {
         erector.setNewInstance(newInstance);
         erector.setCallbacks("afterCreate", afterCreateCallbacks);
 
-        erectors.put(Pair.of(blueprintName, target), erector);
+        checkInterned(erector);
+
+        // Bind the fields to the template once, creating Models accesses them by index
+        try {
+            erector.bind();
+        } catch (BlueprintTemplateException e) {
+            throw new RegisterBlueprintException(e);
+        }
+
+        Pair<String, Class> key = Pair.of(blueprintName, target);
+        Erector previous = erectors.put(key, erector);
+        if (previous != null) {
+            plans.remove(previous);
+        }
+        resolvedPolicies.clear();
+
+        List<Pair<String, Class>> cycle = findCycle(key);
+        if (cycle != null) {
+            StringBuilder path = new StringBuilder();
+            for (Pair<String, Class> node : cycle) {
+                path.append(path.length() == 0 ? "" : " > ").append(node.getSecond().getSimpleName()).append('(').append(node.getFirst()).append(')');
+            }
+
+            if (rejectBlueprintCycles) {
+                if (previous == null) {
+                    erectors.remove(key);
+                } else {
+                    erectors.put(key, previous);
+                }
+                blueprints.remove(blueprint);
+                throw new RegisterBlueprintException("Blueprint cycle: " + path);
+            }
+
+            logger.warn("Blueprint cycle, creating Models will fail at the maximum depth: {}", path);
+        }
+    }
+
+    /**
+     * Path of registered Blueprints from the Blueprint back to itself through fields
+     * that are always created, or null if there is no cycle
+     */
+    private List<Pair<String, Class>> findCycle(Pair<String, Class> start) {
+        List<Pair<String, Class>> path = new ArrayList<Pair<String, Class>>();
+        path.add(start);
+        return findCycle(start, path, new HashSet<Pair<String, Class>>()) ? path : null;
+    }
+
+    private boolean findCycle(Pair<String, Class> start, List<Pair<String, Class>> path, Set<Pair<String, Class>> visited) {
+        Erector erector = erectors.get(path.get(path.size() - 1));
+        if (erector == null) {
+            return false;
+        }
+
+        for (ModelField modelField : erector.getModelFields()) {
+            for (Pair<String, Class> next : getCreatedBlueprints(modelField)) {
+                path.add(next);
+                if (next.equals(start)) {
+                    return true;
+                }
+                if (visited.add(next) && findCycle(start, path, visited)) {
+                    return true;
+                }
+                path.remove(path.size() - 1);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Blueprints of the Models a field always creates
+     */
+    private List<Pair<String, Class>> getCreatedBlueprints(ModelField modelField) {
+        List<Pair<String, Class>> created = new ArrayList<Pair<String, Class>>();
+        if (modelField.isLazy()) {
+            return created;
+        }
+
+        if (modelField instanceof MappedField) {
+            if (!((MappedField) modelField).isNullable()) {
+                created.add(Pair.of(DEFAULT_BLUEPRINT_NAME, modelField.getTarget()));
+            }
+        } else if (modelField instanceof MappedListField) {
+            MappedListField listField = (MappedListField) modelField;
+            if (listField.getSize() > 0) {
+                for (String alias : new LinkedHashSet<String>(Arrays.asList(listField.getAliases()))) {
+                    created.add(Pair.of(alias, listField.getTarget()));
+                }
+            }
+        } else if (modelField instanceof MappedSetField) {
+            if (((MappedSetField) modelField).getSize() > 0) {
+                created.add(Pair.of(DEFAULT_BLUEPRINT_NAME, modelField.getTarget()));
+            }
+        } else if (modelField instanceof MappedArrayField) {
+            MappedArrayField arrayField = (MappedArrayField) modelField;
+            if (!arrayField.isPrimitive() && arrayField.getSize() > 0) {
+                created.add(Pair.of(arrayField.getAlias(), arrayField.getTarget()));
+            }
+        }
+
+        return created;
+    }
+
+    /**
+     * New instance of the {@link CollectionFactory} class of a field annotation, or null if not set
+     */
+    private CollectionFactory newCollectionFactory(Class collectionFactoryClass, Field field) throws RegisterBlueprintException {
+        if (NotSet.class.equals(collectionFactoryClass)) {
+            return null;
+        }
+
+        if (!CollectionFactory.class.isAssignableFrom(collectionFactoryClass)) {
+            throw new RegisterBlueprintException("collectionFactory must implement CollectionFactory for field " + field.getName());
+        }
+
+        try {
+            return (CollectionFactory) ConstructorUtils.invokeConstructor(collectionFactoryClass, null);
+        } catch (NoSuchMethodException e) {
+            throw new RegisterBlueprintException(e);
+        } catch (IllegalAccessException e) {
+            throw new RegisterBlueprintException(e);
+        } catch (InvocationTargetException e) {
+            throw new RegisterBlueprintException(e);
+        } catch (InstantiationException e) {
+            throw new RegisterBlueprintException(e);
+        }
     }
 
     /**
@@ -574,90 +1072,867 @@ public class ModelFactory {
     }
 
     /**
-     * Create a Model for a registered {@link Blueprint}. Values set in the
-     * model will not be overridden by defaults in the {@link Blueprint}.
+     * See {@link ModelFactory#createModel(String, Class, Projection)} for details.
+     * Default value for templateName is "{@value ModelFactory#DEFAULT_BLUEPRINT_NAME}"
+     */
+    public <T> T createModel(Class<T> clazz, Projection projection) throws CreateModelException {
+        return createModel(DEFAULT_BLUEPRINT_NAME, clazz, projection);
+    }
+
+    /**
+     * Create a Model for a registered {@link Blueprint}, populating only the fields of
+     * the {@link Projection}. The Models of a lazy List are created with the Projection
+     * when they are read, other lazy fields are populated in full.
      *
-     * @param referenceModel Object
+     * @param blueprintName name for identified template for class
+     * @param clazz         Model class
+     * @param projection    {@link Projection} of the fields to populate
      * @return Model
      * @throws CreateModelException
      */
-    public <T> T createModel(T referenceModel) throws CreateModelException {
-        return createModel(DEFAULT_BLUEPRINT_NAME, referenceModel, true);
+    public <T> T createModel(String blueprintName, Class<T> clazz, Projection projection) throws CreateModelException {
+        return createModel(blueprintName, clazz, projection, null);
     }
 
     /**
-     * See {@link ModelFactory#createModel(String, T, boolean)} for details.
-     * Default value for templateName is {@value ModelFactory#DEFAULT_BLUEPRINT_NAME}
+     * See {@link ModelFactory#createModel(String, Class, SizeOverrides)} for details.
+     * Default value for templateName is "{@value ModelFactory#DEFAULT_BLUEPRINT_NAME}"
      */
-    public <T> T createModel(String blueprintName, T referenceModel) throws CreateModelException {
-        return createModel(blueprintName, referenceModel, true);
+    public <T> T createModel(Class<T> clazz, SizeOverrides sizeOverrides) throws CreateModelException {
+        return createModel(DEFAULT_BLUEPRINT_NAME, clazz, sizeOverrides);
     }
 
     /**
-     * See {@link ModelFactory#createModel(String, T, boolean)} for details.
-     * Default value for templateName is {@value ModelFactory#DEFAULT_BLUEPRINT_NAME}
+     * Create a Model for a registered {@link Blueprint}, using the {@link SizeOverrides}
+     * for the size of its Lists and Sets
+     *
+     * @param blueprintName name for identified template for class
+     * @param clazz         Model class
+     * @param sizeOverrides {@link SizeOverrides} of the field paths
+     * @return Model
+     * @throws CreateModelException
      */
-    public <T> T createModel(T referenceModel, boolean withPolicies) throws CreateModelException {
-        return createModel(DEFAULT_BLUEPRINT_NAME, referenceModel, withPolicies);
+    public <T> T createModel(String blueprintName, Class<T> clazz, SizeOverrides sizeOverrides) throws CreateModelException {
+        return createModel(blueprintName, clazz, null, sizeOverrides);
     }
 
     /**
-     * Create a Model for a registered {@link Blueprint}. Values set in the
-     * model will not be overridden by defaults in the {@link Blueprint}.
+     * See {@link ModelFactory#createSeededModel(String, Class, Projection, long)} for details.
+     */
+    public <T> T createSeededModel(String blueprintName, Class<T> clazz, long stream) throws CreateModelException {
+        return createSeededModel(blueprintName, clazz, null, stream);
+    }
+
+    /**
+     * Create a Model for a registered {@link Blueprint} in a new {@link CreateContext}, whose random
+     * bits only depend on the seed of the ModelFactory and the stream. Creating the Model of the same
+     * stream again draws the same bits, so it can be rebuilt instead of kept. A Model being created on
+     * the current thread is resumed afterwards, and shares no {@link Scope#BATCH} state with it.
      *
-     * @param referenceModel Object
-     * @param withPolicies   boolean if Policies should be applied to the create
+     * @param blueprintName name for identified template for class
+     * @param clazz         Model class
+     * @param projection    {@link Projection} of the fields, or null for all fields
+     * @param stream        long stream of random bits
      * @return Model
      * @throws CreateModelException
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    public <T> T createModel(String blueprintName, T referenceModel, boolean withPolicies) throws CreateModelException {
-        Erector erector = erectors.get(Pair.of(blueprintName, (Class) referenceModel.getClass()));
-
-        if (erector == null) {
-            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + referenceModel.getClass());
-        }
-
-        return createModel(erector, referenceModel, withPolicies);
+    public <T> T createSeededModel(String blueprintName, Class<T> clazz, Projection projection, long stream) throws CreateModelException {
+        return createSeededModel(blueprintName, clazz, projection, null, stream);
     }
 
     /**
-     * Create a Model for a registered {@link Blueprint} using {@link Erector}.
-     * Values set in the model will not be overridden by defaults in the
-     * {@link Blueprint}.
+     * See {@link ModelFactory#createSeededModel(String, Class, Projection, long)} for details, using the
+     * {@link SizeOverrides} for the size of its Lists and Sets.
      *
-     * @param erector        {@link Erector}
-     * @param referenceModel T the reference model instance, or null
-     * @param withPolicies   boolean if Policies should be applied to the create
-     * @return T new Model
+     * @param blueprintName name for identified template for class
+     * @param clazz         Model class
+     * @param projection    {@link Projection} of the fields, or null for all fields
+     * @param sizeOverrides {@link SizeOverrides} of the field paths, or null
+     * @param stream        long stream of random bits
+     * @return Model
      * @throws CreateModelException
      */
-    public <T> T createModel(Erector erector, T referenceModel, boolean withPolicies) throws CreateModelException {
+    public <T> T createSeededModel(String blueprintName, Class<T> clazz, Projection projection, SizeOverrides sizeOverrides, long stream) throws CreateModelException {
+        Erector erector = erectors.get(Pair.of(blueprintName, (Class) clazz));
 
-        erector.clearCommands();
+        if (erector == null) {
+            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + clazz);
+        }
 
-        T createdModel;
+        CreateContext resumed = contexts.get();
+        CreateContext context = new CreateContext(SplitMix.mix(seed ^ SplitMix.mix(stream)));
+        context.own(seed ^ stream);
+        contexts.set(context);
+        try {
+            context.setNext(projection, sizeOverrides);
+            return (T) createModel(erector, null, true, context);
+        } finally {
+            if (resumed == null) {
+                contexts.remove();
+            } else {
+                contexts.set(resumed);
+            }
+        }
+    }
+
+    private <T> T createModel(String blueprintName, Class<T> clazz, Projection projection, SizeOverrides sizeOverrides) throws CreateModelException {
+        Erector erector = erectors.get(Pair.of(blueprintName, (Class) clazz));
+
+        if (erector == null) {
+            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + clazz);
+        }
+
+        CreateContext context = contexts.get();
+        boolean outermost = context == null;
+        if (outermost) {
+            context = newContext();
+            contexts.set(context);
+        }
+        try {
+            context.setNext(projection, sizeOverrides);
+            return (T) createModel(erector, null, true, context);
+        } finally {
+            if (outermost) {
+                contexts.remove();
+            }
+        }
+    }
+
+    /**
+     * See {@link ModelFactory#createModels(String, Class, int)} for details.
+     * Default value for templateName is "{@value ModelFactory#DEFAULT_BLUEPRINT_NAME}"
+     */
+    public <T> List<T> createModels(Class<T> clazz, int count) throws CreateModelException {
+        return createModels(DEFAULT_BLUEPRINT_NAME, clazz, count);
+    }
+
+    /**
+     * Create a batch of Models for a registered {@link Blueprint}. The Models are created
+     * in a single context, so state in {@link Scope#BATCH} is shared by all of them.
+     *
+     * @param blueprintName name for identified template for class
+     * @param clazz         Model class
+     * @param count         int number of Models to create
+     * @return List of Models
+     * @throws CreateModelException
+     */
+    public <T> List<T> createModels(String blueprintName, Class<T> clazz, int count) throws CreateModelException {
+        Erector erector = erectors.get(Pair.of(blueprintName, (Class) clazz));
+
+        if (erector == null) {
+            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + clazz);
+        }
+
+        List<T> models = new ArrayList<T>(count);
+        boolean outermost = contexts.get() == null;
+        if (outermost) {
+            contexts.set(newContext());
+        }
+        try {
+            for (int x = 0; x < count; x++) {
+                models.add((T) createModel(erector, null, true));
+            }
+        } finally {
+            if (outermost) {
+                contexts.remove();
+            }
+        }
+
+        return models;
+    }
+
+    /**
+     * Create a Model for a {@link MappedField}, {@link MappedListField} or {@link MappedSetField}
+     * of a Blueprint. The Model is interned when the field has an intern {@link Scope}.
+     *
+     * @param modelField    {@link ModelField} the Model is created for
+     * @param blueprintName name for identified template for the field target
+     * @return Model
+     * @throws CreateModelException
+     */
+    public Object createMappedModel(ModelField modelField, String blueprintName) throws CreateModelException {
+        return createMappedModel(modelField, blueprintName, null);
+    }
+
+    /**
+     * Create a Model for a {@link MappedField}, {@link MappedListField} or {@link MappedSetField}
+     * of a Blueprint, setting the parent to the {@link ModelField#getBackReference()} of the Model.
+     *
+     * @param modelField    {@link ModelField} the Model is created for
+     * @param blueprintName name for identified template for the field target
+     * @param parent        Object Model the field belongs to, or null
+     * @return Model
+     * @throws CreateModelException
+     */
+    public Object createMappedModel(ModelField modelField, String blueprintName, Object parent) throws CreateModelException {
+        CreateContext context = contexts.get();
+        if (context != null) {
+            context.setField(modelField.getName());
+            return createMappedModel(modelField, blueprintName, parent, context);
+        }
+
+        if (parent == null || modelField.getBackReference() == null) {
+            return createMappedModel(modelField, blueprintName, null, null);
+        }
+
+        context = newContext();
+        contexts.set(context);
+        try {
+            return createMappedModel(modelField, blueprintName, parent, context);
+        } finally {
+            contexts.remove();
+        }
+    }
+
+    /**
+     * Create a seeded Model for a {@link ModelField} of a Blueprint, see
+     * {@link #createSeededModel(String, Class, Projection, SizeOverrides, long)}. The Model is
+     * interned like the other Models of the field.
+     *
+     * @param modelField    {@link ModelField} the Model is created for
+     * @param blueprintName name for identified template for the field target
+     * @param projection    {@link Projection} of the fields, or null for all fields
+     * @param sizeOverrides {@link SizeOverrides} of the field paths, or null
+     * @param stream        long stream of random bits
+     * @return Model
+     * @throws CreateModelException
+     */
+    public Object createMappedModel(ModelField modelField, String blueprintName, Projection projection, SizeOverrides sizeOverrides, long stream) throws CreateModelException {
+        Object model = createSeededModel(blueprintName, modelField.getTarget(), projection, sizeOverrides, stream);
+
+        if (model == null || modelField.getInternScope() == null) {
+            return model;
+        }
+
+        return intern(modelField.getInternScope(), erectors.get(Pair.of(blueprintName, modelField.getTarget())), model);
+    }
+
+    private Object createMappedModel(ModelField modelField, String blueprintName, Object parent, CreateContext context) throws CreateModelException {
+        if (parent != null && modelField.getBackReference() != null) {
+            context.setNextParent(modelField.getBackReference(), parent);
+        }
+
+        Object model = createModel(blueprintName, modelField.getTarget());
+
+        if (model == null || modelField.getInternScope() == null) {
+            return model;
+        }
+
+        return intern(modelField.getInternScope(), erectors.get(Pair.of(blueprintName, modelField.getTarget())), model);
+    }
+
+    /**
+     * Create the List or Set of Models for a {@link MappedListField} or {@link MappedSetField}
+     * of the {@link Erector}, of the size set by {@link #setCollectionSize(Class, String, int)}
+     * or by the field.
+     *
+     * @param erector    {@link Erector} of the Model the collection is created for
+     * @param modelField {@link MappedListField} or {@link MappedSetField}
+     * @param parent     Object Model the collection is created for, set to the {@link ModelField#getBackReference()}
+     *                   of each Model
+     * @return Collection of Models
+     * @throws CreateModelException
+     */
+    public Collection createMappedCollection(Erector erector, ModelField modelField, Object parent) throws CreateModelException {
+        int size = getCollectionSize(erector.getTarget(), modelField);
+
+        CreateContext context = contexts.get();
+        if (context != null) {
+            context.setField(modelField.getName());
+            return createMappedCollection(erector, modelField, size, null, null, parent, context);
+        }
+
+        context = newContext();
+        contexts.set(context);
+        try {
+            return createMappedCollection(erector, modelField, size, null, null, parent, context);
+        } finally {
+            contexts.remove();
+        }
+    }
+
+    /**
+     * Create the collection of Models, see {@link MappedModels}
+     */
+    private Collection createMappedCollection(Erector erector, ModelField modelField, int size, Projection projection, SizeOverrides sizeOverrides, Object parent, CreateContext context) throws CreateModelException {
+        if (modelField.isLazy() && modelField instanceof MappedListField) {
+            MappedListField listField = (MappedListField) modelField;
+            if (listField.isVirtual()) {
+                return new VirtualModelList(this, listField, size, context.nextRandom());
+            }
+            return new LazyModelList(this, listField, size, projection, sizeOverrides, context.nextRandom());
+        }
+
+        CollectionFactory modelsFactory = getCollectionFactory(modelField);
+        Collection models = modelsFactory.newCollection(erector, modelField, size);
+
+        if (modelField.isParallel() && !context.isForked()) {
+            for (Object model : createInParallel(modelField, new Object[size], projection, sizeOverrides, parent, context)) {
+                models.add(model);
+            }
+
+        } else {
+            MappedModels mappedModels = new MappedModels(modelField, size, projection, sizeOverrides, parent, context);
+            for (int x = 0; x < size; x++) {
+                models.add(mappedModels.create(x));
+            }
+        }
+
+        return modelsFactory.complete(modelField, models);
+    }
+
+    /**
+     * Create the array for a {@link MappedArrayField} of the {@link Erector}, of the size set by
+     * {@link #setCollectionSize(Class, String, int)} or by the field. A primitive array is filled
+     * by the field, an array of Models is filled with Models created from their Blueprint.
+     *
+     * @param erector    {@link Erector} of the Model the array is created for
+     * @param arrayField {@link MappedArrayField}
+     * @param parent     Object Model the array is created for, set to the {@link ModelField#getBackReference()}
+     *                   of each Model
+     * @return Object array
+     * @throws CreateModelException
+     */
+    public Object createMappedArray(Erector erector, MappedArrayField arrayField, Object parent) throws CreateModelException {
+        int size = getCollectionSize(erector.getTarget(), arrayField);
+
+        CreateContext context = contexts.get();
+        if (context != null) {
+            context.setField(arrayField.getName());
+            return createMappedArray(arrayField, size, null, null, parent, context);
+        }
+
+        context = newContext();
+        contexts.set(context);
+        try {
+            return createMappedArray(arrayField, size, null, null, parent, context);
+        } finally {
+            contexts.remove();
+        }
+    }
+
+    private Object createMappedArray(MappedArrayField arrayField, int size, Projection projection, SizeOverrides sizeOverrides, Object parent, CreateContext context) throws CreateModelException {
+        if (arrayField.isPrimitive()) {
+            return arrayField.createPrimitiveArray(size, context.nextRandom());
+        }
+
+        Object[] models = (Object[]) Array.newInstance(arrayField.getTarget(), size);
+        if (arrayField.isParallel() && !context.isForked()) {
+            return createInParallel(arrayField, models, projection, sizeOverrides, parent, context);
+        }
+
+        MappedModels mappedModels = new MappedModels(arrayField, size, projection, sizeOverrides, parent, context);
+        for (int x = 0; x < size; x++) {
+            models[x] = mappedModels.create(x);
+        }
+
+        return models;
+    }
+
+    /**
+     * Fill the models with Models created on the {@link #getExecutorService()}, each task creating a
+     * range of indexes in a context forked from the context. Models created by a task do not
+     * create their own Models in parallel, so tasks never wait on each other.
+     */
+    private Object[] createInParallel(final ModelField modelField, final Object[] models, final Projection projection,
+                                      final SizeOverrides sizeOverrides, final Object parent, final CreateContext context) throws CreateModelException {
+
+        if (models.length == 0) {
+            return models;
+        }
+
+        int tasks = Math.max(1, Math.min(parallelism, models.length));
+        int range = (models.length + tasks - 1) / tasks;
+
+        final long stream = context.nextRandom();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks);
+        ExecutorService executor = getExecutorService();
+        for (int start = 0; start < models.length; start += range) {
+            final int from = start;
+            final int to = Math.min(start + range, models.length);
+
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws CreateModelException {
+                    CreateContext forked = context.fork();
+                    contexts.set(forked);
+                    try {
+                        MappedModels mappedModels = new MappedModels(modelField, models.length, projection, sizeOverrides, parent, forked);
+                        for (int x = from; x < to; x++) {
+                            // Random bits drawn by a Model depend on its index, not on how the indexes are split
+                            forked.reseed(SplitMix.at(stream, x));
+                            models[x] = mappedModels.create(x);
+                        }
+                    } finally {
+                        contexts.remove();
+                    }
+
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreateModelException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CreateModelException) {
+                throw (CreateModelException) e.getCause();
+            }
+            throw new CreateModelException(e.getCause());
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        return models;
+    }
+
+    /**
+     * Creates the Models of a List, Set or array, resolving the Erector once per alias. With
+     * {@link #isCreateFromPlans()}, at least {@link #getBulkCreateThreshold()} Models are
+     * created directly from {@link CreationPlan}s when no Policies apply.
+     */
+    private class MappedModels {
+        private final ModelField modelField;
+        private final MappedListField listField;
+        private final String alias;
+        private final boolean bulk;
+        private final Projection projection;
+        private final SizeOverrides sizeOverrides;
+        private final Object parent;
+        private final CreateContext context;
+
+        private Erector modelErector;
+        private String modelAlias;
+        private boolean fromPlan;
+
+        MappedModels(ModelField modelField, int size, Projection projection, SizeOverrides sizeOverrides, Object parent, CreateContext context) {
+            this.modelField = modelField;
+            this.projection = projection;
+            this.sizeOverrides = sizeOverrides;
+            this.parent = modelField.getBackReference() == null ? null : parent;
+            this.context = context;
+            this.bulk = createFromPlans && size >= bulkCreateThreshold && projection == null && sizeOverrides == null;
+
+            listField = modelField instanceof MappedListField ? (MappedListField) modelField : null;
+            if (modelField instanceof MappedArrayField) {
+                alias = ((MappedArrayField) modelField).getAlias();
+            } else {
+                alias = DEFAULT_BLUEPRINT_NAME;
+            }
+        }
+
+        /**
+         * Create the Model at index x
+         */
+        Object create(int x) throws CreateModelException {
+            String alias = listField == null ? this.alias : listField.getAlias(x);
+            if (!alias.equals(modelAlias)) {
+                modelAlias = alias;
+                modelErector = erectors.get(Pair.of(alias, modelField.getTarget()));
+                if (modelErector == null) {
+                    throw new CreateModelException("Unregistered alias '" + alias + "' for class " + modelField.getTarget());
+                }
+                fromPlan = bulk && !hasPolicies(modelErector) && isPlanSupported(modelErector);
+            }
+
+            if (parent != null) {
+                context.setNextParent(modelField.getBackReference(), parent);
+            }
+
+            Object model = null;
+            if (fromPlan) {
+                enter(modelErector, context);
+                try {
+                    model = createModelFromPlan(modelErector, createNewInstance(modelErector), context);
+                } catch (BlueprintTemplateException e) {
+                    throw new CreateModelException(e);
+                } finally {
+                    context.exit();
+                }
+                fromPlan = model != null;
+            }
+
+            if (model == null) {
+                context.setNext(projection, sizeOverrides);
+                model = createModel(modelErector, null, true, context);
+            }
+
+            if (model != null && modelField.getInternScope() != null) {
+                model = intern(modelField.getInternScope(), modelErector, model);
+            }
+
+            return model;
+        }
+    }
+
+    /**
+     * {@link CollectionFactory} of the field, or of the ModelFactory if the field does not have one
+     */
+    private CollectionFactory getCollectionFactory(ModelField modelField) {
+        CollectionFactory fieldCollectionFactory = modelField.getCollectionFactory();
+        return fieldCollectionFactory == null ? collectionFactory : fieldCollectionFactory;
+    }
+
+    private int getCollectionSize(Erector erector, ModelField modelField, SizeOverrides sizeOverrides) {
+        if (sizeOverrides != null) {
+            Integer size = sizeOverrides.getSize(modelField.getName());
+            if (size != null) {
+                return size;
+            }
+        }
+
+        return getCollectionSize(erector.getTarget(), modelField);
+    }
+
+    /**
+     * Size of the collection created for a {@link MappedListField} or {@link MappedSetField} of the
+     * Model class, set by {@link #setCollectionSize(Class, String, int)} or by the field.
+     *
+     * @param modelClass Class of the Model
+     * @param modelField {@link MappedListField} or {@link MappedSetField}
+     * @return int
+     */
+    public int getCollectionSize(Class modelClass, ModelField modelField) {
+        if (!collectionSizes.isEmpty()) {
+            Integer size = collectionSizes.get(Pair.of(modelClass, modelField.getName()));
+            if (size != null) {
+                return size;
+            }
+        }
+
+        if (modelField instanceof MappedListField) {
+            return ((MappedListField) modelField).getSize();
+        } else if (modelField instanceof MappedArrayField) {
+            return ((MappedArrayField) modelField).getSize();
+        }
+        return ((MappedSetField) modelField).getSize();
+    }
+
+    /**
+     * Override the size of a {@link MappedList}, {@link MappedSet} or {@link MappedArray} field for all Models of the class
+     *
+     * @param modelClass Class of the Model
+     * @param fieldName  String name of the field
+     * @param size       int
+     */
+    public void setCollectionSize(Class modelClass, String fieldName, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size " + size + " for " + modelClass + " " + fieldName);
+        }
+        collectionSizes.put(Pair.of(modelClass, fieldName), size);
+    }
+
+    public void clearCollectionSizes() {
+        collectionSizes.clear();
+    }
+
+    /**
+     * Interned Models are looked up by their property values once they are created, which only
+     * pays off for leaf Models. Reject an {@link Interned} field whose target has a Blueprint
+     * with mapped Models, in either order of registration.
+     */
+    private void checkInterned(Erector erector) throws RegisterBlueprintException {
+        List<Erector> targets = new ArrayList<Erector>(erectors.values());
+        targets.add(erector);
+
+        for (ModelField modelField : erector.getModelFields()) {
+            if (modelField.getInternScope() != null) {
+                for (Erector target : targets) {
+                    if (target.getTarget().equals(modelField.getTarget()) && !isLeaf(target)) {
+                        throw new RegisterBlueprintException("@Interned requires a Blueprint without mapped Models for " + target.getTarget().getSimpleName() + " of field " + modelField.getName());
+                    }
+                }
+            }
+        }
+
+        if (!isLeaf(erector)) {
+            Pair<String, Class> key = Pair.of(erector.getBlueprintName(), erector.getTarget());
+            for (Map.Entry<Pair<String, Class>, Erector> entry : erectors.entrySet()) {
+                if (entry.getKey().equals(key)) {
+                    continue;
+                }
+
+                for (ModelField modelField : entry.getValue().getModelFields()) {
+                    if (modelField.getInternScope() != null && erector.getTarget().equals(modelField.getTarget())) {
+                        throw new RegisterBlueprintException("@Interned requires a Blueprint without mapped Models for " + erector.getTarget().getSimpleName() + " of field " + modelField.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * True if the {@link Erector} has no fields that create mapped Models
+     */
+    private boolean isLeaf(Erector erector) {
+        for (ModelField modelField : erector.getModelFields()) {
+            if (modelField instanceof MappedField || modelField instanceof MappedListField || modelField instanceof MappedSetField) {
+                return false;
+            }
+            if (modelField instanceof MappedArrayField && !((MappedArrayField) modelField).isPrimitive()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Replace the Model by an interned Model of the {@link Scope} with equal property values
+     */
+    private Object intern(Scope scope, Erector erector, Object model) throws CreateModelException {
+        InternTable table;
+        if (scope == Scope.FACTORY) {
+            table = factoryInterned;
+        } else if (scope == Scope.THREAD) {
+            table = threadInterned.get();
+            if (table == null) {
+                table = new InternTable();
+                threadInterned.set(table);
+            }
+        } else {
+            CreateContext context = contexts.get();
+            if (context == null) {
+                return model;
+            }
+            table = context.getInterned();
+        }
+
+        Object[] values;
+        try {
+            Object[] mapped = erector.getPropertyAccessor().getAll(model);
+            Object[] unmapped = erector.getUnmappedPropertyAccessor().getAll(model);
+            values = new Object[mapped.length + unmapped.length];
+            System.arraycopy(mapped, 0, values, 0, mapped.length);
+            System.arraycopy(unmapped, 0, values, mapped.length, unmapped.length);
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+
+        return table.intern(model, values);
+    }
+
+    /**
+     * Release the Models interned in {@link Scope#FACTORY} and in {@link Scope#THREAD} for the current thread
+     */
+    public void clearInterned() {
+        factoryInterned.clear();
+        threadInterned.remove();
+    }
+
+    /**
+     * Release the values used by the {@link Unique} fields of the registered Blueprints
+     */
+    public void clearUniqueValues() {
+        for (Erector erector : erectors.values()) {
+            for (ModelField modelField : erector.getModelFields()) {
+                if (modelField instanceof DefaultField && ((DefaultField) modelField).getUniqueValues() != null) {
+                    ((DefaultField) modelField).getUniqueValues().clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a Model for a registered {@link Blueprint}. Values set in the
+     * model will not be overridden by defaults in the {@link Blueprint}.
+     *
+     * @param referenceModel Object
+     * @return Model
+     * @throws CreateModelException
+     */
+    public <T> T createModel(T referenceModel) throws CreateModelException {
+        return createModel(DEFAULT_BLUEPRINT_NAME, referenceModel, true);
+    }
+
+    /**
+     * See {@link ModelFactory#createModel(String, T, boolean)} for details.
+     * Default value for templateName is {@value ModelFactory#DEFAULT_BLUEPRINT_NAME}
+     */
+    public <T> T createModel(String blueprintName, T referenceModel) throws CreateModelException {
+        return createModel(blueprintName, referenceModel, true);
+    }
+
+    /**
+     * See {@link ModelFactory#createModel(String, T, boolean)} for details.
+     * Default value for templateName is {@value ModelFactory#DEFAULT_BLUEPRINT_NAME}
+     */
+    public <T> T createModel(T referenceModel, boolean withPolicies) throws CreateModelException {
+        return createModel(DEFAULT_BLUEPRINT_NAME, referenceModel, withPolicies);
+    }
+
+    /**
+     * Create a Model for a registered {@link Blueprint}. Values set in the
+     * model will not be overridden by defaults in the {@link Blueprint}.
+     *
+     * @param referenceModel Object
+     * @param withPolicies   boolean if Policies should be applied to the create
+     * @return Model
+     * @throws CreateModelException
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T> T createModel(String blueprintName, T referenceModel, boolean withPolicies) throws CreateModelException {
+        Erector erector = erectors.get(Pair.of(blueprintName, (Class) referenceModel.getClass()));
+
+        if (erector == null) {
+            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + referenceModel.getClass());
+        }
+
+        return createModel(erector, referenceModel, withPolicies);
+    }
+
+    /**
+     * Create a Model for a registered {@link Blueprint} using {@link Erector}.
+     * Values set in the model will not be overridden by defaults in the
+     * {@link Blueprint}.
+     *
+     * @param erector        {@link Erector}
+     * @param referenceModel T the reference model instance, or null
+     * @param withPolicies   boolean if Policies should be applied to the create
+     * @return T new Model
+     * @throws CreateModelException
+     */
+    public <T> T createModel(Erector erector, T referenceModel, boolean withPolicies) throws CreateModelException {
+        CreateContext context = contexts.get();
+        if (context != null) {
+            return createModel(erector, referenceModel, withPolicies, context);
+        }
+
+        // Outermost create for this thread, the context is shared by all nested Models
+        context = newContext();
+        contexts.set(context);
+        try {
+            return createModel(erector, referenceModel, withPolicies, context);
+        } finally {
+            contexts.remove();
+        }
+    }
+
+    /**
+     * If a Model is being created on the current thread, in which case createModel
+     * is creating a Model nested in another.
+     *
+     * @return boolean
+     */
+    protected boolean isCreatingModel() {
+        return contexts.get() != null;
+    }
+
+    /**
+     * {@link CreateContext} of the Model being created on the current thread
+     *
+     * @return CreateContext, or null if no Model is being created
+     */
+    public CreateContext getCreateContext() {
+        return contexts.get();
+    }
+
+    private <T> T createModel(Erector erector, T referenceModel, boolean withPolicies, CreateContext context) throws CreateModelException {
+        enter(erector, context);
+        try {
+            return buildModel(erector, referenceModel, withPolicies, context);
+        } finally {
+            context.exit();
+        }
+    }
+
+    /**
+     * Enter the {@link Erector} in the context, enforcing the maximum depth and node count
+     */
+    private void enter(Erector erector, CreateContext context) throws CreateModelException {
+        context.enter(erector);
+
+        if (maxDepth > 0 && context.getDepth() > maxDepth) {
+            String path = context.getPath();
+            context.exit();
+            throw new CreateModelException("Maximum depth of " + maxDepth + " exceeded creating " + path);
+        }
+
+        if (maxNodes > 0 && context.getNodeCount() > maxNodes) {
+            String path = context.getPath();
+            context.exit();
+            throw new CreateModelException("Maximum of " + maxNodes + " Models exceeded creating " + path);
+        }
+    }
+
+    private <T> T buildModel(Erector erector, T referenceModel, boolean withPolicies, CreateContext context) throws CreateModelException {
+        try {
+            return erectModel(erector, referenceModel, withPolicies, context);
+        } finally {
+            // The commands and reference are only needed while the Model is built
+            erector.clear();
+        }
+    }
+
+    private <T> T erectModel(Erector erector, T referenceModel, boolean withPolicies, CreateContext context) throws CreateModelException {
+
+        Projection projection = context.takeProjection();
+        boolean[] projected = projection == null ? null : projection.compile(erector);
+        SizeOverrides sizeOverrides = context.takeSizeOverrides();
+
+        boolean fromPlan = referenceModel == null && projection == null && sizeOverrides == null && createFromPlans
+                && (!withPolicies || !hasPolicies(erector)) && isPlanSupported(erector);
+
+        erector.clearCommands();
+
+        T createdModel;
         try {
             createdModel = (T) createNewInstance(erector);
         } catch (BlueprintTemplateException e) {
             throw new CreateModelException(e);
         }
 
+        if (fromPlan) {
+            T plannedModel = createModelFromPlan(erector, createdModel, context);
+            if (plannedModel != null) {
+                return plannedModel;
+            }
+        }
+
+        createdModel = context.injectParent(erector, createdModel);
+
         logger.trace("Created model {} from {} based on {}", createdModel, erector, referenceModel);
 
         final T nonNullReferenceModel = referenceModel == null ? createdModel : referenceModel;
         erector.setReference(nonNullReferenceModel);
 
-        if (withPolicies) {
-            List<BlueprintPolicy> blueprintPolicies = this.getBlueprintPolicies().get(erector.getTarget());
-            if (blueprintPolicies != null) {
+        // A reference model shared within the graph is only created once
+        if (referenceModel != null) {
+            context.putCreated(referenceModel, createdModel);
+        }
+
+        List<ModelField> modelFields;
+        PropertyAccessor accessor;
+        try {
+            modelFields = erector.getBoundModelFields();
+            accessor = erector.getPropertyAccessor();
+
+            if (referenceModel != null && copyReferenceProperties) {
+                PropertyAccessor unmappedAccessor = erector.getUnmappedPropertyAccessor();
+                createdModel = unmappedAccessor.setAll(createdModel, unmappedAccessor.getAll(referenceModel));
+            }
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+
+        ResolvedPolicies policies = withPolicies ? getPolicies(erector) : ResolvedPolicies.NONE;
+        if (!policies.isEmpty()) {
+            List<BlueprintPolicy> blueprintPolicies = policies.getBlueprintPolicies();
+            if (!blueprintPolicies.isEmpty()) {
 
                 logger.debug("  Running Blueprint policies");
 
                 for (BlueprintPolicy policy : blueprintPolicies) {
                     Map<ModelField, Set<Command>> modelFieldCommands = null;
                     try {
-                        logger.info("    processing {}", policy);
+                        logger.debug("    processing {}", policy);
                         modelFieldCommands = policy.process(this, erector, createdModel);
 
                     } catch (PolicyException e) {
@@ -671,21 +1946,47 @@ public class ModelFactory {
             }
         }
 
-        for (ModelField modelField : erector.getModelFields()) {
+        // The Blueprint properties of the reference model are read in a single pass, once the
+        // Blueprint Policies have decided which of them are injected
+        boolean[] referenceRead = null;
+        Object[] referenceValues = null;
+        if (referenceModel != null) {
+            referenceRead = getReferenceReads(erector, policies, modelFields, projected);
+            try {
+                referenceValues = accessor.getAll(referenceModel, referenceRead);
+            } catch (BlueprintTemplateException e) {
+                throw new CreateModelException(e);
+            }
+        }
+
+        for (int idx = 0; idx < modelFields.size(); idx++) {
+            ModelField modelField = modelFields.get(idx);
+
+            // Fields outside of the projection are left as constructed
+            if (projected != null && !projected[idx]) {
+                continue;
+            }
+
+            context.setField(modelField.getName());
 
-            logger.trace("ModelField {}", ReflectionToStringBuilder.toString(modelField));
+            Projection childProjection = projection == null ? null : projection.getChild(modelField.getName());
+            SizeOverrides childSizeOverrides = sizeOverrides == null ? null : sizeOverrides.getChild(modelField.getName());
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("ModelField {}", ReflectionToStringBuilder.toString(modelField));
+            }
 
             Object value = null;
 
-            if (withPolicies) {
-                List<FieldPolicy> policiesForSingleField = this.getFieldPolicies().get(modelField.getTarget());
+            if (!policies.isEmpty()) {
+                FieldPolicy[] policiesForSingleField = policies.getFieldPolicies(idx);
                 if (policiesForSingleField != null) {
 
                     logger.debug("  Running Field policies");
 
                     for (FieldPolicy policy : policiesForSingleField) {
                         try {
-                            logger.info("    processing {} for {}", policy, modelField.getTarget());
+                            logger.debug("    processing {} for {}", policy, modelField.getTarget());
                             Command command = policy.process(this, erector, modelField, createdModel);
                             if (command != null) {
                                 erector.addCommand(modelField, command);
@@ -697,41 +1998,65 @@ public class ModelFactory {
                 }
             }
 
-            if (erector.getCommands(modelField).size() > 0) {
-                logger.debug("  ModelField commands: {}", erector.getCommands(modelField));
+            Set<Command> commands = getCommands(erector, policies, idx, modelField);
+            if (commands.size() > 0) {
+                logger.debug("  ModelField commands: {}", commands);
             }
 
-            if (!erector.getCommands(modelField).contains(Command.SKIP_INJECTION)) {
+            if (!commands.contains(Command.SKIP_INJECTION)) {
 
                 // Process DefaultField
                 if (modelField instanceof DefaultField) {
 
                     DefaultField defaultField = (DefaultField) modelField;
+                    boolean skipReference = commands.contains(Command.SKIP_REFERENCE_INJECTION);
+                    boolean skipBlueprint = commands.contains(Command.SKIP_BLUEPRINT_INJECTION);
 
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_REFERENCE_INJECTION)) {
+                    // A primitive default that will be used regardless of the reference model
+                    // is injected unboxed, without reading the reference
+                    if (defaultField.isPrimitive() && !skipBlueprint && (skipReference || defaultField.isForce())) {
                         try {
-                            value = erector.getTemplate().get(nonNullReferenceModel, defaultField.getName());
+                            createdModel = defaultField.injectPrimitive(accessor, createdModel, idx);
                         } catch (BlueprintTemplateException e) {
                             throw new CreateModelException(e);
                         }
-                    }
 
-                    // If null or the field forces, use value set in blueprint, otherwise
-                    // use the value of the reference model
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_BLUEPRINT_INJECTION) && (value == null || defaultField.isForce())) {
-                        value = defaultField.getValue();
-                    }
+                    } else {
+                        if (!skipReference) {
+                            try {
+                                value = getReferenceValue(accessor, referenceRead, referenceValues, nonNullReferenceModel, idx);
+                            } catch (BlueprintTemplateException e) {
+                                throw new CreateModelException(e);
+                            }
+                        }
 
-                    // If value is an instance of FieldCallBack, eval the callback and use the value
-                    if (value != null && value instanceof Getable) {
-                        Getable callBack = (Getable)value;
-                        value = callBack.get(nonNullReferenceModel);
-                    }
+                        // If null or the field forces, use value set in blueprint, otherwise
+                        // use the value of the reference model
+                        boolean blueprintValue = !skipBlueprint && (value == null || defaultField.isForce());
+                        if (blueprintValue) {
+                            value = defaultField.getValue();
+                        }
 
-                    try {
-                        createdModel = erector.getTemplate().set(createdModel, defaultField.getName(), value);
-                    } catch (BlueprintTemplateException e) {
-                        throw new CreateModelException(e);
+                        try {
+                            // If value is an instance of FieldCallBack, eval the callback and use the value
+                            if (value instanceof PrimitiveFieldCallback) {
+                                createdModel = ((PrimitiveFieldCallback<?>) value).inject(accessor, createdModel, idx, nonNullReferenceModel);
+                            } else {
+                                Getable callBack = null;
+                                if (value != null && value instanceof Getable) {
+                                    callBack = (Getable) value;
+                                    value = callBack.get(nonNullReferenceModel);
+                                }
+
+                                // Values of the reference model are kept as they are
+                                if (blueprintValue) {
+                                    value = defaultField.uniqueValue(value, callBack, nonNullReferenceModel, context.nextOwner());
+                                }
+                                createdModel = accessor.set(createdModel, idx, value);
+                            }
+                        } catch (BlueprintTemplateException e) {
+                            throw new CreateModelException(e);
+                        }
                     }
 
                 // Process MappedField
@@ -739,20 +2064,25 @@ public class ModelFactory {
 
                     MappedField mappedField = (MappedField) modelField;
 
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_REFERENCE_INJECTION)) {
+                    if (!commands.contains(Command.SKIP_REFERENCE_INJECTION)) {
                         try {
-                            value = erector.getTemplate().get(nonNullReferenceModel, mappedField.getName());
+                            value = getReferenceValue(accessor, referenceRead, referenceValues, nonNullReferenceModel, idx);
                         } catch (BlueprintTemplateException e) {
                             throw new CreateModelException(e);
                         }
                     }
 
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_BLUEPRINT_INJECTION) && value == null && !mappedField.isNullable()) {
-                        value = this.createModel(mappedField.getTarget());
+                    if (!commands.contains(Command.SKIP_BLUEPRINT_INJECTION) && value == null && !mappedField.isNullable()) {
+                        if (mappedField.isLazy()) {
+                            value = LazyModelProxy.create(this, mappedField, DEFAULT_BLUEPRINT_NAME);
+                        } else {
+                            context.setNext(childProjection, childSizeOverrides);
+                            value = createMappedModel(mappedField, DEFAULT_BLUEPRINT_NAME, mappedField.getBackReference() == null ? null : createdModel, context);
+                        }
                     }
 
                     try {
-                        createdModel = erector.getTemplate().set(createdModel, mappedField.getName(), value);
+                        createdModel = accessor.set(createdModel, idx, value);
                     } catch (BlueprintTemplateException e) {
                         throw new CreateModelException(e);
                     }
@@ -763,75 +2093,98 @@ public class ModelFactory {
                     MappedListField listField = (MappedListField) modelField;
 
                     List modelList = null;
-                    try {
-                        value = (List) erector.getTemplate().construct(listField.getTargetList());
-                    } catch (BlueprintTemplateException e) {
-                        throw new CreateModelException(e);
-                    }
-
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_INJECTION)) {
+                    if (!commands.contains(Command.SKIP_INJECTION)) {
                         try {
-                            modelList = (List) erector.getTemplate().get(nonNullReferenceModel, listField.getName());
+                            modelList = (List) getReferenceValue(accessor, referenceRead, referenceValues, nonNullReferenceModel, idx);
                         } catch (BlueprintTemplateException e) {
                             throw new CreateModelException(e);
                         }
                     }
 
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_BLUEPRINT_INJECTION)) {
+                    if (!commands.contains(Command.SKIP_BLUEPRINT_INJECTION)) {
                         // Inject models into List If list is null or force is true or it is an empty list that is ignored
                         if ((modelList == null || listField.isForce()) || (modelList.size() == 0 && !listField.isIgnoreEmpty())) {
-                            for (int x = 0; x < listField.getSize(); x++) {
-                                ((List) value).add(this.createModel(listField.getAliases()[x], listField.getTarget()));
-                            }
+                            int size = getCollectionSize(erector, listField, sizeOverrides);
+                            value = createMappedCollection(erector, listField, size, childProjection, childSizeOverrides, createdModel, context);
 
                         } else {
+                            CollectionFactory listFactory = getCollectionFactory(listField);
+                            Collection models = listFactory.newCollection(erector, listField, modelList.size());
                             for (int x = 0; x < modelList.size(); x++) {
-                                ((List) value).add(this.createModel(listField.getAliases()[x], modelList.get(x)));
+                                models.add(createModelFromReference(listField.getAlias(x), modelList.get(x), childProjection, childSizeOverrides, listField, createdModel, context));
                             }
+                            value = listFactory.complete(listField, models);
                         }
+                    } else {
+                        CollectionFactory listFactory = getCollectionFactory(listField);
+                        value = listFactory.complete(listField, listFactory.newCollection(erector, listField, 0));
                     }
 
                     try {
-                        createdModel = erector.getTemplate().set(createdModel, listField.getName(), value);
+                        createdModel = accessor.set(createdModel, idx, value);
                     } catch (BlueprintTemplateException e) {
                         throw new CreateModelException(e);
                     }
 
-                // Process MappedSetField
-                } else if (modelField instanceof MappedSetField) {
+                // Process MappedArrayField
+                } else if (modelField instanceof MappedArrayField) {
 
-                    MappedSetField setField = (MappedSetField) modelField;
+                    MappedArrayField arrayField = (MappedArrayField) modelField;
+
+                    if (!commands.contains(Command.SKIP_REFERENCE_INJECTION)) {
+                        try {
+                            value = getReferenceValue(accessor, referenceRead, referenceValues, nonNullReferenceModel, idx);
+                        } catch (BlueprintTemplateException e) {
+                            throw new CreateModelException(e);
+                        }
+                    }
+
+                    // An array of the reference model is used as is
+                    if (!commands.contains(Command.SKIP_BLUEPRINT_INJECTION) && (value == null || arrayField.isForce())) {
+                        int size = getCollectionSize(erector, arrayField, sizeOverrides);
+                        value = createMappedArray(arrayField, size, childProjection, childSizeOverrides, createdModel, context);
+                    }
 
                     try {
-                        value = erector.getTemplate().construct(setField.getTargetSet());
+                        createdModel = accessor.set(createdModel, idx, value);
                     } catch (BlueprintTemplateException e) {
                         throw new CreateModelException(e);
                     }
 
+                // Process MappedSetField
+                } else if (modelField instanceof MappedSetField) {
+
+                    MappedSetField setField = (MappedSetField) modelField;
+
                     Set referenceModelSet = null;
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_INJECTION)) {
+                    if (!commands.contains(Command.SKIP_INJECTION)) {
                         try {
-                            referenceModelSet = (Set) erector.getTemplate().get(nonNullReferenceModel, setField.getName());
+                            referenceModelSet = (Set) getReferenceValue(accessor, referenceRead, referenceValues, nonNullReferenceModel, idx);
                         } catch (BlueprintTemplateException e) {
                             throw new CreateModelException(e);
                         }
                     }
 
-                    if (!erector.getCommands(modelField).contains(Command.SKIP_BLUEPRINT_INJECTION)) {
+                    if (!commands.contains(Command.SKIP_BLUEPRINT_INJECTION)) {
                         // Inject models into Set If list is null or force is true or it is an empty set that is ignored
                         if ((referenceModelSet == null || setField.isForce()) || (referenceModelSet.size() == 0 && !setField.isIgnoreEmpty())) {
-                            for (int x = 0; x < setField.getSize(); x++) {
-                                ((Set) value).add(this.createModel(setField.getTarget()));
-                            }
+                            int size = getCollectionSize(erector, setField, sizeOverrides);
+                            value = createMappedCollection(erector, setField, size, childProjection, childSizeOverrides, createdModel, context);
                         } else {
+                            CollectionFactory setFactory = getCollectionFactory(setField);
+                            Collection models = setFactory.newCollection(erector, setField, referenceModelSet.size());
                             for (Object object : referenceModelSet) {
-                                ((Set) value).add(this.createModel(object));
+                                models.add(createModelFromReference(DEFAULT_BLUEPRINT_NAME, object, childProjection, childSizeOverrides, setField, createdModel, context));
                             }
+                            value = setFactory.complete(setField, models);
                         }
+                    } else {
+                        CollectionFactory setFactory = getCollectionFactory(setField);
+                        value = setFactory.complete(setField, setFactory.newCollection(erector, setField, 0));
                     }
 
                     try {
-                        createdModel = erector.getTemplate().set(createdModel, setField.getName(), value);
+                        createdModel = accessor.set(createdModel, idx, value);
                     } catch (BlueprintTemplateException e) {
                         throw new CreateModelException(e);
                     }
@@ -839,6 +2192,62 @@ public class ModelFactory {
             }
         }
 
+        createdModel = afterCreate(erector, createdModel);
+
+        // AfterCreateCallback may have replaced the created model
+        if (referenceModel != null) {
+            context.putCreated(referenceModel, createdModel);
+        }
+
+        return createdModel;
+    }
+
+    /**
+     * False if the Models of the {@link Erector} are known not to be created from a {@link CreationPlan}
+     */
+    private boolean isPlanSupported(Erector erector) {
+        if (erector.getNewInstance() != null) {
+            logger.debug("{} is not created from a plan, it has a ConstructorCallback", erector);
+            return false;
+        }
+
+        CreationPlan plan = plans.get(erector);
+        return plan == null || plan.isSupported();
+    }
+
+    /**
+     * Populate a newly constructed Model from the {@link CreationPlan} of the {@link Erector}, creating
+     * the plan from the first Model. Returns null if the plan is not supported, leaving
+     * the Model unpopulated.
+     */
+    private <T> T createModelFromPlan(Erector erector, T createdModel, CreateContext context) throws CreateModelException {
+        try {
+            CreationPlan plan = plans.get(erector);
+            if (plan == null) {
+                logger.debug("Creating plan for {}", erector);
+                plan = new CreationPlan(erector, createdModel);
+                plans.put(erector, plan);
+            }
+
+            if (!plan.isSupported()) {
+                logger.debug("{} falls back from its plan, the constructor fills a mapped List or Set that is kept", erector);
+                return null;
+            }
+
+            // The parent is set after the plan is resolved so it is not kept by the plan
+            createdModel = context.injectParent(erector, createdModel);
+            createdModel = plan.populate(this, createdModel);
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+
+        return afterCreate(erector, createdModel);
+    }
+
+    /**
+     * Run the AfterCreateCallbacks of the {@link Erector}
+     */
+    private <T> T afterCreate(Erector erector, T createdModel) {
         List<Callback> afterCreateCallbacks = erector.getCallbacks("afterCreate");
         if ( afterCreateCallbacks != null ) {
             for (Callback callback : afterCreateCallbacks ) {
@@ -846,7 +2255,7 @@ public class ModelFactory {
                     createdModel = ((AfterCreateCallback<T>)callback).afterCreate(createdModel);
                 } else {
                     // XXX: should this toss an exception?
-                    logger.error("Invalid AfterCreateCallback registered for {}", referenceModel.getClass() );
+                    logger.error("Invalid AfterCreateCallback registered for {}", erector.getTarget() );
                 }
             }
         }
@@ -854,10 +2263,299 @@ public class ModelFactory {
         return createdModel;
     }
 
+    /**
+     * Commands for the field, the static Commands of the {@link ResolvedPolicies} combined with
+     * the Commands the Policies added while creating the Model
+     */
+    private Set<Command> getCommands(Erector erector, ResolvedPolicies policies, int idx, ModelField modelField) {
+        Set<Command> commands = erector.getCommands(modelField);
+        Set<Command> staticCommands = policies.getStaticCommands(idx);
+        if (staticCommands == null) {
+            return commands;
+        }
+        if (commands.isEmpty()) {
+            return staticCommands;
+        }
+
+        Set<Command> combined = new HashSet<Command>(staticCommands);
+        combined.addAll(commands);
+        return combined;
+    }
+
+    /**
+     * If any Policy applies to Models created by the {@link Erector}
+     */
+    private boolean hasPolicies(Erector erector) throws CreateModelException {
+        return !getPolicies(erector).isEmpty();
+    }
+
+    /**
+     * Create a Model for an element of a reference model's List or Set. The element is
+     * used as is if {@link #isReuseReferenceModels()}, otherwise a Model is created for it
+     * unless one was already created for the same element in this context.
+     */
+    private Object createModelFromReference(String blueprintName, Object referenceModel, Projection projection, SizeOverrides sizeOverrides, ModelField modelField, Object parent, CreateContext context) throws CreateModelException {
+        if (reuseReferenceModels) {
+            return referenceModel;
+        }
+
+        Object createdModel = context.getCreated(referenceModel);
+        if (createdModel == null) {
+            context.setNext(projection, sizeOverrides);
+            if (modelField.getBackReference() != null) {
+                context.setNextParent(modelField.getBackReference(), parent);
+            }
+            createdModel = this.createModel(blueprintName, referenceModel);
+        }
+
+        return createdModel;
+    }
+
+    /**
+     * Properties of the reference model read by {@link #createModel}, given the static Commands and
+     * the Commands of the Blueprint Policies. A field with other Field Policies is read on its own
+     * once they have run.
+     */
+    private boolean[] getReferenceReads(Erector erector, ResolvedPolicies policies, List<ModelField> modelFields, boolean[] projected) {
+        boolean[] read = new boolean[modelFields.size()];
+        for (int idx = 0; idx < read.length; idx++) {
+            if ((projected != null && !projected[idx]) || policies.getFieldPolicies(idx) != null) {
+                continue;
+            }
+
+            ModelField modelField = modelFields.get(idx);
+            Set<Command> commands = getCommands(erector, policies, idx, modelField);
+            if (commands.contains(Command.SKIP_INJECTION)) {
+                continue;
+            }
+
+            boolean skipReference = commands.contains(Command.SKIP_REFERENCE_INJECTION);
+            if (modelField instanceof DefaultField) {
+                DefaultField defaultField = (DefaultField) modelField;
+                boolean primitiveDefault = defaultField.isPrimitive() && !commands.contains(Command.SKIP_BLUEPRINT_INJECTION)
+                        && defaultField.isForce();
+                read[idx] = !skipReference && !primitiveDefault;
+            } else if (modelField instanceof MappedField || modelField instanceof MappedArrayField) {
+                read[idx] = !skipReference;
+            } else {
+                read[idx] = modelField instanceof MappedListField || modelField instanceof MappedSetField;
+            }
+        }
+
+        return read;
+    }
+
+    /**
+     * Value of the reference model for the property at idx, from the values read in a single
+     * pass if it was read there
+     */
+    private Object getReferenceValue(PropertyAccessor accessor, boolean[] referenceRead, Object[] referenceValues, Object referenceModel, int idx) throws BlueprintTemplateException {
+        if (referenceRead != null && referenceRead[idx]) {
+            return referenceValues[idx];
+        }
+
+        return accessor.get(referenceModel, idx);
+    }
+
     protected Object createNewInstance(Erector erector) throws BlueprintTemplateException {
         return erector.createNewInstance();
     }
 
+    /**
+     * If true, properties of a reference model that are not fields of its {@link Blueprint}
+     * are copied to the created model, otherwise they are left as constructed. Default is false.
+     *
+     * @return boolean
+     */
+    public boolean isCopyReferenceProperties() {
+        return copyReferenceProperties;
+    }
+
+    public void setCopyReferenceProperties(boolean copyReferenceProperties) {
+        this.copyReferenceProperties = copyReferenceProperties;
+    }
+
+    /**
+     * If true, the Models in the Lists and Sets of a reference model are used as is by
+     * the created model, otherwise a new Model is created for each of them. Default is false.
+     *
+     * @return boolean
+     */
+    public boolean isReuseReferenceModels() {
+        return reuseReferenceModels;
+    }
+
+    public void setReuseReferenceModels(boolean reuseReferenceModels) {
+        this.reuseReferenceModels = reuseReferenceModels;
+    }
+
+    /**
+     * {@link CollectionFactory} creating the Lists and Sets of Models for fields that do not set
+     * their own. Default is {@link JdkCollectionFactory}.
+     *
+     * @return CollectionFactory
+     */
+    public CollectionFactory getCollectionFactory() {
+        return collectionFactory;
+    }
+
+    public void setCollectionFactory(CollectionFactory collectionFactory) {
+        this.collectionFactory = collectionFactory;
+    }
+
+    /**
+     * Maximum depth of nested Models, creating a deeper Model fails with a
+     * {@link CreateModelException} reporting the path. Nested Models are created recursively,
+     * each level of depth takes stack frames of the creating thread, so an unlimited depth may
+     * end in a StackOverflowError. Zero or less is unlimited. Default is {@value #DEFAULT_MAX_DEPTH}.
+     *
+     * @return int
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Maximum number of Models created for each outermost Model, creating more fails with a
+     * {@link CreateModelException} reporting the path. Zero or less is unlimited. Default is -1.
+     *
+     * @return int
+     */
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public void setMaxNodes(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * If true, registering a Blueprint that always creates a Model of its own Blueprint, directly
+     * or through other Blueprints, fails with a {@link RegisterBlueprintException}. Otherwise the
+     * cycle is logged as a warning, and creating its Models fails at the maximum depth. Default is true.
+     *
+     * @return boolean
+     */
+    public boolean isRejectBlueprintCycles() {
+        return rejectBlueprintCycles;
+    }
+
+    public void setRejectBlueprintCycles(boolean rejectBlueprintCycles) {
+        this.rejectBlueprintCycles = rejectBlueprintCycles;
+    }
+
+    /**
+     * {@link ExecutorService} creating the Models of parallel fields. Defaults to a pool of
+     * {@link #getParallelism()} daemon threads, created when first used.
+     *
+     * @return ExecutorService
+     */
+    public synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(Math.max(parallelism, 1), new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "model-factory-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return executorService;
+    }
+
+    public synchronized void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Seed of the random bits drawn with {@link #nextRandom()}. Setting the seed restarts the
+     * streams, so the same Models created in the same order draw the same bits. Default is 0.
+     *
+     * @return long
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+        streams.set(0);
+    }
+
+    /**
+     * Random bits for the Model being created, from the stream of its {@link CreateContext}, or
+     * the next stream of the seed if no Model is being created. Policies and callbacks that draw
+     * from here are deterministic under the seed.
+     *
+     * @return long
+     */
+    public long nextRandom() {
+        CreateContext context = contexts.get();
+        if (context != null) {
+            return context.nextRandom();
+        }
+        return SplitMix.at(seed, streams.getAndIncrement());
+    }
+
+    private CreateContext newContext() {
+        return new CreateContext(SplitMix.at(seed, streams.getAndIncrement()));
+    }
+
+    /**
+     * Number of tasks the Models of a parallel field are split into. Default is the number of processors.
+     *
+     * @return int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * If {@link #isCreateFromPlans()}, Lists and Sets of at least this many Models are created
+     * directly from {@link CreationPlan}s of their Blueprints when no Policies apply, skipping the
+     * setup of each Model. Default is 1000.
+     *
+     * @return int
+     */
+    public int getBulkCreateThreshold() {
+        return bulkCreateThreshold;
+    }
+
+    public void setBulkCreateThreshold(int bulkCreateThreshold) {
+        this.bulkCreateThreshold = bulkCreateThreshold;
+    }
+
+    /**
+     * If true, Models created without a reference model are populated from a {@link CreationPlan}
+     * of their {@link Blueprint}, which resolves the value of each field once. Callbacks are still
+     * evaluated and mapped Models created for every Model. Blueprints with Policies that apply
+     * are created as usual. Default is false.
+     *
+     * @return boolean
+     */
+    public boolean isCreateFromPlans() {
+        return createFromPlans;
+    }
+
+    public void setCreateFromPlans(boolean createFromPlans) {
+        this.createFromPlans = createFromPlans;
+        if (!createFromPlans) {
+            plans.clear();
+        }
+    }
+
     /**
      * Registered Blueprints
      *
@@ -876,12 +2574,37 @@ public class ModelFactory {
         return erectors;
     }
 
+    /**
+     * BlueprintPolicies by their target, for every alias they were added with. Derived from the
+     * Policies indexed by alias and class, changes to the Map are not kept.
+     *
+     * @return Map
+     */
     public Map<Class, List<BlueprintPolicy>> getBlueprintPolicies() {
-        return blueprintPolicies;
+        return byTarget(aliasBlueprintPolicies);
     }
 
+    /**
+     * FieldPolicies by their target, for every alias they were added with. Derived from the
+     * Policies indexed by alias and class, changes to the Map are not kept.
+     *
+     * @return Map
+     */
     public Map<Class, List<FieldPolicy>> getFieldPolicies() {
-        return fieldPolicies;
+        return byTarget(aliasFieldPolicies);
+    }
+
+    private <P extends Policy> Map<Class, List<P>> byTarget(Map<Pair<String, Class>, List<P>> index) {
+        Map<Class, List<P>> policies = new LinkedHashMap<Class, List<P>>();
+        for (Map.Entry<Pair<String, Class>, List<P>> entry : index.entrySet()) {
+            List<P> forTarget = policies.get(entry.getKey().getSecond());
+            if (forTarget == null) {
+                forTarget = new ArrayList<P>();
+                policies.put(entry.getKey().getSecond(), forTarget);
+            }
+            forTarget.addAll(entry.getValue());
+        }
+        return policies;
     }
 
     /**
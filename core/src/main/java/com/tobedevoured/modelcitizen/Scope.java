@@ -0,0 +1,40 @@
+package com.tobedevoured.modelcitizen;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Lifetime of state the {@link ModelFactory} keeps between created Models
+ */
+public enum Scope {
+
+    /**
+     * Shared by every Model created by the ModelFactory, until cleared
+     */
+    FACTORY,
+
+    /**
+     * Shared by the Models created by the ModelFactory on the same thread, until cleared
+     */
+    THREAD,
+
+    /**
+     * Shared by the Models of a single createModel or createModels call
+     */
+    BATCH
+}
@@ -0,0 +1,41 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * How a primitive {@link MappedArray} is filled
+ */
+public enum ArrayFill {
+
+    /**
+     * Every element is {@link MappedArray#value()}
+     */
+    CONSTANT,
+
+    /**
+     * Elements start at {@link MappedArray#value()} and increase by {@link MappedArray#step()}
+     */
+    SEQUENCE,
+
+    /**
+     * Elements are random between {@link MappedArray#min()} inclusive and {@link MappedArray#max()}
+     * exclusive, from random bits of the ModelFactory combined with {@link MappedArray#seed()}
+     */
+    RANDOM
+}
@@ -0,0 +1,58 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.dictionary.Dictionary;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Default of a String field picked from a {@link Dictionary}, with the random bits of the
+ * ModelFactory so the words are deterministic under its seed. Used instead of {@link Default},
+ * and can be combined with {@link Unique}.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FromDictionary {
+
+    /**
+     * Path of the Dictionary file, or of a classpath resource that is a file
+     *
+     * @return String
+     */
+    String value();
+
+    /**
+     * Pick words by weight if the Dictionary is weighted, otherwise uniformly. Default is true.
+     *
+     * @return boolean
+     */
+    boolean weighted() default true;
+
+    /**
+     * Force the value of the field to always be set, even if the target
+     * field already has a value. Default is false.
+     *
+     * @return boolean
+     */
+    boolean force() default false;
+}
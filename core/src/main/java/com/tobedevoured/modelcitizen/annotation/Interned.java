@@ -0,0 +1,41 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.Scope;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Models created for a {@link Mapped}, {@link MappedList} or {@link MappedSet} field are interned,
+ * Models with equal properties are replaced by a single shared instance. Interned Models
+ * must be treated as immutable.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Interned {
+
+    /**
+     * Scope the interned Models are shared in, defaults to {@link Scope#FACTORY}
+     */
+    Scope value() default Scope.FACTORY;
+}
@@ -42,4 +42,11 @@ public @interface Mapped {
      * Alias of blueprint for mapped object
      */
     String alias() default ModelFactory.DEFAULT_BLUEPRINT_NAME;
+
+    /**
+     * Inject a proxy that creates the Model on first use, the field must be declared as
+     * an interface. Default is false.
+     * @return boolean
+     */
+    boolean lazy() default false;
 }
@@ -0,0 +1,103 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field that is an array. An array of Models is filled with Models created from their Blueprint,
+ * an array of int, long, float, double, short or byte is filled as set by {@link #fill()}.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MappedArray {
+
+    /**
+     * Length of the array, defaults to 1.
+     * @return int
+     */
+    int size() default 1;
+
+    /**
+     * The target Blueprint Class used to create Models, defaults to the array component type.
+     * @return Class
+     */
+    Class target() default NotSet.class;
+
+    /**
+     * Alias of blueprint for all Models of the array.
+     */
+    String alias() default ModelFactory.DEFAULT_BLUEPRINT_NAME;
+
+    /**
+     * Force the value of the MappedArray to always be set, even if
+     * the target field already has a value. Default is false.
+     * @return boolean
+     */
+    boolean force() default false;
+
+    /**
+     * How a primitive array is filled, defaults to {@link ArrayFill#CONSTANT}.
+     * @return ArrayFill
+     */
+    ArrayFill fill() default ArrayFill.CONSTANT;
+
+    /**
+     * Value of a {@link ArrayFill#CONSTANT} fill, or first value of a {@link ArrayFill#SEQUENCE}. Default is 0.
+     * @return double
+     */
+    double value() default 0;
+
+    /**
+     * Increment of a {@link ArrayFill#SEQUENCE}. Default is 1.
+     * @return double
+     */
+    double step() default 1;
+
+    /**
+     * Inclusive lower bound of a {@link ArrayFill#RANDOM} fill. Default is 0.
+     * @return double
+     */
+    double min() default 0;
+
+    /**
+     * Exclusive upper bound of a {@link ArrayFill#RANDOM} fill. Default is 100.
+     * @return double
+     */
+    double max() default 100;
+
+    /**
+     * Seed of a {@link ArrayFill#RANDOM} fill, combined with the random bits of the ModelFactory
+     * each array is created from. Default is 0.
+     * @return long
+     */
+    long seed() default 0;
+
+    /**
+     * Create the Models on the {@link ModelFactory#getExecutorService()}, split in
+     * {@link ModelFactory#getParallelism()} ranges that are assembled in index order. Default is false.
+     * @return boolean
+     */
+    boolean parallel() default false;
+}
@@ -20,6 +20,8 @@ package com.tobedevoured.modelcitizen.annotation;
 
 import com.tobedevoured.modelcitizen.ModelFactory;
 
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -68,4 +70,41 @@ public @interface MappedList {
      * Alias of blueprint for all objects of the list.
      */
     String alias() default ModelFactory.DEFAULT_BLUEPRINT_NAME;
+
+    /**
+     * Inject a List that creates each Model when it is first read, targetList is
+     * not used. Default is false.
+     * @return boolean
+     */
+    boolean lazy() default false;
+
+    /**
+     * Inject a read only view that creates the Model at an index each time it is read, from the seed
+     * of the {@link ModelFactory} and the index, and keeps the last window Models read. The List is
+     * created in full when it is modified. For Lists too large to hold, targetList is not used.
+     * Default is false.
+     *
+     * @return boolean
+     */
+    boolean virtual() default false;
+
+    /**
+     * Number of Models a virtual List keeps, defaults to 1000.
+     *
+     * @return int
+     */
+    int window() default 1000;
+
+    /**
+     * The {@link CollectionFactory} creating the List, defaults to the CollectionFactory of the ModelFactory
+     * @return Class
+     */
+    Class collectionFactory() default NotSet.class;
+
+    /**
+     * Create the Models on the {@link ModelFactory#getExecutorService()}, split in
+     * {@link ModelFactory#getParallelism()} ranges that are assembled in index order. Default is false.
+     * @return boolean
+     */
+    boolean parallel() default false;
 }
@@ -1,5 +1,8 @@
 package com.tobedevoured.modelcitizen.annotation;
 
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -47,4 +50,18 @@ public @interface MappedListByAliases {
      */
     String[] aliases();
 
+    /**
+     * The {@link CollectionFactory} creating the List, defaults to the CollectionFactory of the ModelFactory
+     *
+     * @return Class
+     */
+    Class collectionFactory() default NotSet.class;
+
+    /**
+     * Create the Models on the {@link ModelFactory#getExecutorService()}, split in
+     * {@link ModelFactory#getParallelism()} ranges that are assembled in index order. Default is false.
+     *
+     * @return boolean
+     */
+    boolean parallel() default false;
 }
@@ -20,6 +20,8 @@ package com.tobedevoured.modelcitizen.annotation;
 
 import com.tobedevoured.modelcitizen.ModelFactory;
 
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -69,4 +71,17 @@ public @interface MappedSet {
      * Alias of blueprint for all objects of the set.
      */
     String alias() default ModelFactory.DEFAULT_BLUEPRINT_NAME;
+
+    /**
+     * The {@link CollectionFactory} creating the Set, defaults to the CollectionFactory of the ModelFactory
+     * @return Class
+     */
+    Class collectionFactory() default NotSet.class;
+
+    /**
+     * Create the Models on the {@link ModelFactory#getExecutorService()}, split in
+     * {@link ModelFactory#getParallelism()} ranges that are assembled in index order. Default is false.
+     * @return boolean
+     */
+    boolean parallel() default false;
 }
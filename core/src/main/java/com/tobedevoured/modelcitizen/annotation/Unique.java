@@ -0,0 +1,51 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Values of a {@link Default} field are unique among the Models created by the ModelFactory. A
+ * callback returning a value already used is called again, up to attempts times. Values are kept
+ * as hashes, see {@link com.tobedevoured.modelcitizen.util.UniqueValues}, and are released by
+ * {@link com.tobedevoured.modelcitizen.ModelFactory#clearUniqueValues()}. A Model created again
+ * from the same seeded stream may use the values it used before.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Unique {
+
+    /**
+     * Number of values tried before failing to create the Model, defaults to 100
+     *
+     * @return int
+     */
+    int attempts() default 100;
+
+    /**
+     * Number of values expected, sizing the Bloom filter checked before the values used. More
+     * values only make the check slower. Defaults to 100000.
+     *
+     * @return int
+     */
+    int expected() default 100000;
+}
@@ -0,0 +1,346 @@
+package com.tobedevoured.modelcitizen.cache;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.collection.CompactCollectionFactory.CompactList;
+import com.tobedevoured.modelcitizen.lazy.LazyModelList;
+import com.tobedevoured.modelcitizen.lazy.VirtualModelList;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+import com.tobedevoured.modelcitizen.util.Pair;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+
+/**
+ * {@link ModelCloner} that copies Models using the {@link PropertyAccessor}s of their
+ * registered {@link Erector}. Models of registered classes, arrays, Dates, and the Lists,
+ * Sets and Maps holding them are copied; every other value is shared with the original
+ * and is expected to be immutable. A Model referenced more than once in the graph is
+ * copied once.
+ *
+ * A copied collection or Map keeps its class, comparator and unmodifiable view. A
+ * collection or Map that cannot be created again fails the copy. A {@link LazyModelList}
+ * copies the Models it has created and leaves the rest to be created by the copy, a
+ * {@link VirtualModelList} that has not been modified is copied without creating its Models.
+ */
+public class BlueprintModelCloner implements ModelCloner {
+
+    private static final Class UNMODIFIABLE_LIST = Collections.unmodifiableList(new LinkedList()).getClass();
+    private static final Class UNMODIFIABLE_RANDOM_ACCESS_LIST = Collections.unmodifiableList(new ArrayList()).getClass();
+    private static final Class UNMODIFIABLE_SET = Collections.unmodifiableSet(new HashSet()).getClass();
+    private static final Class UNMODIFIABLE_SORTED_SET = Collections.unmodifiableSortedSet(new TreeSet()).getClass();
+    private static final Class UNMODIFIABLE_MAP = Collections.unmodifiableMap(new HashMap()).getClass();
+    private static final Class UNMODIFIABLE_SORTED_MAP = Collections.unmodifiableSortedMap(new TreeMap()).getClass();
+    private static final Class SINGLETON_LIST = Collections.singletonList(null).getClass();
+    private static final Class SINGLETON_SET = Collections.singleton(null).getClass();
+    private static final Class SINGLETON_MAP = Collections.singletonMap(null, null).getClass();
+    private static final Class ARRAY_LIST_VIEW = Arrays.asList().getClass();
+
+    private final ModelFactory modelFactory;
+
+    public BlueprintModelCloner(ModelFactory modelFactory) {
+        this.modelFactory = modelFactory;
+    }
+
+    public <T> T clone(T model) throws CloneModelException {
+        try {
+            return (T) copy(model, new IdentityHashMap<Object, Object>());
+        } catch (BlueprintTemplateException e) {
+            throw new CloneModelException(e);
+        }
+    }
+
+    private Object copy(Object value, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        if (value == null) {
+            return null;
+        }
+
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (value.getClass().isArray()) {
+            return copyArray(value, copies);
+        }
+
+        if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+            return copy;
+        }
+
+        if (value instanceof List) {
+            return copyList((List) value, copies);
+        }
+
+        if (value instanceof Set) {
+            return copySet((Set) value, copies);
+        }
+
+        if (value instanceof Map) {
+            return copyMap((Map) value, copies);
+        }
+
+        Erector erector = getErector(value.getClass());
+        if (erector == null) {
+            return value;
+        }
+
+        copy = erector.createNewInstance();
+        copies.put(value, copy);
+
+        copyProperties(erector.getPropertyAccessor(), value, copy, copies);
+        copyProperties(erector.getUnmappedPropertyAccessor(), value, copy, copies);
+
+        return copy;
+    }
+
+    private void copyProperties(PropertyAccessor accessor, Object model, Object copy, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        Object[] values = accessor.getAll(model);
+        for (int idx = 0; idx < values.length; idx++) {
+            values[idx] = copy(values[idx], copies);
+        }
+        accessor.setAll(copy, values);
+    }
+
+    private Object copyArray(Object array, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        copies.put(array, copy);
+
+        if (array.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(array, 0, copy, 0, length);
+        } else {
+            Object[] elements = (Object[]) array;
+            Object[] copied = (Object[]) copy;
+            for (int x = 0; x < length; x++) {
+                copied[x] = copy(elements[x], copies);
+            }
+        }
+
+        return copy;
+    }
+
+    private Object copyList(List list, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        Class listClass = list.getClass();
+
+        if (list instanceof LazyModelList) {
+            LazyModelList copy = ((LazyModelList) list).copy();
+            copies.put(list, copy);
+            for (int x = 0; x < copy.size(); x++) {
+                if (copy.isCreated(x)) {
+                    copy.set(x, copy(copy.get(x), copies));
+                }
+            }
+            return copy;
+        }
+
+        if (list instanceof VirtualModelList) {
+            VirtualModelList copy = ((VirtualModelList) list).copy();
+            copies.put(list, copy);
+            if (copy.isMaterialized()) {
+                for (int x = 0; x < copy.size(); x++) {
+                    copy.set(x, copy(copy.get(x), copies));
+                }
+            }
+            return copy;
+        }
+
+        if (list.isEmpty() && !hasConstructor(listClass)) {
+            // Shared empty Lists, such as Collections.emptyList()
+            return list;
+        }
+
+        if (listClass == UNMODIFIABLE_LIST || listClass == UNMODIFIABLE_RANDOM_ACCESS_LIST) {
+            List copy = new ArrayList(list.size());
+            Object view = Collections.unmodifiableList(copy);
+            copies.put(list, view);
+            addAll(list, copy, copies);
+            return view;
+        }
+
+        if (listClass == SINGLETON_LIST) {
+            Object copy = Collections.singletonList(copy(list.get(0), copies));
+            copies.put(list, copy);
+            return copy;
+        }
+
+        if (listClass == ARRAY_LIST_VIEW || listClass == CompactList.class) {
+            Object[] elements = new Object[list.size()];
+            List copy = listClass == ARRAY_LIST_VIEW ? Arrays.asList(elements) : new CompactList(elements);
+            copies.put(list, copy);
+            for (int x = 0; x < elements.length; x++) {
+                elements[x] = copy(list.get(x), copies);
+            }
+            return copy;
+        }
+
+        List copy = (List) newInstance(list, null);
+        copies.put(list, copy);
+        addAll(list, copy, copies);
+        return copy;
+    }
+
+    private Object copySet(Set set, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        Class setClass = set.getClass();
+
+        if (set.isEmpty() && !hasConstructor(setClass)) {
+            // Shared empty Sets, such as Collections.emptySet()
+            return set;
+        }
+
+        if (setClass == UNMODIFIABLE_SORTED_SET) {
+            SortedSet copy = new TreeSet(((SortedSet) set).comparator());
+            Object view = Collections.unmodifiableSortedSet(copy);
+            copies.put(set, view);
+            addAll(set, copy, copies);
+            return view;
+        }
+
+        if (setClass == UNMODIFIABLE_SET) {
+            Set copy = new LinkedHashSet(set.size());
+            Object view = Collections.unmodifiableSet(copy);
+            copies.put(set, view);
+            addAll(set, copy, copies);
+            return view;
+        }
+
+        if (setClass == SINGLETON_SET) {
+            Object copy = Collections.singleton(copy(set.iterator().next(), copies));
+            copies.put(set, copy);
+            return copy;
+        }
+
+        Set copy = (Set) newInstance(set, set instanceof SortedSet ? ((SortedSet) set).comparator() : null);
+        copies.put(set, copy);
+        addAll(set, copy, copies);
+        return copy;
+    }
+
+    private Object copyMap(Map map, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        Class mapClass = map.getClass();
+
+        if (map.isEmpty() && !hasConstructor(mapClass)) {
+            // Shared empty Maps, such as Collections.emptyMap()
+            return map;
+        }
+
+        if (mapClass == UNMODIFIABLE_SORTED_MAP) {
+            SortedMap copy = new TreeMap(((SortedMap) map).comparator());
+            Object view = Collections.unmodifiableSortedMap(copy);
+            copies.put(map, view);
+            putAll(map, copy, copies);
+            return view;
+        }
+
+        if (mapClass == UNMODIFIABLE_MAP) {
+            Map copy = new LinkedHashMap(map.size());
+            Object view = Collections.unmodifiableMap(copy);
+            copies.put(map, view);
+            putAll(map, copy, copies);
+            return view;
+        }
+
+        if (mapClass == SINGLETON_MAP) {
+            Map.Entry entry = (Map.Entry) map.entrySet().iterator().next();
+            Object copy = Collections.singletonMap(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+            copies.put(map, copy);
+            return copy;
+        }
+
+        Map copy = (Map) newInstance(map, map instanceof SortedMap ? ((SortedMap) map).comparator() : null);
+        copies.put(map, copy);
+        putAll(map, copy, copies);
+        return copy;
+    }
+
+    private void addAll(Collection collection, Collection copy, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        for (Object element : collection) {
+            copy.add(copy(element, copies));
+        }
+    }
+
+    private void putAll(Map map, Map copy, Map<Object, Object> copies) throws BlueprintTemplateException, CloneModelException {
+        for (Object object : map.entrySet()) {
+            Map.Entry entry = (Map.Entry) object;
+            copy.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+    }
+
+    private boolean hasConstructor(Class clazz) {
+        try {
+            clazz.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * New instance of the class of the collection or Map, with the comparator if it is sorted
+     */
+    private Object newInstance(Object collection, Comparator comparator) throws CloneModelException {
+        Class clazz = collection.getClass();
+        try {
+            if (comparator != null) {
+                Constructor constructor = clazz.getConstructor(Comparator.class);
+                return constructor.newInstance(comparator);
+            }
+            return clazz.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new CloneModelException(unableToCopy(clazz));
+        } catch (InstantiationException e) {
+            throw new CloneModelException(unableToCopy(clazz));
+        } catch (IllegalAccessException e) {
+            throw new CloneModelException(unableToCopy(clazz));
+        } catch (InvocationTargetException e) {
+            throw new CloneModelException(e);
+        }
+    }
+
+    private String unableToCopy(Class clazz) {
+        return "Unable to copy " + clazz.getName() + ", it has no public no-arg or Comparator constructor";
+    }
+
+    /**
+     * {@link Erector} for the class, preferring the default Blueprint
+     */
+    private Erector getErector(Class clazz) {
+        Map<Pair<String, Class>, Erector> erectors = modelFactory.getErectors();
+
+        Erector erector = erectors.get(Pair.of(ModelFactory.DEFAULT_BLUEPRINT_NAME, clazz));
+        if (erector != null) {
+            return erector;
+        }
+
+        for (Map.Entry<Pair<String, Class>, Erector> entry : erectors.entrySet()) {
+            if (clazz.equals(entry.getKey().getSecond())) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,281 @@
+package com.tobedevoured.modelcitizen.cache;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of created Models, evicting the least recently used entries when the
+ * maximum size or maximum weight is exceeded. Values can optionally be held by
+ * {@link SoftReference} so the garbage collector may reclaim them under memory pressure.
+ * Reclaimed values are drained from a {@link ReferenceQueue} on each access, so they stop
+ * counting toward the size and weight of the cache.
+ */
+public class ModelCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+    private final ReferenceQueue<Object> cleared = new ReferenceQueue<Object>();
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private long maximumWeight = -1;
+    private Weigher weigher;
+    private boolean softValues = false;
+
+    private long totalWeight = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Cached Model for the key
+     *
+     * @param key Object
+     * @return Object Model, or null if not cached
+     */
+    public synchronized Object get(Object key) {
+        drainCleared();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            Object model = entry.get();
+            if (model != null) {
+                hitCount++;
+                return model;
+            }
+
+            // Soft reference was cleared
+            remove(key, entry);
+            evictionCount++;
+        }
+
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Cache the Model for the key, evicting the least recently used entries to stay within bounds
+     *
+     * @param key Object
+     * @param model Object
+     */
+    public synchronized void put(Object key, Object model) {
+        long weight = weigher == null ? 1 : weigher.weigh(key, model);
+        if (weight < 0) {
+            throw new IllegalStateException("Negative weight " + weight + " for " + key);
+        }
+
+        drainCleared();
+        Entry entry = softValues ? new SoftEntry(key, model, weight, cleared) : new StrongEntry(model, weight);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            previous.removed = true;
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        evict();
+    }
+
+    public synchronized void invalidate(Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        for (Entry entry : entries.values()) {
+            entry.removed = true;
+        }
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        drainCleared();
+        return entries.size();
+    }
+
+    public synchronized long getTotalWeight() {
+        drainCleared();
+        return totalWeight;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    public synchronized void resetStats() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    private void remove(Object key, Entry entry) {
+        entries.remove(key);
+        entry.removed = true;
+        totalWeight -= entry.weight;
+    }
+
+    /**
+     * Remove the entries whose soft values were reclaimed, unless they already left the cache
+     */
+    private void drainCleared() {
+        Reference<?> reference;
+        while ((reference = cleared.poll()) != null) {
+            SoftEntry entry = ((SoftValue) reference).entry;
+            if (!entry.removed) {
+                remove(entry.key, entry);
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Clear and enqueue every soft value, as the garbage collector would under memory pressure
+     */
+    synchronized void clearSoftValues() {
+        for (Entry entry : entries.values()) {
+            if (entry instanceof SoftEntry) {
+                ((SoftEntry) entry).model.clear();
+                ((SoftEntry) entry).model.enqueue();
+            }
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && (entries.size() > maximumSize || (maximumWeight >= 0 && totalWeight > maximumWeight))) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            eldest.removed = true;
+            totalWeight -= eldest.weight;
+            evictionCount++;
+        }
+    }
+
+    public synchronized int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Maximum number of cached Models, default is {@value #DEFAULT_MAXIMUM_SIZE}
+     *
+     * @param maximumSize int
+     */
+    public synchronized void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        evict();
+    }
+
+    public synchronized long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Maximum total weight of the cached Models as measured by the {@link Weigher}, a negative
+     * value is unbounded. Default is -1.
+     *
+     * @param maximumWeight long
+     */
+    public synchronized void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        evict();
+    }
+
+    public synchronized Weigher getWeigher() {
+        return weigher;
+    }
+
+    /**
+     * Weigher of the cached Models, without one each Model weighs 1. Only applies to
+     * Models cached after it is set.
+     *
+     * @param weigher {@link Weigher}
+     */
+    public synchronized void setWeigher(Weigher weigher) {
+        this.weigher = weigher;
+    }
+
+    public synchronized boolean isSoftValues() {
+        return softValues;
+    }
+
+    /**
+     * If true, Models cached after it is set are held by a {@link SoftReference}. Default is false.
+     *
+     * @param softValues boolean
+     */
+    public synchronized void setSoftValues(boolean softValues) {
+        this.softValues = softValues;
+    }
+
+    private static abstract class Entry {
+        final long weight;
+        boolean removed;
+
+        Entry(long weight) {
+            this.weight = weight;
+        }
+
+        abstract Object get();
+    }
+
+    private static class StrongEntry extends Entry {
+        private final Object model;
+
+        StrongEntry(Object model, long weight) {
+            super(weight);
+            this.model = model;
+        }
+
+        Object get() {
+            return model;
+        }
+    }
+
+    private static class SoftEntry extends Entry {
+        private final Object key;
+        private final SoftValue model;
+
+        SoftEntry(Object key, Object model, long weight, ReferenceQueue<Object> cleared) {
+            super(weight);
+            this.key = key;
+            this.model = new SoftValue(model, this, cleared);
+        }
+
+        Object get() {
+            return model.get();
+        }
+    }
+
+    private static class SoftValue extends SoftReference<Object> {
+        private final SoftEntry entry;
+
+        SoftValue(Object model, SoftEntry entry, ReferenceQueue<Object> cleared) {
+            super(model, cleared);
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.tobedevoured.modelcitizen.cache;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Copies a cached Model graph so callers can not modify the cached instance
+ */
+public interface ModelCloner {
+
+    /**
+     * @param model T Model to copy
+     * @return T copy of the Model
+     * @throws CloneModelException
+     */
+    <T> T clone(T model) throws CloneModelException;
+}
@@ -0,0 +1,44 @@
+package com.tobedevoured.modelcitizen.callback;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+
+/**
+ * {@link FieldCallback} for a primitive Field. The ModelFactory injects the value
+ * returned by the primitive getter with the matching primitive setter of the
+ * {@link PropertyAccessor}, instead of boxing it through {@link #get(Object)}.
+ *
+ * @param <T> boxed class of the primitive
+ */
+public abstract class PrimitiveFieldCallback<T> extends FieldCallback<T> {
+
+	/**
+	 * Inject the primitive value of the callback into the model
+	 *
+	 * @param accessor {@link PropertyAccessor}
+	 * @param model M
+	 * @param idx int index of the field's property
+	 * @param referenceModel Object
+	 * @return M model
+	 * @throws BlueprintTemplateException
+	 */
+	public abstract <M> M inject( PropertyAccessor accessor, M model, int idx, Object referenceModel ) throws BlueprintTemplateException;
+}
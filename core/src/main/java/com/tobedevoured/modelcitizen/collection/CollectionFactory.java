@@ -0,0 +1,55 @@
+package com.tobedevoured.modelcitizen.collection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.field.MappedSetField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+
+import java.util.Collection;
+
+/**
+ * Creates the Lists and Sets of Models for {@link MappedListField}s and {@link MappedSetField}s.
+ * A CollectionFactory can be set for a {@link com.tobedevoured.modelcitizen.ModelFactory} and
+ * for a single field.
+ */
+public interface CollectionFactory {
+
+    /**
+     * New empty collection for the field, the Models are then added to it
+     *
+     * @param erector    {@link Erector} of the Model the collection is created for
+     * @param modelField {@link MappedListField} or {@link MappedSetField}
+     * @param size       int number of Models that will be added
+     * @return Collection
+     * @throws CreateModelException
+     */
+    Collection newCollection(Erector erector, ModelField modelField, int size) throws CreateModelException;
+
+    /**
+     * Collection to set in the Model once the Models have been added
+     *
+     * @param modelField {@link MappedListField} or {@link MappedSetField}
+     * @param models     Collection from {@link #newCollection(Erector, ModelField, int)} with the Models
+     * @return Collection
+     */
+    Collection complete(ModelField modelField, Collection models);
+}
@@ -0,0 +1,174 @@
+package com.tobedevoured.modelcitizen.collection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+
+import java.util.*;
+
+/**
+ * {@link CollectionFactory} for read only Models that sets the smallest unmodifiable collection
+ * for the Models. Empty and single Model collections use the shared JDK instances, larger Lists
+ * are a {@link CompactList} and larger Sets a {@link CompactSet}. A SortedSet keeps its order
+ * behind an unmodifiable view. The field must be declared as a List or Set.
+ */
+public class CompactCollectionFactory extends JdkCollectionFactory {
+
+    @Override
+    public Collection newCollection(Erector erector, ModelField modelField, int size) throws CreateModelException {
+        if (modelField instanceof MappedListField) {
+            return new ArrayList(size);
+        }
+        return super.newCollection(erector, modelField, size);
+    }
+
+    @Override
+    public Collection complete(ModelField modelField, Collection models) {
+        if (models instanceof List) {
+            if (models.isEmpty()) {
+                return Collections.emptyList();
+            } else if (models.size() == 1) {
+                return Collections.singletonList(((List) models).get(0));
+            }
+            return new CompactList(models.toArray());
+        }
+
+        if (models.isEmpty()) {
+            return Collections.emptySet();
+        } else if (models instanceof SortedSet) {
+            return Collections.unmodifiableSortedSet((SortedSet) models);
+        } else if (models.size() == 1) {
+            return Collections.singleton(models.iterator().next());
+        }
+        return new CompactSet(models.toArray());
+    }
+
+    /**
+     * Unmodifiable List backed by an array of exactly its size
+     */
+    public static class CompactList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final Object[] elements;
+
+        public CompactList(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public E get(int index) {
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    /**
+     * Unmodifiable Set backed by an array of exactly its size, iterated in the order of the array.
+     * Sets of up to {@link #SCAN_SIZE} elements are searched by a scan of the array, larger Sets
+     * by an open addressing table of array indexes. The elements must be distinct.
+     */
+    public static class CompactSet<E> extends AbstractSet<E> {
+
+        public static final int SCAN_SIZE = 8;
+
+        private final Object[] elements;
+        private final int[] table;
+
+        public CompactSet(Object[] elements) {
+            this.elements = elements;
+
+            if (elements.length <= SCAN_SIZE) {
+                table = null;
+            } else {
+                // index + 1 of the element, 0 for an empty slot, at most half full
+                table = new int[Integer.highestOneBit(elements.length * 2 - 1) << 1];
+                for (int idx = 0; idx < elements.length; idx++) {
+                    int slot = slot(elements[idx]);
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & (table.length - 1);
+                    }
+                    table[slot] = idx + 1;
+                }
+            }
+        }
+
+        private int slot(Object element) {
+            int hash = element == null ? 0 : element.hashCode();
+            return (hash ^ (hash >>> 16)) & (table.length - 1);
+        }
+
+        private static boolean same(Object element, Object other) {
+            return element == null ? other == null : element.equals(other);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (table == null) {
+                for (Object element : elements) {
+                    if (same(element, o)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            int slot = slot(o);
+            while (table[slot] != 0) {
+                if (same(elements[table[slot] - 1], o)) {
+                    return true;
+                }
+                slot = (slot + 1) & (table.length - 1);
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int idx = 0;
+
+                public boolean hasNext() {
+                    return idx < elements.length;
+                }
+
+                public E next() {
+                    if (idx >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) elements[idx++];
+                }
+
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+}
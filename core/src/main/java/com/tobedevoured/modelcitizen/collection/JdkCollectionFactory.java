@@ -0,0 +1,80 @@
+package com.tobedevoured.modelcitizen.collection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.field.MappedSetField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+
+import java.util.*;
+
+/**
+ * Default {@link CollectionFactory}, creating the targetList or targetSet of the field.
+ * ArrayList, LinkedList, HashSet, LinkedHashSet and TreeSet are created directly, with the
+ * capacity for the Models where they have one. Other classes are constructed by the
+ * {@link com.tobedevoured.modelcitizen.template.BlueprintTemplate}.
+ */
+public class JdkCollectionFactory implements CollectionFactory {
+
+    public Collection newCollection(Erector erector, ModelField modelField, int size) throws CreateModelException {
+        Class collectionClass = getCollectionClass(modelField);
+
+        if (ArrayList.class.equals(collectionClass)) {
+            return new ArrayList(size);
+        } else if (HashSet.class.equals(collectionClass)) {
+            return new HashSet(hashCapacity(size));
+        } else if (LinkedHashSet.class.equals(collectionClass)) {
+            return new LinkedHashSet(hashCapacity(size));
+        } else if (LinkedList.class.equals(collectionClass)) {
+            return new LinkedList();
+        } else if (TreeSet.class.equals(collectionClass)) {
+            return new TreeSet();
+        }
+
+        try {
+            return (Collection) erector.getTemplate().construct(collectionClass);
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+    }
+
+    public Collection complete(ModelField modelField, Collection models) {
+        return models;
+    }
+
+    /**
+     * targetList of a {@link MappedListField} or targetSet of a {@link MappedSetField}
+     */
+    protected Class getCollectionClass(ModelField modelField) {
+        if (modelField instanceof MappedListField) {
+            return ((MappedListField) modelField).getTargetList();
+        }
+        return ((MappedSetField) modelField).getTargetSet();
+    }
+
+    /**
+     * Initial capacity of a hash based collection holding size elements without rehashing
+     */
+    protected static int hashCapacity(int size) {
+        return Math.max((int) (size / 0.75f) + 1, 16);
+    }
+}
@@ -0,0 +1,43 @@
+package com.tobedevoured.modelcitizen.collection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.field.ModelField;
+
+import java.util.*;
+
+/**
+ * {@link CollectionFactory} that sets unmodifiable views of the collections created by
+ * {@link JdkCollectionFactory}. The field must be declared as a List or Set.
+ */
+public class UnmodifiableCollectionFactory extends JdkCollectionFactory {
+
+    @Override
+    public Collection complete(ModelField modelField, Collection models) {
+        if (models instanceof List) {
+            return Collections.unmodifiableList((List) models);
+        } else if (models instanceof SortedSet) {
+            return Collections.unmodifiableSortedSet((SortedSet) models);
+        } else if (models instanceof Set) {
+            return Collections.unmodifiableSet((Set) models);
+        }
+
+        return Collections.unmodifiableCollection(models);
+    }
+}
@@ -0,0 +1,244 @@
+package com.tobedevoured.modelcitizen.dataset;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+
+/**
+ * Relational dataset of {@link Table}s whose number of rows scale together, such as 1 customer to
+ * 10 orders to 40 order lines, and whose reference fields sample rows of other Tables.
+ * <p>
+ * Rows are created with {@link ModelFactory#createSeededModel(String, Class, com.tobedevoured.modelcitizen.projection.Projection, long)}
+ * from the seed of the ModelFactory and their index, so the Dataset is the same however it is
+ * generated, and a referenced row is created again rather than kept. Generating streams the rows to
+ * a {@link DatasetSink}, creating chunks of rows in parallel and holding no more than a chunk per
+ * thread in memory.
+ */
+public class Dataset {
+
+    private Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ModelFactory modelFactory;
+    private final double scale;
+    private final List<Table<?>> tables = new ArrayList<Table<?>>();
+    private int chunkSize = 1000;
+    private int parallelism;
+    private ExecutorService executorService;
+
+    /**
+     * Create new Dataset
+     *
+     * @param modelFactory {@link ModelFactory} with the {@link Blueprint}s of the Tables registered
+     * @param scale        double scale factor multiplying the rows per scale of each Table
+     */
+    public Dataset(ModelFactory modelFactory, double scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale must not be negative");
+        }
+
+        this.modelFactory = modelFactory;
+        this.scale = scale;
+        this.parallelism = modelFactory.getParallelism();
+    }
+
+    /**
+     * See {@link Dataset#table(String, Class, double)} for details.
+     * Default blueprint name is "{@value ModelFactory#DEFAULT_BLUEPRINT_NAME}"
+     */
+    public <T> Table<T> table(Class<T> target, double rowsPerScale) {
+        return table(ModelFactory.DEFAULT_BLUEPRINT_NAME, target, rowsPerScale);
+    }
+
+    /**
+     * Declare a Table with rowsPerScale times the scale factor rows, rounded
+     *
+     * @param blueprintName String alias of the Blueprint creating the rows
+     * @param target        Class of the Model of the rows
+     * @param rowsPerScale  double rows for a scale factor of 1
+     * @return {@link Table}
+     */
+    public <T> Table<T> table(String blueprintName, Class<T> target, double rowsPerScale) {
+        Table<T> table = new Table<T>(this, tables.size(), blueprintName, target, rowsPerScale);
+        tables.add(table);
+        return table;
+    }
+
+    /**
+     * Generate every Table in the order declared, writing each row to the {@link DatasetSink}
+     *
+     * @param sink {@link DatasetSink}
+     * @throws DatasetException
+     */
+    public void generate(DatasetSink sink) throws DatasetException {
+        ExecutorService executor = executorService;
+        boolean owned = executor == null;
+        if (owned) {
+            executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "dataset-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        try {
+            for (Table<?> table : tables) {
+                generate(table, sink, executor);
+            }
+        } finally {
+            if (owned) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Create chunks of rows on the executor, at most one chunk per thread waiting to be written,
+     * and write them in index order as they complete
+     */
+    private void generate(final Table<?> table, DatasetSink sink, ExecutorService executor) throws DatasetException {
+        long size = table.size();
+        logger.debug("Generating {} rows of Table {}", size, table);
+
+        LinkedList<Future<Object[]>> pending = new LinkedList<Future<Object[]>>();
+        try {
+            sink.begin(table);
+
+            long written = 0;
+            for (long start = 0; start < size || !pending.isEmpty(); ) {
+                if (start < size && pending.size() < parallelism) {
+                    final long from = start;
+                    final int count = (int) Math.min(chunkSize, size - start);
+                    pending.add(executor.submit(new Callable<Object[]>() {
+                        public Object[] call() throws CreateModelException {
+                            Object[] rows = new Object[count];
+                            for (int x = 0; x < count; x++) {
+                                rows[x] = table.get(from + x);
+                            }
+                            return rows;
+                        }
+                    }));
+                    start += count;
+                    continue;
+                }
+
+                for (Object row : pending.removeFirst().get()) {
+                    sink.write(table, written++, row);
+                }
+            }
+
+            sink.end(table);
+        } catch (IOException e) {
+            throw new DatasetException("Failed to write Table " + table, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatasetException("Interrupted generating Table " + table, e);
+        } catch (ExecutionException e) {
+            throw new DatasetException("Failed to create rows of Table " + table, e.getCause());
+        } finally {
+            for (Future<Object[]> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    public ModelFactory getModelFactory() {
+        return modelFactory;
+    }
+
+    /**
+     * Scale factor multiplying the rows per scale of each Table
+     *
+     * @return double
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Tables in the order declared
+     *
+     * @return List
+     */
+    public List<Table<?>> getTables() {
+        return Collections.unmodifiableList(tables);
+    }
+
+    /**
+     * Number of rows created by a task. Default is 1000.
+     *
+     * @return int
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Number of chunks created at the same time. Default is the parallelism of the ModelFactory.
+     *
+     * @return int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * ExecutorService creating the chunks. Default is null, a pool of parallelism threads
+     * for each generation. It should not be the ExecutorService of the ModelFactory, which
+     * the rows use for their parallel fields.
+     *
+     * @return ExecutorService
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+}
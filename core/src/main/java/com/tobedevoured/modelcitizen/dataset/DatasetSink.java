@@ -0,0 +1,54 @@
+package com.tobedevoured.modelcitizen.dataset;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.IOException;
+
+/**
+ * Receives the rows of each {@link Table} of a {@link Dataset} as they are generated. Tables are
+ * written one after another and their rows in index order, from the thread generating the Dataset.
+ */
+public interface DatasetSink {
+
+    /**
+     * Start writing the rows of a Table
+     *
+     * @param table {@link Table}
+     * @throws IOException
+     */
+    void begin(Table<?> table) throws IOException;
+
+    /**
+     * Write a row of the Table
+     *
+     * @param table {@link Table}
+     * @param index long index of the row
+     * @param row   Object Model of the row
+     * @throws IOException
+     */
+    void write(Table<?> table, long index, Object row) throws IOException;
+
+    /**
+     * Finish writing the rows of a Table
+     *
+     * @param table {@link Table}
+     * @throws IOException
+     */
+    void end(Table<?> table) throws IOException;
+}
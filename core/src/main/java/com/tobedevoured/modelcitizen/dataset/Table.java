@@ -0,0 +1,285 @@
+package com.tobedevoured.modelcitizen.dataset;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.cache.ModelCache;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.sampler.Population;
+import com.tobedevoured.modelcitizen.sampler.Sampler;
+import com.tobedevoured.modelcitizen.sampler.UniformSampler;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.util.Pair;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * Table of a {@link Dataset}: the Models of a Blueprint, as many as the scale factor times the rows
+ * per scale, and the Tables their reference fields sample from. A row is created from the seed and
+ * its index, so any row can be created again instead of being kept, which is how references are
+ * resolved. The rows referenced most recently are kept in a bounded {@link ModelCache}, so a row
+ * referenced by many rows is not created again for each of them.
+ *
+ * @param <T> Model
+ */
+public class Table<T> implements Population<T> {
+
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final Dataset dataset;
+    private final int ordinal;
+    private final String blueprintName;
+    private final Class<T> target;
+    private final double rowsPerScale;
+    private final Map<String, Pair<Table<?>, Sampler>> references = new LinkedHashMap<String, Pair<Table<?>, Sampler>>();
+    private String name;
+    private volatile Projection projection;
+    private volatile ModelCache cache;
+    private volatile long cacheSeed;
+
+    Table(Dataset dataset, int ordinal, String blueprintName, Class<T> target, double rowsPerScale) {
+        if (rowsPerScale < 0) {
+            throw new IllegalArgumentException("Rows per scale must not be negative");
+        }
+
+        this.dataset = dataset;
+        this.ordinal = ordinal;
+        this.blueprintName = blueprintName;
+        this.target = target;
+        this.rowsPerScale = rowsPerScale;
+        this.name = target.getSimpleName();
+        setCacheSize(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Set the name of the Table, defaults to the simple name of the Model class
+     *
+     * @param name String
+     * @return Table
+     */
+    public Table<T> named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Set the field to rows of a Table declared before this Table, sampled uniformly
+     *
+     * @param field String name of the reference field
+     * @param table {@link Table} referenced
+     * @return Table
+     */
+    public Table<T> reference(String field, Table<?> table) {
+        return reference(field, table, new UniformSampler(Math.max(1, table.size())));
+    }
+
+    /**
+     * Set the field to rows of a Table declared before this Table, sampled by the {@link Sampler}
+     *
+     * @param field   String name of the reference field
+     * @param table   {@link Table} referenced
+     * @param sampler {@link Sampler} of the rows referenced
+     * @return Table
+     */
+    public Table<T> reference(String field, Table<?> table, Sampler sampler) {
+        if (table.dataset != dataset || table.ordinal >= ordinal) {
+            throw new IllegalArgumentException("Table " + name + " can only reference Tables declared before it in the Dataset");
+        }
+        if (table.size() == 0) {
+            throw new IllegalArgumentException("Table " + name + " references empty Table " + table.getName());
+        }
+        if (sampler.size() > table.size()) {
+            throw new IllegalArgumentException("Sampler of " + sampler.size() + " rows exceeds Table " + table.getName() + " of " + table.size());
+        }
+
+        references.put(field, new Pair<Table<?>, Sampler>(table, sampler));
+        projection = null;
+        ModelCache modelCache = cache;
+        if (modelCache != null) {
+            modelCache.invalidateAll();
+        }
+        return this;
+    }
+
+    /**
+     * Number of rows, the scale factor of the Dataset times the rows per scale
+     *
+     * @return long
+     */
+    public long size() {
+        return Math.round(rowsPerScale * dataset.getScale());
+    }
+
+    /**
+     * Create the row at the index. The same row is created for the same index and seed of the
+     * {@link ModelFactory}, wherever and whenever it is created.
+     *
+     * @param index long
+     * @return T
+     * @throws CreateModelException
+     */
+    public T get(long index) throws CreateModelException {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Row " + index + " of Table " + name + " of " + size());
+        }
+
+        ModelFactory modelFactory = dataset.getModelFactory();
+        long stream = SplitMix.at(ordinal, index);
+        T row = modelFactory.createSeededModel(blueprintName, target, getProjection(), stream);
+
+        if (!references.isEmpty()) {
+            Erector erector = getErector();
+            long bits = SplitMix.mix(modelFactory.getSeed() ^ stream);
+            int position = 0;
+            for (Map.Entry<String, Pair<Table<?>, Sampler>> reference : references.entrySet()) {
+                Table<?> table = reference.getValue().getFirst();
+                long referenced = reference.getValue().getSecond().sample(SplitMix.at(bits, position++));
+                try {
+                    row = erector.getTemplate().set(row, reference.getKey(), table.getReferenced(referenced));
+                } catch (BlueprintTemplateException e) {
+                    throw new CreateModelException(e);
+                }
+            }
+        }
+
+        return row;
+    }
+
+    /**
+     * Row at the index for a reference, from the cache or created for the index
+     */
+    private T getReferenced(long index) throws CreateModelException {
+        ModelCache modelCache = cache;
+        if (modelCache == null) {
+            return get(index);
+        }
+
+        ModelFactory modelFactory = dataset.getModelFactory();
+        long seed = modelFactory.getSeed();
+        if (seed != cacheSeed) {
+            modelCache.invalidateAll();
+            cacheSeed = seed;
+        }
+
+        T row = (T) modelCache.get(index);
+        if (row == null) {
+            // Threads referencing the same row at the same time may both create an equal row
+            row = get(index);
+            if (seed == modelFactory.getSeed()) {
+                modelCache.put(index, row);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Every bound field except the reference fields, which are set from the referenced Tables
+     */
+    private Projection getProjection() throws CreateModelException {
+        if (references.isEmpty()) {
+            return null;
+        }
+
+        if (projection == null) {
+            List<String> fields = new ArrayList<String>();
+            for (ModelField modelField : getErector().getModelFields()) {
+                if (!references.containsKey(modelField.getName())) {
+                    fields.add(modelField.getName());
+                }
+            }
+            projection = Projection.of(fields);
+        }
+        return projection;
+    }
+
+    private Erector getErector() throws CreateModelException {
+        Erector erector = dataset.getModelFactory().getErectors().get(Pair.of(blueprintName, (Class) target));
+        if (erector == null) {
+            throw new CreateModelException("Unregistered alias '" + blueprintName + "' for class " + target);
+        }
+        return erector;
+    }
+
+    /**
+     * Keep up to cacheSize of the rows referenced most recently by other Tables, 0 for no cache.
+     * Default is {@value #DEFAULT_CACHE_SIZE}.
+     *
+     * @param cacheSize int
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize <= 0) {
+            cache = null;
+        } else {
+            ModelCache modelCache = new ModelCache();
+            modelCache.setMaximumSize(cacheSize);
+            cacheSeed = dataset.getModelFactory().getSeed();
+            cache = modelCache;
+        }
+    }
+
+    /**
+     * {@link ModelCache} of the rows referenced most recently, null if not cached
+     *
+     * @return ModelCache
+     */
+    public ModelCache getCache() {
+        return cache;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBlueprintName() {
+        return blueprintName;
+    }
+
+    public Class<T> getTarget() {
+        return target;
+    }
+
+    public double getRowsPerScale() {
+        return rowsPerScale;
+    }
+
+    /**
+     * Tables referenced by field name
+     *
+     * @return Map
+     */
+    public Map<String, Table<?>> getReferences() {
+        Map<String, Table<?>> tables = new LinkedHashMap<String, Table<?>>();
+        for (Map.Entry<String, Pair<Table<?>, Sampler>> reference : references.entrySet()) {
+            tables.put(reference.getKey(), reference.getValue().getFirst());
+        }
+        return tables;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
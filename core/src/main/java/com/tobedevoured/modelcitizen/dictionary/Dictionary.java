@@ -0,0 +1,247 @@
+package com.tobedevoured.modelcitizen.dictionary;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tobedevoured.modelcitizen.sampler.Population;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * Word list memory-mapped from a file written by {@link DictionaryWriter}, so the words take no heap
+ * and opening the file reads nothing but its header. A file is mapped once per JVM, and reading never
+ * changes the shared buffer, so a Dictionary can be read by any number of threads. An opened file
+ * stays mapped until it is {@link #close(File) closed} and no Dictionary of it is referenced.
+ * <p>
+ * The file holds the offsets of the UTF-8 bytes of each word and, for a weighted Dictionary, the
+ * tables of an {@link com.tobedevoured.modelcitizen.sampler.AliasSampler}, so a pick is constant time.
+ * A file is limited to 2GB.
+ */
+public class Dictionary implements Population<String> {
+
+    static final int MAGIC = 0x4d434431;
+    static final int WEIGHTED = 1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Map<File, Dictionary> opened = new HashMap<File, Dictionary>();
+
+    private final File file;
+    private final ByteBuffer buffer;
+    private final int count;
+    private final boolean weighted;
+    private final int offsets;
+    private final int probabilities;
+    private final int aliases;
+    private final int data;
+
+    private Dictionary(File file, ByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < 12 || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a dictionary file: " + file);
+        }
+
+        weighted = (buffer.getInt(4) & WEIGHTED) != 0;
+        count = buffer.getInt(8);
+        offsets = 12;
+        probabilities = offsets + (count + 1) * 4;
+        aliases = probabilities + (weighted ? count * 8 : 0);
+        data = aliases + (weighted ? count * 4 : 0);
+
+        if (count < 0 || data > buffer.capacity() || data + buffer.getInt(offsets + count * 4) > buffer.capacity()) {
+            throw new IOException("Truncated dictionary file: " + file);
+        }
+    }
+
+    /**
+     * Dictionary of a file, or else of a classpath resource that is a file. See {@link #open(File)}.
+     *
+     * @param path String
+     * @return Dictionary
+     * @throws IOException
+     */
+    public static Dictionary open(String path) throws IOException {
+        File file = new File(path);
+        if (!file.exists()) {
+            URL resource = Thread.currentThread().getContextClassLoader().getResource(path);
+            if (resource != null && "file".equals(resource.getProtocol())) {
+                try {
+                    file = new File(resource.toURI());
+                } catch (URISyntaxException e) {
+                    throw new IOException("Invalid dictionary resource: " + resource);
+                }
+            }
+        }
+        return open(file);
+    }
+
+    /**
+     * Dictionary of a file, mapped the first time it is opened and shared afterwards
+     *
+     * @param file File
+     * @return Dictionary
+     * @throws IOException
+     */
+    public static Dictionary open(File file) throws IOException {
+        File canonical = file.getCanonicalFile();
+        synchronized (opened) {
+            Dictionary dictionary = opened.get(canonical);
+            if (dictionary == null) {
+                dictionary = new Dictionary(canonical, map(canonical));
+                opened.put(canonical, dictionary);
+            }
+            return dictionary;
+        }
+    }
+
+    /**
+     * Stop sharing the Dictionary of a file, so it is mapped again when next opened. The mapping
+     * is released once the Dictionary is no longer referenced, such as by a registered Blueprint.
+     *
+     * @param file File
+     * @return boolean true if the file was open
+     * @throws IOException
+     */
+    public static boolean close(File file) throws IOException {
+        synchronized (opened) {
+            return opened.remove(file.getCanonicalFile()) != null;
+        }
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Number of words
+     *
+     * @return long
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Word at an index
+     *
+     * @param index long
+     * @return String
+     */
+    public String get(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Word " + index + " of dictionary of " + count);
+        }
+
+        int start = data + buffer.getInt(offsets + (int) index * 4);
+        int end = data + buffer.getInt(offsets + (int) index * 4 + 4);
+        byte[] bytes = new byte[end - start];
+
+        // A duplicate has its own position, so the shared buffer is never moved
+        ByteBuffer view = buffer.duplicate();
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Read only view of the UTF-8 bytes of the word at an index, without copying them
+     *
+     * @param index int
+     * @return ByteBuffer
+     */
+    public ByteBuffer getBytes(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Word " + index + " of dictionary of " + count);
+        }
+
+        ByteBuffer view = buffer.asReadOnlyBuffer();
+        view.limit(data + buffer.getInt(offsets + index * 4 + 4));
+        view.position(data + buffer.getInt(offsets + index * 4));
+        return view.slice();
+    }
+
+    /**
+     * Word for random bits, drawn by weight if the Dictionary is weighted, otherwise uniformly
+     *
+     * @param random long
+     * @return String
+     */
+    public String pick(long random) {
+        return get(pickIndex(random));
+    }
+
+    /**
+     * Index of the word for random bits, see {@link #pick(long)}
+     *
+     * @param random long
+     * @return int
+     */
+    public int pickIndex(long random) {
+        if (count == 0) {
+            throw new IllegalStateException("Empty dictionary: " + file);
+        }
+
+        double column = SplitMix.toUnit(random) * count;
+        int idx = Math.min((int) column, count - 1);
+        if (!weighted || column - idx < buffer.getDouble(probabilities + idx * 8)) {
+            return idx;
+        }
+        return buffer.getInt(aliases + idx * 4);
+    }
+
+    /**
+     * Word for random bits, drawn uniformly even if the Dictionary is weighted
+     *
+     * @param random long
+     * @return String
+     */
+    public String pickUniform(long random) {
+        if (count == 0) {
+            throw new IllegalStateException("Empty dictionary: " + file);
+        }
+        return get(Math.min((int) (SplitMix.toUnit(random) * count), count - 1));
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    public File getFile() {
+        return file;
+    }
+}
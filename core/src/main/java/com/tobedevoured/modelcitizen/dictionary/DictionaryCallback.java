@@ -0,0 +1,64 @@
+package com.tobedevoured.modelcitizen.dictionary;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+
+/**
+ * {@link FieldCallback} picking a word from a {@link Dictionary} with the random bits of
+ * {@link ModelFactory#nextRandom()}, so the words picked are deterministic under the seed
+ */
+public class DictionaryCallback extends FieldCallback<String> {
+
+    private final ModelFactory modelFactory;
+    private final Dictionary dictionary;
+    private final boolean weighted;
+
+    /**
+     * Create new DictionaryCallback
+     *
+     * @param modelFactory {@link ModelFactory} drawing the random bits
+     * @param dictionary   {@link Dictionary}
+     * @param weighted     boolean pick by weight if the Dictionary is weighted, otherwise uniformly
+     */
+    public DictionaryCallback(ModelFactory modelFactory, Dictionary dictionary, boolean weighted) {
+        this.modelFactory = modelFactory;
+        this.dictionary = dictionary;
+        this.weighted = weighted;
+    }
+
+    public DictionaryCallback(ModelFactory modelFactory, Dictionary dictionary) {
+        this(modelFactory, dictionary, true);
+    }
+
+    @Override
+    public String get(Object referenceModel) {
+        long random = modelFactory.nextRandom();
+        return weighted ? dictionary.pick(random) : dictionary.pickUniform(random);
+    }
+
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+}
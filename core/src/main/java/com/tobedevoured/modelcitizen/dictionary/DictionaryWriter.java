@@ -0,0 +1,149 @@
+package com.tobedevoured.modelcitizen.dictionary;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tobedevoured.modelcitizen.sampler.AliasSampler;
+
+/**
+ * Writes the files of {@link Dictionary}s
+ */
+public final class DictionaryWriter {
+
+    private DictionaryWriter() {
+    }
+
+    /**
+     * Write a Dictionary of words picked uniformly
+     *
+     * @param file  File
+     * @param words List of String
+     * @throws IOException
+     */
+    public static void write(File file, List<String> words) throws IOException {
+        write(file, words, null);
+    }
+
+    /**
+     * Write a Dictionary of words picked in proportion to their weights
+     *
+     * @param file    File
+     * @param words   List of String
+     * @param weights double[] weight of each word, or null to pick uniformly
+     * @throws IOException
+     */
+    public static void write(File file, List<String> words, double[] weights) throws IOException {
+        if (weights != null && weights.length != words.size()) {
+            throw new IllegalArgumentException(words.size() + " words for " + weights.length + " weights");
+        }
+
+        AliasSampler sampler = weights == null || words.isEmpty() ? null : new AliasSampler(weights);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] offsets = new int[words.size() + 1];
+        for (int x = 0; x < words.size(); x++) {
+            bytes.write(words.get(x).getBytes("UTF-8"));
+            offsets[x + 1] = bytes.size();
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeInt(Dictionary.MAGIC);
+            out.writeInt(sampler == null ? 0 : Dictionary.WEIGHTED);
+            out.writeInt(words.size());
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+
+            if (sampler != null) {
+                for (int x = 0; x < words.size(); x++) {
+                    out.writeDouble(sampler.getProbability(x));
+                }
+                for (int x = 0; x < words.size(); x++) {
+                    out.writeInt(sampler.getAlias(x));
+                }
+            }
+
+            bytes.writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Write a Dictionary from a UTF-8 text file of a word per line, optionally followed by a tab
+     * and its weight. Blank lines are skipped. The Dictionary is weighted if any line has a weight,
+     * lines without one weigh 1.
+     *
+     * @param text File
+     * @param file File
+     * @throws IOException
+     */
+    public static void convert(File text, File file) throws IOException {
+        List<String> words = new ArrayList<String>();
+        List<Double> weights = new ArrayList<Double>();
+        boolean weighted = false;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(text), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().length() == 0) {
+                    continue;
+                }
+
+                int tab = line.lastIndexOf('\t');
+                if (tab < 0) {
+                    words.add(line);
+                    weights.add(1d);
+                } else {
+                    try {
+                        weights.add(Double.valueOf(line.substring(tab + 1).trim()));
+                    } catch (NumberFormatException e) {
+                        throw new IOException("Invalid weight in line: " + line);
+                    }
+                    words.add(line.substring(0, tab));
+                    weighted = true;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        double[] values = null;
+        if (weighted) {
+            values = new double[weights.size()];
+            for (int x = 0; x < values.length; x++) {
+                values[x] = weights.get(x);
+            }
+        }
+        write(file, words, values);
+    }
+}
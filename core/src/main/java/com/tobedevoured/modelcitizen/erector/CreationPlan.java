@@ -0,0 +1,225 @@
+package com.tobedevoured.modelcitizen.erector;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Collection;
+import java.util.List;
+
+import com.tobedevoured.modelcitizen.CreateContext;
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.callback.PrimitiveFieldCallback;
+import com.tobedevoured.modelcitizen.callback.internal.Getable;
+import com.tobedevoured.modelcitizen.field.DefaultField;
+import com.tobedevoured.modelcitizen.field.MappedArrayField;
+import com.tobedevoured.modelcitizen.field.MappedField;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.field.MappedSetField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.lazy.LazyModelProxy;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+
+/**
+ * Plan for creating the Models of an {@link Erector} without a reference model or
+ * Policies. It is not a Model that is copied, but the action each field takes, worked out
+ * once from a newly constructed Model. Populating another instance then skips reading its
+ * properties and resolving the Commands, only setting the resolved values by index,
+ * evaluating the callbacks and creating the mapped Models.
+ *
+ * The decisions hold only if every instance is constructed alike, so a plan is not
+ * {@link #isSupported() supported} for an Erector with a ConstructorCallback, or when the
+ * constructor fills a mapped List or Set that would be kept instead of created.
+ */
+public class CreationPlan {
+
+    private static final int KEEP = 0;
+    private static final int VALUE = 1;
+    private static final int PRIMITIVE = 2;
+    private static final int CALLBACK = 3;
+    private static final int MAPPED = 4;
+    private static final int MAPPED_LIST = 5;
+    private static final int MAPPED_SET = 6;
+    private static final int MAPPED_ARRAY = 7;
+    private static final int UNIQUE = 8;
+
+    private final Erector erector;
+    private final List<ModelField> modelFields;
+    private final PropertyAccessor accessor;
+    private final int[] actions;
+    private final Object[] values;
+    private boolean supported;
+
+    /**
+     * Create new CreationPlan from a Model newly constructed by the Erector
+     *
+     * @param erector {@link Erector}
+     * @param model Object newly constructed Model
+     * @throws BlueprintTemplateException
+     */
+    public CreationPlan(Erector erector, Object model) throws BlueprintTemplateException {
+        this.erector = erector;
+        this.modelFields = erector.getBoundModelFields();
+        this.accessor = erector.getPropertyAccessor();
+        this.actions = new int[modelFields.size()];
+        this.values = accessor.getAll(model);
+        this.supported = erector.getNewInstance() == null;
+
+        for (int idx = 0; idx < actions.length; idx++) {
+            ModelField modelField = modelFields.get(idx);
+
+            if (modelField instanceof DefaultField) {
+                DefaultField defaultField = (DefaultField) modelField;
+
+                // A value set by the constructor is kept unless the field forces the default
+                if (values[idx] != null && !defaultField.isForce()) {
+                    actions[idx] = KEEP;
+                } else if (defaultField.getUniqueValues() != null) {
+                    actions[idx] = UNIQUE;
+                    values[idx] = defaultField.getValue();
+                } else if (defaultField.isPrimitive()) {
+                    actions[idx] = PRIMITIVE;
+                } else if (defaultField.getValue() instanceof Getable) {
+                    actions[idx] = CALLBACK;
+                    values[idx] = defaultField.getValue();
+                } else {
+                    actions[idx] = VALUE;
+                    values[idx] = defaultField.getValue();
+                }
+
+            } else if (modelField instanceof MappedField) {
+                if (values[idx] != null || ((MappedField) modelField).isNullable()) {
+                    actions[idx] = KEEP;
+                } else {
+                    actions[idx] = MAPPED;
+                }
+
+            } else if (modelField instanceof MappedListField) {
+                actions[idx] = MAPPED_LIST;
+                if (!isCreated((MappedListField) modelField, (Collection) values[idx], ((MappedListField) modelField).isIgnoreEmpty())) {
+                    supported = false;
+                }
+
+            } else if (modelField instanceof MappedSetField) {
+                actions[idx] = MAPPED_SET;
+                if (!isCreated((MappedSetField) modelField, (Collection) values[idx], ((MappedSetField) modelField).isIgnoreEmpty())) {
+                    supported = false;
+                }
+
+            } else if (modelField instanceof MappedArrayField) {
+                if (values[idx] != null && !modelField.isForce()) {
+                    actions[idx] = KEEP;
+                } else {
+                    actions[idx] = MAPPED_ARRAY;
+                }
+
+            } else {
+                actions[idx] = KEEP;
+            }
+        }
+    }
+
+    /**
+     * True if the Models of a mapped List or Set are created, false if the Collection set by
+     * the constructor would be kept
+     */
+    private static boolean isCreated(ModelField modelField, Collection collection, boolean ignoreEmpty) {
+        return collection == null || modelField.isForce() || (collection.isEmpty() && !ignoreEmpty);
+    }
+
+    /**
+     * If false, the Models of the Erector cannot be created from this plan
+     *
+     * @return boolean
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    public Erector getErector() {
+        return erector;
+    }
+
+    /**
+     * Populate a Model newly constructed by the Erector from the plan
+     *
+     * @param modelFactory {@link ModelFactory} used to create mapped Models
+     * @param model T newly constructed Model
+     * @return T model
+     * @throws CreateModelException
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T populate(ModelFactory modelFactory, T model) throws CreateModelException {
+        try {
+            for (int idx = 0; idx < actions.length; idx++) {
+                switch (actions[idx]) {
+                    case VALUE:
+                        model = accessor.set(model, idx, values[idx]);
+                        break;
+
+                    case PRIMITIVE:
+                        model = ((DefaultField) modelFields.get(idx)).injectPrimitive(accessor, model, idx);
+                        break;
+
+                    case CALLBACK:
+                        if (values[idx] instanceof PrimitiveFieldCallback) {
+                            model = ((PrimitiveFieldCallback<?>) values[idx]).inject(accessor, model, idx, model);
+                        } else {
+                            model = accessor.set(model, idx, ((Getable) values[idx]).get(model));
+                        }
+                        break;
+
+                    case UNIQUE:
+                        Getable callback = values[idx] instanceof Getable ? (Getable) values[idx] : null;
+                        Object value = callback != null ? callback.get(model) : values[idx];
+                        CreateContext context = modelFactory.getCreateContext();
+                        long owner = context == null ? 0 : context.nextOwner();
+                        model = accessor.set(model, idx, ((DefaultField) modelFields.get(idx)).uniqueValue(value, callback, model, owner));
+                        break;
+
+                    case MAPPED:
+                        MappedField mappedField = (MappedField) modelFields.get(idx);
+                        if (mappedField.isLazy()) {
+                            model = accessor.set(model, idx, LazyModelProxy.create(modelFactory, mappedField, ModelFactory.DEFAULT_BLUEPRINT_NAME));
+                        } else {
+                            model = accessor.set(model, idx, modelFactory.createMappedModel(mappedField, ModelFactory.DEFAULT_BLUEPRINT_NAME, model));
+                        }
+                        break;
+
+                    case MAPPED_LIST:
+                    case MAPPED_SET:
+                        model = accessor.set(model, idx, modelFactory.createMappedCollection(erector, modelFields.get(idx), model));
+                        break;
+
+                    case MAPPED_ARRAY:
+                        model = accessor.set(model, idx, modelFactory.createMappedArray(erector, (MappedArrayField) modelFields.get(idx), model));
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+
+        return model;
+    }
+}
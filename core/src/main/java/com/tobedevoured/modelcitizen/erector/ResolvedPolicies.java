@@ -0,0 +1,101 @@
+package com.tobedevoured.modelcitizen.erector;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.policy.BlueprintPolicy;
+import com.tobedevoured.modelcitizen.policy.FieldPolicy;
+import com.tobedevoured.modelcitizen.policy.StaticBlueprintPolicy;
+import com.tobedevoured.modelcitizen.policy.StaticFieldPolicy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Policies that apply to the Models created by an {@link Erector}, resolved once from the
+ * Policies added for the alias and class of the Erector and of the Models its fields create.
+ * The Commands of {@link StaticBlueprintPolicy} and {@link StaticFieldPolicy} are resolved with
+ * them, only the other Policies are processed for each Model.
+ */
+public class ResolvedPolicies {
+
+    public static final ResolvedPolicies NONE = new ResolvedPolicies(Collections.<BlueprintPolicy>emptyList(), new FieldPolicy[0][], Collections.<Set<Command>>emptyList());
+
+    private final List<BlueprintPolicy> blueprintPolicies;
+    private final FieldPolicy[][] fieldPolicies;
+    private final List<Set<Command>> staticCommands;
+    private final boolean empty;
+
+    /**
+     * Create new ResolvedPolicies
+     *
+     * @param blueprintPolicies List of {@link BlueprintPolicy} for the Erector
+     * @param fieldPolicies     {@link FieldPolicy}s by the index of the field in {@link Erector#getBoundModelFields()},
+     *                          null for a field without Policies
+     * @param staticCommands    static {@link Command}s by the index of the field, null for a field without Commands
+     */
+    public ResolvedPolicies(List<BlueprintPolicy> blueprintPolicies, FieldPolicy[][] fieldPolicies, List<Set<Command>> staticCommands) {
+        this.blueprintPolicies = blueprintPolicies;
+        this.fieldPolicies = fieldPolicies;
+        this.staticCommands = staticCommands;
+
+        boolean none = blueprintPolicies.isEmpty();
+        for (FieldPolicy[] policies : fieldPolicies) {
+            none = none && policies == null;
+        }
+        for (Set<Command> commands : staticCommands) {
+            none = none && commands == null;
+        }
+        this.empty = none;
+    }
+
+    public List<BlueprintPolicy> getBlueprintPolicies() {
+        return blueprintPolicies;
+    }
+
+    /**
+     * {@link FieldPolicy}s of the field at the index
+     *
+     * @param idx int index of the field in {@link Erector#getBoundModelFields()}
+     * @return FieldPolicy array, or null if no Policies apply
+     */
+    public FieldPolicy[] getFieldPolicies(int idx) {
+        return idx < fieldPolicies.length ? fieldPolicies[idx] : null;
+    }
+
+    /**
+     * Static {@link Command}s of the field at the index
+     *
+     * @param idx int index of the field in {@link Erector#getBoundModelFields()}
+     * @return Set of Commands, or null if there are none
+     */
+    public Set<Command> getStaticCommands(int idx) {
+        return idx < staticCommands.size() ? staticCommands.get(idx) : null;
+    }
+
+    /**
+     * If no Policies apply
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+}
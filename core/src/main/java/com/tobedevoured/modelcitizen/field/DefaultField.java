@@ -18,11 +18,149 @@ package com.tobedevoured.modelcitizen.field;
  * limitations under the License.
  */
 
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.annotation.Unique;
+import com.tobedevoured.modelcitizen.callback.internal.Getable;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+import com.tobedevoured.modelcitizen.util.UniqueValues;
+
 /**
  * A {@link Default} annotated Field in the {@link Blueprint} with a default getValue()
- 
+ *
+ * A default for an int, long, float, double or boolean field is also kept unboxed
+ * and injected with the primitive setters of the {@link PropertyAccessor}.
+ *
  * @author Michael Guymon
  */
 public class DefaultField extends ModelField {
-	
+
+	private Class primitiveType;
+	private long longValue;
+	private double doubleValue;
+	private boolean booleanValue;
+	private UniqueValues uniqueValues;
+
+	/**
+	 * Set the default of a primitive field. The boxed value remains available
+	 * from {@link #getValue()}.
+	 *
+	 * @param primitiveType Class of the primitive field, such as float.class
+	 * @param value Object boxed default
+	 */
+	public void setPrimitiveValue(Class primitiveType, Object value) {
+		setValue(value);
+
+		if ( int.class.equals( primitiveType ) || long.class.equals( primitiveType ) ) {
+			longValue = ((Number)value).longValue();
+		} else if ( float.class.equals( primitiveType ) || double.class.equals( primitiveType ) ) {
+			doubleValue = ((Number)value).doubleValue();
+		} else if ( boolean.class.equals( primitiveType ) ) {
+			booleanValue = (Boolean)value;
+		} else {
+			// byte, short and char are injected boxed
+			this.primitiveType = null;
+			return;
+		}
+
+		this.primitiveType = primitiveType;
+	}
+
+	/**
+	 * Primitive Class of the field if the default is kept unboxed, otherwise null
+	 *
+	 * @return Class
+	 */
+	public Class getPrimitiveType() {
+		return primitiveType;
+	}
+
+	public boolean isPrimitive() {
+		return primitiveType != null;
+	}
+
+	/**
+	 * Inject the unboxed default into the model with the primitive setter of the accessor,
+	 * or the boxed default if the accessor does not write the property unboxed
+	 *
+	 * @param accessor {@link PropertyAccessor}
+	 * @param model T
+	 * @param idx int index of the field's property
+	 * @return T model
+	 * @throws BlueprintTemplateException
+	 */
+	public <T> T injectPrimitive(PropertyAccessor accessor, T model, int idx) throws BlueprintTemplateException {
+		// The accessor would box, so inject the boxed default that is already held
+		if ( !accessor.isUnboxed( idx ) ) {
+			return accessor.set( model, idx, getValue() );
+		} else if ( int.class.equals( primitiveType ) ) {
+			return accessor.setInt( model, idx, (int)longValue );
+		} else if ( long.class.equals( primitiveType ) ) {
+			return accessor.setLong( model, idx, longValue );
+		} else if ( float.class.equals( primitiveType ) ) {
+			return accessor.setFloat( model, idx, (float)doubleValue );
+		} else if ( double.class.equals( primitiveType ) ) {
+			return accessor.setDouble( model, idx, doubleValue );
+		} else if ( boolean.class.equals( primitiveType ) ) {
+			return accessor.setBoolean( model, idx, booleanValue );
+		} else {
+			return accessor.set( model, idx, getValue() );
+		}
+	}
+
+	/**
+	 * Values used by a {@link Unique} field, otherwise null
+	 *
+	 * @return {@link UniqueValues}
+	 */
+	public UniqueValues getUniqueValues() {
+		return uniqueValues;
+	}
+
+	public void setUniqueValues(UniqueValues uniqueValues) {
+		this.uniqueValues = uniqueValues;
+	}
+
+	/**
+	 * Value of a {@link Unique} field that has not been used, calling the callback again while
+	 * its value has been used. A null value is not checked.
+	 *
+	 * @param value Object value of the field
+	 * @param callback {@link Getable} the value came from, or null
+	 * @param referenceModel Object passed to the callback
+	 * @return Object unique value
+	 * @throws CreateModelException if no unique value was found within the attempts
+	 */
+	public Object uniqueValue( Object value, Getable callback, Object referenceModel ) throws CreateModelException {
+		return uniqueValue( value, callback, referenceModel, 0 );
+	}
+
+	/**
+	 * Value of a {@link Unique} field that has not been used by another owner, see
+	 * {@link UniqueValues#add(Object, long)}
+	 *
+	 * @param value Object value of the field
+	 * @param callback {@link Getable} the value came from, or null
+	 * @param referenceModel Object passed to the callback
+	 * @param owner long owner of the value, 0 for none
+	 * @return Object unique value
+	 * @throws CreateModelException if no unique value was found within the attempts
+	 */
+	public Object uniqueValue( Object value, Getable callback, Object referenceModel, long owner ) throws CreateModelException {
+		if ( uniqueValues == null ) {
+			return value;
+		}
+
+		int attempt = 1;
+		while ( value != null && !uniqueValues.add( value, owner ) ) {
+			if ( callback == null || attempt >= uniqueValues.getAttempts() ) {
+				throw new CreateModelException( "Unable to create a unique value for field " + getName() + " after " + attempt + " attempts" );
+			}
+
+			value = callback.get( referenceModel );
+			attempt++;
+		}
+
+		return value;
+	}
 }
@@ -0,0 +1,295 @@
+package com.tobedevoured.modelcitizen.field;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.annotation.ArrayFill;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.MappedArray;
+
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+import java.util.Arrays;
+
+/**
+ * A {@link MappedArray} annotated Field in the {@link Blueprint}. The target is the
+ * component type of the array, either a Model class or a primitive.
+ */
+public class MappedArrayField extends ModelField {
+
+    private int size;
+    private String alias;
+    private ArrayFill fill = ArrayFill.CONSTANT;
+    private double fillValue;
+    private double step = 1;
+    private double min;
+    private double max;
+    private long seed;
+
+    /**
+     * Length of the array to create
+     *
+     * @return int
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public void setAlias(String alias) {
+        this.alias = alias;
+    }
+
+    public ArrayFill getFill() {
+        return fill;
+    }
+
+    public void setFill(ArrayFill fill) {
+        this.fill = fill;
+    }
+
+    /**
+     * Value of a {@link ArrayFill#CONSTANT} fill, or first value of a {@link ArrayFill#SEQUENCE}
+     *
+     * @return double
+     */
+    public double getFillValue() {
+        return fillValue;
+    }
+
+    public void setFillValue(double fillValue) {
+        this.fillValue = fillValue;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public void setStep(double step) {
+        this.step = step;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public void setMin(double min) {
+        this.min = min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    /**
+     * Seed of a {@link ArrayFill#RANDOM} fill, combined with the random bits each array is created from
+     *
+     * @return long
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * If the target is a primitive, filled by {@link #createPrimitiveArray(int)}
+     *
+     * @return boolean
+     */
+    public boolean isPrimitive() {
+        return getTarget() != null && getTarget().isPrimitive();
+    }
+
+    /**
+     * If the primitive type can be filled
+     *
+     * @param type Class
+     * @return boolean
+     */
+    public static boolean isFillable(Class type) {
+        return int.class.equals(type) || long.class.equals(type) || float.class.equals(type) ||
+                double.class.equals(type) || short.class.equals(type) || byte.class.equals(type);
+    }
+
+    /**
+     * Create an array of the primitive target, filled in a single loop. The values of a
+     * {@link ArrayFill#RANDOM} fill are a SplitMix stream of the random bits and the seed
+     * of the field, local to the array.
+     *
+     * @param length int
+     * @param random long random bits of the array
+     * @return Object primitive array
+     */
+    public Object createPrimitiveArray(int length, long random) {
+        Class type = getTarget();
+        long state = SplitMix.mix(random + seed);
+        if (int.class.equals(type)) {
+            return fill(new int[length], state);
+        } else if (long.class.equals(type)) {
+            return fill(new long[length], state);
+        } else if (double.class.equals(type)) {
+            return fill(new double[length], state);
+        } else if (float.class.equals(type)) {
+            return fill(new float[length], state);
+        } else if (short.class.equals(type)) {
+            return fill(new short[length], state);
+        } else if (byte.class.equals(type)) {
+            return fill(new byte[length], state);
+        }
+
+        throw new IllegalStateException("Can not fill array of " + type);
+    }
+
+    /**
+     * Random int in [lower, lower + bound) from random bits, by multiplying the high 32 bits
+     */
+    private static int nextInt(long random, int lower, long bound) {
+        return lower + (int) (((random >>> 32) * bound) >>> 32);
+    }
+
+    private int[] fill(int[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, (int) fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            int start = (int) fillValue;
+            int increment = (int) step;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = start + i * increment;
+            }
+        } else {
+            int lower = (int) min;
+            long bound = (int) max - lower;
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = nextInt(SplitMix.mix(state), lower, bound);
+            }
+        }
+        return array;
+    }
+
+    private short[] fill(short[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, (short) fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            int start = (int) fillValue;
+            int increment = (int) step;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (short) (start + i * increment);
+            }
+        } else {
+            int lower = (int) min;
+            long bound = (int) max - lower;
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = (short) nextInt(SplitMix.mix(state), lower, bound);
+            }
+        }
+        return array;
+    }
+
+    private byte[] fill(byte[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, (byte) fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            int start = (int) fillValue;
+            int increment = (int) step;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (byte) (start + i * increment);
+            }
+        } else {
+            int lower = (int) min;
+            long bound = (int) max - lower;
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = (byte) nextInt(SplitMix.mix(state), lower, bound);
+            }
+        }
+        return array;
+    }
+
+    private long[] fill(long[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, (long) fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            long start = (long) fillValue;
+            long increment = (long) step;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = start + i * increment;
+            }
+        } else {
+            long lower = (long) min;
+            double range = (long) max - lower;
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = lower + (long) (SplitMix.toUnit(SplitMix.mix(state)) * range);
+            }
+        }
+        return array;
+    }
+
+    private double[] fill(double[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = fillValue + i * step;
+            }
+        } else {
+            double range = max - min;
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = min + SplitMix.toUnit(SplitMix.mix(state)) * range;
+            }
+        }
+        return array;
+    }
+
+    private float[] fill(float[] array, long state) {
+        if (fill == ArrayFill.CONSTANT) {
+            Arrays.fill(array, (float) fillValue);
+        } else if (fill == ArrayFill.SEQUENCE) {
+            float start = (float) fillValue;
+            float increment = (float) step;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = start + i * increment;
+            }
+        } else {
+            float lower = (float) min;
+            float range = (float) (max - min);
+            for (int i = 0; i < array.length; i++) {
+                state += SplitMix.GAMMA;
+                array[i] = lower + (float) SplitMix.toUnit(SplitMix.mix(state)) * range;
+            }
+        }
+        return array;
+    }
+}
@@ -18,6 +18,7 @@ package com.tobedevoured.modelcitizen.field;
  * limitations under the License.
  */
 
+import com.tobedevoured.modelcitizen.ModelFactory;
 import com.tobedevoured.modelcitizen.annotation.Blueprint;
 import com.tobedevoured.modelcitizen.annotation.MappedList;
 
@@ -36,6 +37,7 @@ public class MappedListField extends ModelField {
 	private Class targetList;
     private boolean ignoreEmpty;
     private String[] aliases;
+    private int window;
 
     /**
 	 * Size of List to create
@@ -74,6 +76,37 @@ public class MappedListField extends ModelField {
         this.aliases = aliases;
     }
 
+    /**
+     * Alias of the Blueprint for the Model at the index. The aliases repeat for a List larger
+     * than them, and {@link ModelFactory#DEFAULT_BLUEPRINT_NAME} is used when there are none.
+     *
+     * @param index int
+     * @return String
+     */
+    public String getAlias(int index) {
+        if (aliases == null || aliases.length == 0) {
+            return ModelFactory.DEFAULT_BLUEPRINT_NAME;
+        }
+        return aliases[index % aliases.length];
+    }
+
+    /**
+     * Number of Models kept by a virtual List, 0 if the List is not virtual
+     *
+     * @return int
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    public boolean isVirtual() {
+        return window > 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -84,6 +117,7 @@ public class MappedListField extends ModelField {
 
         if (ignoreEmpty != that.ignoreEmpty) return false;
         if (size != that.size) return false;
+        if (window != that.window) return false;
         if (!targetList.equals(that.targetList)) return false;
         if (!Arrays.equals(aliases, that.aliases)) return false;
 
@@ -97,6 +131,7 @@ public class MappedListField extends ModelField {
         result = 31 * result + targetList.hashCode();
         result = 31 * result + (ignoreEmpty ? 1 : 0);
         result = 31 * result + Arrays.hashCode(aliases);
+        result = 31 * result + window;
         return result;
     }
 }
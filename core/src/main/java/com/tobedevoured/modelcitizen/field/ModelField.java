@@ -18,6 +18,9 @@ package com.tobedevoured.modelcitizen.field;
  * limitations under the License.
  */
 
+import com.tobedevoured.modelcitizen.Scope;
+import com.tobedevoured.modelcitizen.collection.CollectionFactory;
+
 /**
  * Annotated Field in a {@link Blueprint}
  * 
@@ -30,6 +33,11 @@ public abstract class ModelField {
 	private Object value;
 	private Class fieldClass;
 	private Class target;
+	private Scope internScope;
+	private boolean lazy = false;
+	private CollectionFactory collectionFactory;
+	private String backReference;
+	private boolean parallel = false;
 
 	public Class getFieldClass() {
 		return fieldClass;
@@ -64,6 +72,73 @@ public abstract class ModelField {
 	}
 
 
+	/**
+	 * {@link Scope} the Models created for the field are interned in, or null if not interned
+	 *
+	 * @return Scope
+	 */
+	public Scope getInternScope() {
+		return internScope;
+	}
+
+	public void setInternScope(Scope internScope) {
+		this.internScope = internScope;
+	}
+
+	/**
+	 * If the Models of the field are created when first read
+	 *
+	 * @return boolean
+	 */
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	/**
+	 * {@link CollectionFactory} for the List or Set of the field, or null to use the
+	 * CollectionFactory of the ModelFactory
+	 *
+	 * @return CollectionFactory
+	 */
+	public CollectionFactory getCollectionFactory() {
+		return collectionFactory;
+	}
+
+	public void setCollectionFactory(CollectionFactory collectionFactory) {
+		this.collectionFactory = collectionFactory;
+	}
+
+	/**
+	 * Property of the Models created for the field that is set to the Model being created,
+	 * or null if not set
+	 *
+	 * @return String
+	 */
+	public String getBackReference() {
+		return backReference;
+	}
+
+	public void setBackReference(String backReference) {
+		this.backReference = backReference;
+	}
+
+	/**
+	 * If the Models of the field are created in parallel
+	 *
+	 * @return boolean
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
     public boolean isForce() {
         return force;
     }
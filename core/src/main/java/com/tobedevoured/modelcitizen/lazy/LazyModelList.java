@@ -0,0 +1,205 @@
+package com.tobedevoured.modelcitizen.lazy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.UncheckedCreateModelException;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List for a lazy {@link MappedListField} that creates each Model the first time it is read.
+ * The List can be modified like an ArrayList, Models that are replaced or removed before
+ * being read are never created. A failure creating a Model is thrown as an
+ * {@link UncheckedCreateModelException}.
+ * <p>
+ * The {@link Projection}, {@link SizeOverrides} and stream of random bits of the List are
+ * captured when it is created, so a Model read later is created as it would have been
+ * eagerly, from the stream and its position in the List.
+ */
+public class LazyModelList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Placeholder for a Model that has not been created, at its original position
+     */
+    private static final Object NOT_CREATED = new Object();
+
+    private final ModelFactory modelFactory;
+    private final MappedListField listField;
+    private final Projection projection;
+    private final SizeOverrides sizeOverrides;
+    private final long stream;
+    private final List<Object> elements;
+    private boolean shifted;
+
+    /**
+     * Create new LazyModelList of the size of the MappedListField
+     *
+     * @param modelFactory {@link ModelFactory} creating the Models
+     * @param listField {@link MappedListField}
+     */
+    public LazyModelList(ModelFactory modelFactory, MappedListField listField) {
+        this(modelFactory, listField, listField.getSize());
+    }
+
+    /**
+     * Create new LazyModelList
+     *
+     * @param modelFactory {@link ModelFactory} creating the Models
+     * @param listField {@link MappedListField}
+     * @param size int number of Models
+     */
+    public LazyModelList(ModelFactory modelFactory, MappedListField listField, int size) {
+        this(modelFactory, listField, size, null, null, modelFactory.nextRandom());
+    }
+
+    /**
+     * Create new LazyModelList
+     *
+     * @param modelFactory {@link ModelFactory} creating the Models
+     * @param listField {@link MappedListField}
+     * @param size int number of Models
+     * @param projection {@link Projection} of the Models, or null for all fields
+     * @param sizeOverrides {@link SizeOverrides} of the Models, or null
+     * @param stream long stream of random bits the positions are combined with
+     */
+    public LazyModelList(ModelFactory modelFactory, MappedListField listField, int size, Projection projection, SizeOverrides sizeOverrides, long stream) {
+        this.modelFactory = modelFactory;
+        this.listField = listField;
+        this.projection = projection;
+        this.sizeOverrides = sizeOverrides;
+        this.stream = stream;
+        this.elements = new ArrayList<Object>(Collections.nCopies(size, NOT_CREATED));
+    }
+
+    private LazyModelList(LazyModelList<E> list) {
+        this.modelFactory = list.modelFactory;
+        this.listField = list.listField;
+        this.projection = list.projection;
+        this.sizeOverrides = list.sizeOverrides;
+        this.stream = list.stream;
+        this.elements = new ArrayList<Object>(list.elements);
+        this.shifted = list.shifted;
+    }
+
+    /**
+     * Shallow copy of the List: the created Models are shared, the Models not yet created are
+     * created by the copy when it is read, as they would have been by this List
+     *
+     * @return LazyModelList
+     */
+    public synchronized LazyModelList<E> copy() {
+        return new LazyModelList<E>(this);
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        Object element = elements.get(index);
+        if (element == NOT_CREATED) {
+            element = create(index);
+            elements.set(index, element);
+        } else if (element instanceof NotCreated) {
+            element = create(((NotCreated) element).position);
+            elements.set(index, element);
+        }
+
+        return (E) element;
+    }
+
+    @Override
+    public synchronized E set(int index, E element) {
+        Object previous = elements.set(index, element);
+        return isCreated(previous) ? (E) previous : null;
+    }
+
+    @Override
+    public synchronized void add(int index, E element) {
+        shift();
+        elements.add(index, element);
+    }
+
+    @Override
+    public synchronized E remove(int index) {
+        shift();
+        Object previous = elements.remove(index);
+        return isCreated(previous) ? (E) previous : null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return elements.size();
+    }
+
+    /**
+     * If the Model at the index has been created or set
+     *
+     * @param index int
+     * @return boolean
+     */
+    public synchronized boolean isCreated(int index) {
+        return isCreated(elements.get(index));
+    }
+
+    private static boolean isCreated(Object element) {
+        return element != NOT_CREATED && !(element instanceof NotCreated);
+    }
+
+    /**
+     * Before the first Model is added or removed, the shared placeholders are replaced by
+     * placeholders that keep their original position
+     */
+    private void shift() {
+        if (!shifted) {
+            for (int x = 0; x < elements.size(); x++) {
+                if (elements.get(x) == NOT_CREATED) {
+                    elements.set(x, new NotCreated(x));
+                }
+            }
+            shifted = true;
+        }
+    }
+
+    private Object create(int position) {
+        try {
+            return modelFactory.createMappedModel(listField, listField.getAlias(position), projection, sizeOverrides, SplitMix.at(stream, position));
+        } catch (CreateModelException e) {
+            throw new UncheckedCreateModelException(e);
+        }
+    }
+
+    /**
+     * Placeholder for a Model that has not been created, once Models have been added or removed
+     */
+    private static class NotCreated {
+        private final int position;
+
+        NotCreated(int position) {
+            this.position = position;
+        }
+    }
+}
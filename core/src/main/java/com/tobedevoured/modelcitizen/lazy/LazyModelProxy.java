@@ -0,0 +1,103 @@
+package com.tobedevoured.modelcitizen.lazy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.UncheckedCreateModelException;
+import com.tobedevoured.modelcitizen.field.MappedField;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Proxy for a lazy {@link MappedField} that creates the Model on the first method call and
+ * delegates every call to it, a failure creating the Model is thrown as an
+ * {@link UncheckedCreateModelException}. A JDK proxy can only implement interfaces, so the field must be
+ * declared as an interface the Model implements.
+ */
+public class LazyModelProxy implements InvocationHandler {
+
+    private final ModelFactory modelFactory;
+    private final MappedField mappedField;
+    private final String blueprintName;
+    private Object model;
+
+    private LazyModelProxy(ModelFactory modelFactory, MappedField mappedField, String blueprintName) {
+        this.modelFactory = modelFactory;
+        this.mappedField = mappedField;
+        this.blueprintName = blueprintName;
+    }
+
+    /**
+     * Create new proxy for the {@link MappedField}, implementing its field class
+     *
+     * @param modelFactory {@link ModelFactory} creating the Model
+     * @param mappedField {@link MappedField}
+     * @param blueprintName name for identified template for the field target
+     * @return Object proxy
+     */
+    public static Object create(ModelFactory modelFactory, MappedField mappedField, String blueprintName) {
+        Class fieldClass = mappedField.getFieldClass();
+        return Proxy.newProxyInstance(fieldClass.getClassLoader(), new Class[]{fieldClass},
+                new LazyModelProxy(modelFactory, mappedField, blueprintName));
+    }
+
+    /**
+     * If the proxy has created its Model, false if the object is not a lazy proxy
+     *
+     * @param proxy Object
+     * @return boolean
+     */
+    public static boolean isCreated(Object proxy) {
+        if (proxy != null && Proxy.isProxyClass(proxy.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(proxy);
+            if (handler instanceof LazyModelProxy) {
+                return ((LazyModelProxy) handler).isModelCreated();
+            }
+        }
+
+        return false;
+    }
+
+    private synchronized boolean isModelCreated() {
+        return model != null;
+    }
+
+    private synchronized Object getModel() {
+        if (model == null) {
+            try {
+                model = modelFactory.createMappedModel(mappedField, blueprintName);
+            } catch (CreateModelException e) {
+                throw new UncheckedCreateModelException(e);
+            }
+        }
+        return model;
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(getModel(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.tobedevoured.modelcitizen.lazy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.UncheckedCreateModelException;
+import com.tobedevoured.modelcitizen.cache.ModelCache;
+import com.tobedevoured.modelcitizen.field.MappedListField;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List for a virtual {@link MappedListField} that holds no Models: the Model at an index is created
+ * each time it is read, from the seed of the {@link ModelFactory}, the stream of the List and the index,
+ * so reading an index again gives an equal Model. The last Models read are kept in a window, so
+ * iterating creates each Model once. Changes to a Model that has left the window are lost.
+ * <p>
+ * Modifying the List creates every Model into an ArrayList that the List then behaves as. A failure
+ * creating a Model is thrown as an {@link UncheckedCreateModelException}.
+ */
+public class VirtualModelList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final ModelFactory modelFactory;
+    private final MappedListField listField;
+    private final int size;
+    private final long stream;
+    private final ModelCache window;
+    private List<E> materialized;
+
+    /**
+     * Create new VirtualModelList
+     *
+     * @param modelFactory {@link ModelFactory} creating the Models
+     * @param listField {@link MappedListField}
+     * @param size int number of Models
+     * @param stream long stream of random bits the indexes are combined with
+     */
+    public VirtualModelList(ModelFactory modelFactory, MappedListField listField, int size, long stream) {
+        this.modelFactory = modelFactory;
+        this.listField = listField;
+        this.size = size;
+        this.stream = stream;
+        this.window = new ModelCache();
+        this.window.setMaximumSize(Math.max(1, listField.getWindow()));
+    }
+
+    /**
+     * Shallow copy of the List. Until the List is modified the copy holds no Models and creates
+     * them from the same stream, afterwards it shares the Models of the modified List.
+     *
+     * @return VirtualModelList
+     */
+    public synchronized VirtualModelList<E> copy() {
+        VirtualModelList<E> copy = new VirtualModelList<E>(modelFactory, listField, size, stream);
+        if (materialized != null) {
+            copy.materialized = new ArrayList<E>(materialized);
+        }
+        return copy;
+    }
+
+    @Override
+    public synchronized E get(int index) {
+        if (materialized != null) {
+            return materialized.get(index);
+        }
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        E element = (E) window.get(index);
+        if (element == null) {
+            element = create(index);
+            window.put(index, element);
+        }
+        return element;
+    }
+
+    @Override
+    public synchronized E set(int index, E element) {
+        return materialize().set(index, element);
+    }
+
+    @Override
+    public synchronized void add(int index, E element) {
+        materialize().add(index, element);
+    }
+
+    @Override
+    public synchronized E remove(int index) {
+        return materialize().remove(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return materialized != null ? materialized.size() : size;
+    }
+
+    /**
+     * If every Model has been created because the List was modified
+     *
+     * @return boolean
+     */
+    public synchronized boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    /**
+     * Create every Model not in the window into the List backing the List from now on
+     */
+    private List<E> materialize() {
+        if (materialized == null) {
+            List<E> elements = new ArrayList<E>(size);
+            for (int x = 0; x < size; x++) {
+                E element = (E) window.get(x);
+                elements.add(element != null ? element : create(x));
+            }
+            materialized = elements;
+            window.invalidateAll();
+        }
+        return materialized;
+    }
+
+    private E create(int index) {
+        try {
+            return (E) modelFactory.createSeededModel(listField.getAlias(index), listField.getTarget(), SplitMix.at(stream, index));
+        } catch (CreateModelException e) {
+            throw new UncheckedCreateModelException(e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.erector.Command;
+import com.tobedevoured.modelcitizen.field.MappedField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+
+/**
+ * Set {@link Mapped} fields in {@link Blueprint}s from a pool of Models, so many Models share
+ * a bounded number of mapped Models. Between a new Model for every field and
+ * {@link MappedSingletonPolicy}.
+ *
+ * The pool of Models is created with {@link ModelFactory#createModel(String, Class, boolean)}, without
+ * running any Policy, either up front by {@link #fill(ModelFactory)} or as each slot is first drawn.
+ * Models are drawn {@link Selection#ROUND_ROBIN} from an atomic counter, or {@link Selection#RANDOM} from
+ * {@link ModelFactory#nextRandom()}, so drawing does not lock and random slots only depend on the seed of
+ * the ModelFactory and the Model they are drawn for.
+ */
+public class MappedPoolPolicy implements FieldPolicy {
+
+	/**
+	 * Order Models are drawn from the pool
+	 */
+	public enum Selection {
+		/**
+		 * Slot 0, 1, ..., size - 1, 0, 1, ...
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Pseudo random slots, uniform over the pool and determined by the seed of the ModelFactory
+		 */
+		RANDOM
+	}
+
+	private Logger logger = LoggerFactory.getLogger( this.getClass() );
+
+	private final Class poolClass;
+	private final String blueprintName;
+	private final Selection selection;
+	private final AtomicReferenceArray<Object> pool;
+	private final AtomicLong draws = new AtomicLong();
+
+	/**
+	 * Create new pool of Models from a registered Class
+	 *
+	 * @param blueprintName String alias of the Blueprint creating the pool
+	 * @param poolClass Class
+	 * @param size int number of Models in the pool
+	 * @param selection {@link Selection}
+	 */
+	public MappedPoolPolicy(String blueprintName, Class poolClass, int size, Selection selection) {
+		super();
+
+		if ( size < 1 ) {
+			throw new IllegalArgumentException( "Pool size must be at least 1" );
+		}
+
+		this.blueprintName = blueprintName;
+		this.poolClass = poolClass;
+		this.selection = selection;
+		this.pool = new AtomicReferenceArray<Object>( size );
+	}
+
+	public MappedPoolPolicy(Class poolClass, int size, Selection selection) {
+		this(ModelFactory.DEFAULT_BLUEPRINT_NAME, poolClass, size, selection);
+	}
+
+	public MappedPoolPolicy(Class poolClass, int size) {
+		this(ModelFactory.DEFAULT_BLUEPRINT_NAME, poolClass, size, Selection.ROUND_ROBIN);
+	}
+
+	public Command process(ModelFactory modelFactory, Erector erector, ModelField modelField, Object model) throws PolicyException {
+
+		// Lists, Sets and arrays are created as usual
+		if ( !(modelField instanceof MappedField) ) {
+			return null;
+		}
+
+		// A @Nullable field is left to the Blueprint, so it does not draw from the pool
+		if ( ((MappedField) modelField).isNullable() ) {
+			return null;
+		}
+
+		Object value;
+		try {
+			value = draw( modelFactory );
+		} catch (CreateModelException e) {
+			throw new PolicyException( e );
+		}
+
+		try {
+			erector.getTemplate().set( model, modelField.getName(), value );
+		} catch (BlueprintTemplateException e) {
+			throw new PolicyException(e);
+		}
+
+		return Command.SKIP_INJECTION;
+	}
+
+	/**
+	 * Draw the next Model from the pool, creating it if the slot is empty
+	 *
+	 * @param modelFactory {@link ModelFactory}
+	 * @return Object
+	 * @throws CreateModelException
+	 */
+	public Object draw( ModelFactory modelFactory ) throws CreateModelException {
+		return get( modelFactory, nextSlot( modelFactory ) );
+	}
+
+	/**
+	 * Create every Model of the pool that has not been created
+	 *
+	 * @param modelFactory {@link ModelFactory}
+	 * @throws CreateModelException
+	 */
+	public void fill( ModelFactory modelFactory ) throws CreateModelException {
+		for ( int slot = 0; slot < pool.length(); slot++ ) {
+			get( modelFactory, slot );
+		}
+	}
+
+	/**
+	 * The Models of the pool created so far, in slot order
+	 *
+	 * @return List
+	 */
+	public List<Object> getPool() {
+		List<Object> models = new ArrayList<Object>( pool.length() );
+		for ( int slot = 0; slot < pool.length(); slot++ ) {
+			Object model = pool.get( slot );
+			if ( model != null ) {
+				models.add( model );
+			}
+		}
+		return models;
+	}
+
+	private int nextSlot( ModelFactory modelFactory ) {
+		if ( selection == Selection.RANDOM ) {
+			return (int) ((modelFactory.nextRandom() >>> 1) % pool.length());
+		}
+		return (int) (draws.getAndIncrement() % pool.length());
+	}
+
+	private Object get( ModelFactory modelFactory, int slot ) throws CreateModelException {
+		Object model = pool.get( slot );
+		if ( model == null ) {
+			logger.debug( "  creating pooled {} for slot {}", poolClass, slot );
+
+			// Models drawn at the same time may both be created, the first one set is kept
+			Object created = modelFactory.createModel( blueprintName, poolClass, false );
+			if ( pool.compareAndSet( slot, null, created ) ) {
+				model = created;
+			} else {
+				model = pool.get( slot );
+			}
+		}
+		return model;
+	}
+
+	public int getSize() {
+		return pool.length();
+	}
+
+	public Selection getSelection() {
+		return selection;
+	}
+
+	public Class getTarget() {
+		return poolClass;
+	}
+
+	public String getBlueprintName() {
+		return blueprintName;
+	}
+}
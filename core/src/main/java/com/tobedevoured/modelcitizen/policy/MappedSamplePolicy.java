@@ -0,0 +1,113 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.erector.Command;
+import com.tobedevoured.modelcitizen.field.MappedField;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.sampler.Population;
+import com.tobedevoured.modelcitizen.sampler.Sampler;
+import com.tobedevoured.modelcitizen.sampler.UniformSampler;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+
+/**
+ * Set {@link Mapped} fields in {@link Blueprint}s to Models sampled from an existing {@link Population},
+ * such as orders referencing customers created before them. The {@link Sampler} decides how often each
+ * Model is referenced, for example a {@link com.tobedevoured.modelcitizen.sampler.ZipfSampler} for a few hot
+ * Models. Each draw takes its random bits from {@link ModelFactory#nextRandom()}, so the Models sampled
+ * are deterministic under the seed of the ModelFactory.
+ */
+public class MappedSamplePolicy implements FieldPolicy {
+
+	private Logger logger = LoggerFactory.getLogger( this.getClass() );
+
+	private final Class target;
+	private final Population population;
+	private final Sampler sampler;
+
+	/**
+	 * Create new MappedSamplePolicy
+	 *
+	 * @param target Class of the {@link Mapped} fields
+	 * @param population {@link Population} sampled
+	 * @param sampler {@link Sampler} of the indexes of the population
+	 */
+	public MappedSamplePolicy(Class target, Population population, Sampler sampler) {
+		super();
+
+		if ( sampler.size() > population.size() ) {
+			throw new IllegalArgumentException( "Sampler of " + sampler.size() + " indexes exceeds population of " + population.size() );
+		}
+
+		this.target = target;
+		this.population = population;
+		this.sampler = sampler;
+	}
+
+	/**
+	 * Create new MappedSamplePolicy sampling the population uniformly
+	 *
+	 * @param target Class of the {@link Mapped} fields
+	 * @param population {@link Population} sampled
+	 */
+	public MappedSamplePolicy(Class target, Population population) {
+		this(target, population, new UniformSampler( population.size() ));
+	}
+
+	public Command process(ModelFactory modelFactory, Erector erector, ModelField modelField, Object model) throws PolicyException {
+
+		// Lists, Sets and arrays are created as usual, as are @Nullable fields
+		if ( !(modelField instanceof MappedField) || ((MappedField) modelField).isNullable() ) {
+			return null;
+		}
+
+		long index = sampler.sample( modelFactory.nextRandom() );
+		logger.debug( "  sampled {} at index {}", target, index );
+
+		try {
+			erector.getTemplate().set( model, modelField.getName(), population.get( index ) );
+		} catch (CreateModelException e) {
+			throw new PolicyException( e );
+		} catch (BlueprintTemplateException e) {
+			throw new PolicyException( e );
+		}
+
+		return Command.SKIP_INJECTION;
+	}
+
+	public Class getTarget() {
+		return target;
+	}
+
+	public Population getPopulation() {
+		return population;
+	}
+
+	public Sampler getSampler() {
+		return sampler;
+	}
+}
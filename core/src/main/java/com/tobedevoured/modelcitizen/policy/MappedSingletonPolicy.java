@@ -23,9 +23,11 @@ import com.tobedevoured.modelcitizen.annotation.Mapped;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.tobedevoured.modelcitizen.CreateContext;
 import com.tobedevoured.modelcitizen.CreateModelException;
 import com.tobedevoured.modelcitizen.Erector;
 import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.Scope;
 import com.tobedevoured.modelcitizen.erector.Command;
 import com.tobedevoured.modelcitizen.field.MappedField;
 import com.tobedevoured.modelcitizen.field.ModelField;
@@ -44,14 +46,20 @@ import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
  * If constructed with a Model, the Model will be used for all @Mapped instances of
  * Model's class in registered {@link Blueprint}s.
  *
+ * A created singleton is shared in the {@link Scope} of the Policy, by default {@link Scope#FACTORY}.
+ * Reading a created singleton does not lock, a {@link Scope#FACTORY} singleton is created once
+ * under a lock, a {@link Scope#THREAD} singleton once per thread and a {@link Scope#BATCH} singleton
+ * once per createModel or createModels call.
  */
 public class MappedSingletonPolicy implements FieldPolicy {
 
 	private Logger logger = LoggerFactory.getLogger( this.getClass() );
 
 	private Class singletonClass;
-	private Object singleton;
+	private volatile Object singleton;
 	private String blueprintName;
+	private final Scope scope;
+	private final ThreadLocal<Object> threadSingleton = new ThreadLocal<Object>();
 
 	/**
 	 * Create new Singleton with from a registered Class.
@@ -59,9 +67,25 @@ public class MappedSingletonPolicy implements FieldPolicy {
 	 * @param singletonClass Class
 	 */
 	public MappedSingletonPolicy(String blueprintName, Class singletonClass) {
+		this(blueprintName, singletonClass, Scope.FACTORY);
+	}
+
+	/**
+	 * Create new Singleton from a registered Class, shared in the {@link Scope}
+	 *
+	 * @param blueprintName String
+	 * @param singletonClass Class
+	 * @param scope {@link Scope}
+	 */
+	public MappedSingletonPolicy(String blueprintName, Class singletonClass, Scope scope) {
 		super();
 		this.singletonClass = singletonClass;
 		this.blueprintName = blueprintName;
+		this.scope = scope;
+	}
+
+	public MappedSingletonPolicy(Class singletonClass, Scope scope) {
+		this(ModelFactory.DEFAULT_BLUEPRINT_NAME, singletonClass, scope);
 	}
 
 	public MappedSingletonPolicy(Class singletonClass) {
@@ -78,13 +102,19 @@ public class MappedSingletonPolicy implements FieldPolicy {
 
 		this.blueprintName = blueprintName;
 		this.singleton = model;
-		this.singletonClass = this.singleton.getClass();
+		this.singletonClass = model.getClass();
+		this.scope = Scope.FACTORY;
 	}
 
 	public MappedSingletonPolicy(Object model) {
 		this(ModelFactory.DEFAULT_BLUEPRINT_NAME, model);
 	}
 
+	/**
+	 * The Model constructed with or the {@link Scope#FACTORY} singleton, used in every Scope if set
+	 *
+	 * @return Object, or null if not created
+	 */
 	public Object getSingleton() {
 		return singleton;
 	}
@@ -93,24 +123,87 @@ public class MappedSingletonPolicy implements FieldPolicy {
 		this.singleton = singleton;
 	}
 
+	public Scope getScope() {
+		return scope;
+	}
+
+	/**
+	 * The singleton of the {@link Scope}, created if it does not exist
+	 *
+	 * @param modelFactory {@link ModelFactory}
+	 * @return Object
+	 * @throws CreateModelException
+	 */
+	public Object getSingleton( ModelFactory modelFactory ) throws CreateModelException {
+		Object value = singleton;
+		if ( value != null ) {
+			return value;
+		}
+
+		switch ( scope ) {
+			case THREAD:
+				value = threadSingleton.get();
+				if ( value == null ) {
+					value = createSingleton( modelFactory );
+					threadSingleton.set( value );
+				}
+				return value;
+
+			case BATCH:
+				CreateContext context = modelFactory.getCreateContext();
+				if ( context == null ) {
+					return createSingleton( modelFactory );
+				}
+
+				value = context.getAttribute( this );
+				if ( value == null ) {
+					// Models created in parallel may race to create it, only the first is kept
+					value = createSingleton( modelFactory );
+					Object existing = context.putAttributeIfAbsent( this, value );
+					if ( existing != null ) {
+						value = existing;
+					}
+				}
+				return value;
+
+			default:
+				synchronized ( this ) {
+					if ( singleton == null ) {
+						singleton = createSingleton( modelFactory );
+					}
+					return singleton;
+				}
+		}
+	}
+
+	/**
+	 * Clear the singleton created for the current thread
+	 */
+	public void clearThreadSingleton() {
+		threadSingleton.remove();
+	}
+
+	private Object createSingleton( ModelFactory modelFactory ) throws CreateModelException {
+		logger.debug( "  creating {} singleton for {}", scope, this.getTarget() );
+		return modelFactory.createModel( blueprintName, this.getTarget(), false );
+	}
+
 	public Command process(ModelFactory modelFactory, Erector erector, ModelField modelField, Object model) throws PolicyException {
 
 		logger.debug( "processing {} for {}", modelField, model );
 
 		// If Model has not be set, create a new one from ModelFactory
 		if ( modelField instanceof MappedField ) {
-			if ( this.getSingleton() == null ) {
-				logger.debug("  creating singleton for {}", this.getTarget() );
-				try {
-					this.setSingleton( modelFactory.createModel( this.getTarget(), false ) );
-				} catch (CreateModelException e) {
-					throw new PolicyException( e );
-				}
+			Object value;
+			try {
+				value = this.getSingleton( modelFactory );
+			} catch (CreateModelException e) {
+				throw new PolicyException( e );
 			}
 
 			// Set Singleton into model
 			try {
-				erector.getTemplate().set( model, modelField.getName(), this.getSingleton() );
+				erector.getTemplate().set( model, modelField.getName(), value );
 			} catch (BlueprintTemplateException e) {
 				throw new PolicyException(e);
 			}
@@ -35,7 +35,7 @@ import com.tobedevoured.modelcitizen.field.ModelField;
 /**
  * Always set a Field from @Blueprint
  */
-public class SkipReferenceFieldPolicy implements BlueprintPolicy {
+public class SkipReferenceFieldPolicy implements StaticBlueprintPolicy {
 
 	private Logger logger = LoggerFactory.getLogger( this.getClass() );
 	
@@ -63,6 +63,10 @@ public class SkipReferenceFieldPolicy implements BlueprintPolicy {
 	 * Prevents Model from being set by the Reference Model
 	 */
 	public Map<ModelField,Set<Command>> process(ModelFactory modelFactory, Erector erector, Object model) throws PolicyException {
+		return getStaticCommands( modelFactory, erector );
+	}
+
+	public Map<ModelField,Set<Command>> getStaticCommands(ModelFactory modelFactory, Erector erector) throws PolicyException {
 		
 		Map<ModelField,Set<Command>> modelFieldCommands = new HashMap<ModelField,Set<Command>>();
 		
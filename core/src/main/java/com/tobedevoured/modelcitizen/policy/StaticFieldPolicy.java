@@ -0,0 +1,43 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.erector.Command;
+import com.tobedevoured.modelcitizen.field.ModelField;
+
+/**
+ * {@link FieldPolicy} whose Command is the same for every Model created by an {@link Erector}.
+ * The Command is resolved once per field of the Erector,
+ * {@link #process(ModelFactory, Erector, ModelField, Object)} is not called when creating Models.
+ */
+public interface StaticFieldPolicy extends FieldPolicy {
+
+	/**
+	 * Command for the field of every Model created by the Erector
+	 *
+	 * @param modelFactory {@link ModelFactory}
+	 * @param erector {@link Erector}
+	 * @param modelField {@link ModelField}
+	 * @return Command, or null
+	 * @throws PolicyException
+	 */
+	public Command getStaticCommand(ModelFactory modelFactory, Erector erector, ModelField modelField) throws PolicyException;
+}
@@ -0,0 +1,170 @@
+package com.tobedevoured.modelcitizen.projection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fields of a Blueprint to populate when creating a Model, other fields are left as
+ * constructed. A path names a field, nested fields of mapped Models are separated by a
+ * period, such as <code>driver.name</code>. A mapped field named without nested fields is
+ * populated in full.
+ *
+ * A Projection is immutable and can be shared, the fields it includes are resolved once
+ * for each {@link Erector}.
+ */
+public class Projection {
+
+    private final Map<String, Projection> children;
+    private final Map<Erector, boolean[]> compiled = new ConcurrentHashMap<Erector, boolean[]>();
+
+    private Projection(Map<String, Projection> children) {
+        this.children = children;
+    }
+
+    /**
+     * Create new Projection of field paths
+     *
+     * @param paths String field paths
+     * @return Projection
+     */
+    public static Projection of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Create new Projection of field paths
+     *
+     * @param paths Collection of String field paths
+     * @return Projection
+     */
+    public static Projection of(Collection<String> paths) {
+        Map<String, List<String>> nested = new LinkedHashMap<String, List<String>>();
+        for (String path : paths) {
+            int separator = path.indexOf('.');
+            String name = separator < 0 ? path : path.substring(0, separator);
+
+            if (name.length() == 0) {
+                throw new IllegalArgumentException("Invalid projection path: " + path);
+            }
+
+            List<String> nestedPaths = nested.get(name);
+            if (nestedPaths == null) {
+                nestedPaths = new ArrayList<String>();
+                nested.put(name, nestedPaths);
+            }
+
+            // A null entry marks the field as included in full
+            nestedPaths.add(separator < 0 ? null : path.substring(separator + 1));
+        }
+
+        Map<String, Projection> children = new HashMap<String, Projection>();
+        for (Map.Entry<String, List<String>> entry : nested.entrySet()) {
+            List<String> nestedPaths = entry.getValue();
+            children.put(entry.getKey(), nestedPaths.contains(null) ? null : of(nestedPaths));
+        }
+
+        return new Projection(children);
+    }
+
+    /**
+     * If the field is included in the Projection
+     *
+     * @param name String field name
+     * @return boolean
+     */
+    public boolean includes(String name) {
+        return children.containsKey(name);
+    }
+
+    /**
+     * Projection of the Models created for a mapped field, null if they are populated in full
+     *
+     * @param name String field name
+     * @return Projection
+     */
+    public Projection getChild(String name) {
+        return children.get(name);
+    }
+
+    /**
+     * Included fields by the index of the {@link Erector#getBoundModelFields()}, resolved once per Erector
+     *
+     * @param erector {@link Erector}
+     * @return boolean[]
+     * @throws CreateModelException if a field of the Projection is not in the Blueprint
+     */
+    public boolean[] compile(Erector erector) throws CreateModelException {
+        boolean[] included = compiled.get(erector);
+        if (included != null) {
+            return included;
+        }
+
+        List<ModelField> modelFields;
+        try {
+            modelFields = erector.getBoundModelFields();
+        } catch (BlueprintTemplateException e) {
+            throw new CreateModelException(e);
+        }
+
+        included = new boolean[modelFields.size()];
+        int count = 0;
+        for (int idx = 0; idx < included.length; idx++) {
+            included[idx] = includes(modelFields.get(idx).getName());
+            if (included[idx]) {
+                count++;
+            }
+        }
+
+        if (count < children.size()) {
+            Set<String> missing = new TreeSet<String>(children.keySet());
+            for (ModelField modelField : modelFields) {
+                missing.remove(modelField.getName());
+            }
+            throw new CreateModelException("Projection fields " + missing + " are not in the Blueprint for " + erector.getTarget());
+        }
+
+        compiled.put(erector, included);
+        return included;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return children.equals(((Projection) o).children);
+    }
+
+    @Override
+    public int hashCode() {
+        return children.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Projection" + children;
+    }
+}
@@ -0,0 +1,116 @@
+package com.tobedevoured.modelcitizen.projection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sizes of the {@link com.tobedevoured.modelcitizen.annotation.MappedList} and
+ * {@link com.tobedevoured.modelcitizen.annotation.MappedSet} fields to use instead of the
+ * annotated size when creating a Model. A path names a field, nested fields of mapped Models
+ * are separated by a period, such as <code>wheels.options</code>.
+ */
+public class SizeOverrides {
+
+    private final Map<String, Integer> sizes = new HashMap<String, Integer>();
+    private final Map<String, SizeOverrides> children = new HashMap<String, SizeOverrides>();
+
+    /**
+     * Create new SizeOverrides with the size of a field path
+     *
+     * @param path String field path
+     * @param size int
+     * @return SizeOverrides
+     */
+    public static SizeOverrides of(String path, int size) {
+        return new SizeOverrides().with(path, size);
+    }
+
+    /**
+     * Set the size of a field path
+     *
+     * @param path String field path
+     * @param size int
+     * @return this SizeOverrides
+     */
+    public SizeOverrides with(String path, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size " + size + " for " + path);
+        }
+
+        int separator = path.indexOf('.');
+        if (separator < 0) {
+            sizes.put(path, size);
+        } else {
+            String name = path.substring(0, separator);
+            SizeOverrides child = children.get(name);
+            if (child == null) {
+                child = new SizeOverrides();
+                children.put(name, child);
+            }
+            child.with(path.substring(separator + 1), size);
+        }
+
+        return this;
+    }
+
+    /**
+     * Size of the field, or null if not overridden
+     *
+     * @param name String field name
+     * @return Integer
+     */
+    public Integer getSize(String name) {
+        return sizes.get(name);
+    }
+
+    /**
+     * SizeOverrides of the Models created for a mapped field, or null if none
+     *
+     * @param name String field name
+     * @return SizeOverrides
+     */
+    public SizeOverrides getChild(String name) {
+        return children.get(name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SizeOverrides that = (SizeOverrides) o;
+
+        return sizes.equals(that.sizes) && children.equals(that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * sizes.hashCode() + children.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SizeOverrides{" +
+                "sizes=" + sizes +
+                ", children=" + children +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * Indexes drawn in proportion to their weights with Vose's alias method. The tables are built
+ * once in linear time and each draw reads one column of them, so sampling is constant time.
+ */
+public class AliasSampler implements Sampler {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Create new AliasSampler
+     *
+     * @param weights double[] non negative weight of each index, at least one of them positive
+     */
+    public AliasSampler(double[] weights) {
+        int size = weights.length;
+        if (size < 1) {
+            throw new IllegalArgumentException("Sampler size must be at least 1");
+        }
+
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and not negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        probability = new double[size];
+        alias = new int[size];
+
+        // Scaled so the average column holds exactly 1
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int idx = 0; idx < size; idx++) {
+            scaled[idx] = weights[idx] * size / total;
+            if (scaled[idx] < 1) {
+                small[smallCount++] = idx;
+            } else {
+                large[largeCount++] = idx;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Left over columns are full, up to rounding
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    public long size() {
+        return probability.length;
+    }
+
+    public long sample(long random) {
+        double column = SplitMix.toUnit(random) * probability.length;
+        int idx = Math.min((int) column, probability.length - 1);
+        return column - idx < probability[idx] ? idx : alias[idx];
+    }
+
+    /**
+     * Probability of drawing the index itself rather than its alias when its column is drawn
+     *
+     * @param idx int
+     * @return double
+     */
+    public double getProbability(int idx) {
+        return probability[idx];
+    }
+
+    /**
+     * Index drawn when the column of the index is drawn and the index itself is not
+     *
+     * @param idx int
+     * @return int
+     */
+    public int getAlias(int idx) {
+        return alias[idx];
+    }
+}
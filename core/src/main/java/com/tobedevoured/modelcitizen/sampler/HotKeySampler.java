@@ -0,0 +1,77 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * The first hotKeys indexes are drawn with hotProbability, uniformly among them, and the
+ * other indexes uniformly otherwise. Needs no table, so it suits very large populations.
+ */
+public class HotKeySampler implements Sampler {
+
+    private final long size;
+    private final long hotKeys;
+    private final double hotProbability;
+
+    /**
+     * Create new HotKeySampler
+     *
+     * @param size           long number of indexes
+     * @param hotKeys        long number of hot indexes, from 1 to size
+     * @param hotProbability double probability of drawing a hot index
+     */
+    public HotKeySampler(long size, long hotKeys, double hotProbability) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Sampler size must be at least 1");
+        }
+        if (hotKeys < 1 || hotKeys > size) {
+            throw new IllegalArgumentException("Hot keys must be between 1 and " + size);
+        }
+        if (hotProbability < 0 || hotProbability > 1) {
+            throw new IllegalArgumentException("Hot probability must be between 0 and 1");
+        }
+
+        this.size = size;
+        this.hotKeys = hotKeys;
+        this.hotProbability = hotKeys == size ? 1 : hotProbability;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long sample(long random) {
+        double unit = SplitMix.toUnit(random);
+        if (unit < hotProbability) {
+            return Math.min((long) (unit / hotProbability * hotKeys), hotKeys - 1);
+        }
+
+        long cold = size - hotKeys;
+        return hotKeys + Math.min((long) ((unit - hotProbability) / (1 - hotProbability) * cold), cold - 1);
+    }
+
+    public long getHotKeys() {
+        return hotKeys;
+    }
+
+    public double getHotProbability() {
+        return hotProbability;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@link Population} of Models already created
+ *
+ * @param <T> Model
+ */
+public class ListPopulation<T> implements Population<T> {
+
+    private final List<T> models;
+
+    /**
+     * Create new ListPopulation. A List without random access, or other Iterable such as
+     * Models streamed from another generation, is copied.
+     *
+     * @param models Iterable
+     */
+    public ListPopulation(Iterable<? extends T> models) {
+        if (models instanceof List && models instanceof RandomAccess) {
+            this.models = (List<T>) models;
+        } else {
+            List<T> copy = new ArrayList<T>();
+            for (T model : models) {
+                copy.add(model);
+            }
+            this.models = copy;
+        }
+    }
+
+    public long size() {
+        return models.size();
+    }
+
+    public T get(long index) {
+        return models.get((int) index);
+    }
+}
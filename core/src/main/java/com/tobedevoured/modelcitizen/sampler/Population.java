@@ -0,0 +1,46 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+
+/**
+ * Models that can be read by index, such as Models already created or Models that are
+ * created from their index when read
+ *
+ * @param <T> Model
+ */
+public interface Population<T> {
+
+    /**
+     * Number of Models
+     *
+     * @return long
+     */
+    long size();
+
+    /**
+     * Model at an index, from 0 to size - 1
+     *
+     * @param index long
+     * @return T
+     * @throws CreateModelException
+     */
+    T get(long index) throws CreateModelException;
+}
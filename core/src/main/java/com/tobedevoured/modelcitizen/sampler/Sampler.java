@@ -0,0 +1,42 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Distribution of the indexes drawn from a {@link Population}. Sampling takes the random bits
+ * of the draw, so a Sampler holds no mutable state, is safe for concurrent draws and draws
+ * the same index for the same bits.
+ */
+public interface Sampler {
+
+    /**
+     * Number of indexes sampled, from 0 to size - 1
+     *
+     * @return long
+     */
+    long size();
+
+    /**
+     * Index for 64 uniformly random bits, in constant time
+     *
+     * @param random long
+     * @return long index
+     */
+    long sample(long random);
+}
@@ -0,0 +1,44 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * Every index is equally likely
+ */
+public class UniformSampler implements Sampler {
+
+    private final long size;
+
+    public UniformSampler(long size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Sampler size must be at least 1");
+        }
+        this.size = size;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long sample(long random) {
+        return Math.min((long) (SplitMix.toUnit(random) * size), size - 1);
+    }
+}
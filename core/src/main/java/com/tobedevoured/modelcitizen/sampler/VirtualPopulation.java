@@ -0,0 +1,193 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.UncheckedCreateModelException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.cache.ModelCache;
+import com.tobedevoured.modelcitizen.util.SplitMix;
+
+/**
+ * {@link Population} of Models of a {@link Blueprint} that are not kept: the Model at an index is
+ * created with {@link ModelFactory#createSeededModel(String, Class, long)} from the seed of the
+ * ModelFactory and the index each time it is read, so the same index gives an equal Model. An
+ * optional {@link ModelCache} keeps the Models read most recently, it is invalidated when the
+ * seed of the ModelFactory or the stream changes.
+ *
+ * @param <T> Model
+ */
+public class VirtualPopulation<T> implements Population<T> {
+
+    private final ModelFactory modelFactory;
+    private final String blueprintName;
+    private final Class<T> target;
+    private final long size;
+    private volatile long stream;
+    private volatile ModelCache cache;
+    private volatile long cacheSeed;
+
+    public VirtualPopulation(ModelFactory modelFactory, Class<T> target, long size) {
+        this(modelFactory, ModelFactory.DEFAULT_BLUEPRINT_NAME, target, size);
+    }
+
+    /**
+     * Create new VirtualPopulation
+     *
+     * @param modelFactory  {@link ModelFactory} with the Blueprint registered
+     * @param blueprintName String alias of the Blueprint
+     * @param target        Class of the Models
+     * @param size          long number of Models
+     */
+    public VirtualPopulation(ModelFactory modelFactory, String blueprintName, Class<T> target, long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Population size must not be negative");
+        }
+
+        this.modelFactory = modelFactory;
+        this.blueprintName = blueprintName;
+        this.target = target;
+        this.size = size;
+        this.stream = (blueprintName + ":" + target.getName()).hashCode();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Model at the index, from the cache or created for the index
+     *
+     * @param index long
+     * @return T
+     * @throws CreateModelException
+     */
+    public T get(long index) throws CreateModelException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of population of " + size);
+        }
+
+        ModelCache modelCache = cache;
+        long seed = modelFactory.getSeed();
+        if (modelCache != null) {
+            if (seed != cacheSeed) {
+                modelCache.invalidateAll();
+                cacheSeed = seed;
+            }
+
+            T cached = (T) modelCache.get(index);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Threads reading the same index at the same time may both create an equal Model
+        T model = modelFactory.createSeededModel(blueprintName, target, SplitMix.at(stream, index));
+        if (modelCache != null && seed == modelFactory.getSeed()) {
+            modelCache.put(index, model);
+        }
+        return model;
+    }
+
+    /**
+     * Unmodifiable List view of the population. Reading an element reads the population, a
+     * failure creating a Model is thrown as an {@link UncheckedCreateModelException}.
+     *
+     * @return List
+     */
+    public List<T> asList() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Population of " + size + " exceeds the size of a List");
+        }
+        return new PopulationList();
+    }
+
+    /**
+     * Stream of random bits the index is combined with, default is derived from the Blueprint
+     * alias and class. Populations of the same Blueprint with different streams hold different Models.
+     *
+     * @return long
+     */
+    public long getStream() {
+        return stream;
+    }
+
+    public void setStream(long stream) {
+        this.stream = stream;
+        ModelCache modelCache = cache;
+        if (modelCache != null) {
+            modelCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Keep up to cacheSize of the Models read most recently, 0 for no cache. Default is 0.
+     *
+     * @param cacheSize int
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize <= 0) {
+            cache = null;
+        } else {
+            ModelCache modelCache = new ModelCache();
+            modelCache.setMaximumSize(cacheSize);
+            cacheSeed = modelFactory.getSeed();
+            cache = modelCache;
+        }
+    }
+
+    /**
+     * {@link ModelCache} of the Models read most recently, null if not cached
+     *
+     * @return ModelCache
+     */
+    public ModelCache getCache() {
+        return cache;
+    }
+
+    public String getBlueprintName() {
+        return blueprintName;
+    }
+
+    public Class<T> getTarget() {
+        return target;
+    }
+
+    private class PopulationList extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            try {
+                return VirtualPopulation.this.get(index);
+            } catch (CreateModelException e) {
+                throw new UncheckedCreateModelException(e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return (int) size;
+        }
+    }
+}
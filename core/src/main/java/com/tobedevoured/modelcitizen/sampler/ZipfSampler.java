@@ -0,0 +1,56 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Zipf distribution, index k is drawn in proportion to 1 / (k + 1)^exponent, so a few
+ * low indexes are drawn most of the time. The table of weights is precomputed for an
+ * {@link AliasSampler}.
+ */
+public class ZipfSampler extends AliasSampler {
+
+    private final double exponent;
+
+    /**
+     * Create new ZipfSampler
+     *
+     * @param size     int number of indexes
+     * @param exponent double skew, 0 is uniform and 1 is the classic Zipf law
+     */
+    public ZipfSampler(int size, double exponent) {
+        super(weights(size, exponent));
+        this.exponent = exponent;
+    }
+
+    private static double[] weights(int size, double exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent must not be negative");
+        }
+
+        double[] weights = new double[size];
+        for (int idx = 0; idx < size; idx++) {
+            weights[idx] = 1 / Math.pow(idx + 1, exponent);
+        }
+        return weights;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tobedevoured.modelcitizen.template;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * BlueprintTemplate that can bind the properties of a Model Class into a
+ * {@link PropertyAccessor}, so values can be accessed by index instead of by name
+ * for every call. Templates that only implement {@link BlueprintTemplate} are
+ * adapted by {@link TemplatePropertyAccessor}.
+ */
+public interface BulkBlueprintTemplate extends BlueprintTemplate {
+
+    /**
+     * Bind properties of the Model Class to a {@link PropertyAccessor}
+     *
+     * @param modelClass Class
+     * @param properties String[] the property at each index
+     * @return {@link PropertyAccessor}
+     * @throws BlueprintTemplateException
+     */
+    public PropertyAccessor bind(Class modelClass, String[] properties) throws BlueprintTemplateException;
+
+    /**
+     * Properties of the Model Class that can be both read and set
+     *
+     * @param modelClass Class
+     * @return String[]
+     * @throws BlueprintTemplateException
+     */
+    public String[] getProperties(Class modelClass) throws BlueprintTemplateException;
+}
@@ -0,0 +1,160 @@
+package com.tobedevoured.modelcitizen.template;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.commons.beanutils.MethodUtils;
+import org.apache.commons.beanutils.PropertyUtils;
+
+/**
+ * {@link PropertyAccessor} for a JavaBean Model. The getter and setter of each
+ * property are resolved once when bound, then invoked directly by index. A property
+ * without an accessible getter or setter falls back to {@link PropertyUtils}, so
+ * the failure is reported the same way as {@link JavaBeanTemplate}.
+ *
+ * Primitive values are always written through the setter, so its logic runs as it
+ * does for {@link JavaBeanTemplate}. The reflective call boxes them, see
+ * {@link #isUnboxed(int)}.
+ */
+public class JavaBeanPropertyAccessor implements PropertyAccessor {
+
+    private final Class modelClass;
+    private final String[] properties;
+    private final Method[] readMethods;
+    private final Method[] writeMethods;
+
+    public JavaBeanPropertyAccessor(Class modelClass, String[] properties) {
+        this.modelClass = modelClass;
+        this.properties = properties;
+        this.readMethods = new Method[properties.length];
+        this.writeMethods = new Method[properties.length];
+
+        PropertyDescriptor[] descriptors = PropertyUtils.getPropertyDescriptors(modelClass);
+        for (int idx = 0; idx < properties.length; idx++) {
+            for (PropertyDescriptor descriptor : descriptors) {
+                if (descriptor.getName().equals(properties[idx])) {
+                    if (descriptor.getReadMethod() != null) {
+                        readMethods[idx] = MethodUtils.getAccessibleMethod(modelClass, descriptor.getReadMethod());
+                    }
+                    if (descriptor.getWriteMethod() != null) {
+                        writeMethods[idx] = MethodUtils.getAccessibleMethod(modelClass, descriptor.getWriteMethod());
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    public Class getModelClass() {
+        return modelClass;
+    }
+
+    public String[] getProperties() {
+        return properties;
+    }
+
+    public <T> T set(T model, int idx, Object value) throws BlueprintTemplateException {
+        try {
+            if (writeMethods[idx] != null) {
+                writeMethods[idx].invoke(model, value);
+            } else {
+                PropertyUtils.setProperty(model, properties[idx], value);
+            }
+        } catch (IllegalAccessException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        } catch (InvocationTargetException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        } catch (NoSuchMethodException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        }
+
+        return model;
+    }
+
+    public <T> T setInt(T model, int idx, int value) throws BlueprintTemplateException {
+        return set(model, idx, Integer.valueOf(value));
+    }
+
+    public <T> T setLong(T model, int idx, long value) throws BlueprintTemplateException {
+        return set(model, idx, Long.valueOf(value));
+    }
+
+    public <T> T setFloat(T model, int idx, float value) throws BlueprintTemplateException {
+        return set(model, idx, Float.valueOf(value));
+    }
+
+    public <T> T setDouble(T model, int idx, double value) throws BlueprintTemplateException {
+        return set(model, idx, Double.valueOf(value));
+    }
+
+    public <T> T setBoolean(T model, int idx, boolean value) throws BlueprintTemplateException {
+        return set(model, idx, Boolean.valueOf(value));
+    }
+
+    public boolean isUnboxed(int idx) {
+        return false;
+    }
+
+    public <T> T setAll(T model, Object[] values) throws BlueprintTemplateException {
+        for (int idx = 0; idx < properties.length; idx++) {
+            set(model, idx, values[idx]);
+        }
+
+        return model;
+    }
+
+    public Object get(Object model, int idx) throws BlueprintTemplateException {
+        try {
+            if (readMethods[idx] != null) {
+                return readMethods[idx].invoke(model);
+            } else {
+                return PropertyUtils.getProperty(model, properties[idx]);
+            }
+        } catch (IllegalAccessException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        } catch (InvocationTargetException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        } catch (NoSuchMethodException propertyException) {
+            throw new BlueprintTemplateException(propertyException);
+        }
+    }
+
+    public Object[] getAll(Object model) throws BlueprintTemplateException {
+        Object[] values = new Object[properties.length];
+        for (int idx = 0; idx < properties.length; idx++) {
+            values[idx] = get(model, idx);
+        }
+
+        return values;
+    }
+
+    public Object[] getAll(Object model, boolean[] read) throws BlueprintTemplateException {
+        Object[] values = new Object[properties.length];
+        for (int idx = 0; idx < properties.length; idx++) {
+            if (read[idx]) {
+                values[idx] = get(model, idx);
+            }
+        }
+
+        return values;
+    }
+}
@@ -18,7 +18,10 @@ package com.tobedevoured.modelcitizen.template;
  * limitations under the License.
  */
 
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang.reflect.ConstructorUtils;
@@ -29,7 +32,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of BlueprintTemplate using Reflection for a JavaBean Model
  */
-public class JavaBeanTemplate implements BlueprintTemplate {
+public class JavaBeanTemplate implements BulkBlueprintTemplate {
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
     @SuppressWarnings("unchecked")
@@ -74,4 +77,20 @@ public class JavaBeanTemplate implements BlueprintTemplate {
 		}
 	}
 
+	public PropertyAccessor bind( Class modelClass, String[] properties ) throws BlueprintTemplateException {
+		logger.trace( "Binding properties {} for Model class [{}]", properties, modelClass );
+		return new JavaBeanPropertyAccessor( modelClass, properties );
+	}
+
+	public String[] getProperties( Class modelClass ) throws BlueprintTemplateException {
+		List<String> properties = new ArrayList<String>();
+		for ( PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors( modelClass ) ) {
+			if ( descriptor.getReadMethod() != null && descriptor.getWriteMethod() != null ) {
+				properties.add( descriptor.getName() );
+			}
+		}
+
+		return properties.toArray( new String[properties.size()] );
+	}
+
 }
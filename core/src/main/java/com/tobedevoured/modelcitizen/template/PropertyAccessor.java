@@ -0,0 +1,149 @@
+package com.tobedevoured.modelcitizen.template;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Index based access to the properties of a Model, bound once for a Class and
+ * an ordered array of property names by {@link BulkBlueprintTemplate#bind(Class, String[])}.
+ * The index of a property is its position in {@link #getProperties()}.
+ */
+public interface PropertyAccessor {
+
+    /**
+     * Properties bound to this accessor, in index order
+     *
+     * @return String[]
+     */
+    public String[] getProperties();
+
+    /**
+     * Set value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value Object
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T set(T model, int idx, Object value) throws BlueprintTemplateException;
+
+    /**
+     * Set int value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value int
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setInt(T model, int idx, int value) throws BlueprintTemplateException;
+
+    /**
+     * Set long value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value long
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setLong(T model, int idx, long value) throws BlueprintTemplateException;
+
+    /**
+     * Set float value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value float
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setFloat(T model, int idx, float value) throws BlueprintTemplateException;
+
+    /**
+     * Set double value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value double
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setDouble(T model, int idx, double value) throws BlueprintTemplateException;
+
+    /**
+     * Set boolean value of Model for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param idx int index of the property
+     * @param value boolean
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setBoolean(T model, int idx, boolean value) throws BlueprintTemplateException;
+
+    /**
+     * True if the primitive setters write the property at idx without boxing. Otherwise
+     * a caller holding the boxed value should use {@link #set(Object, int, Object)}.
+     *
+     * @param idx int index of the property
+     * @return boolean
+     */
+    public boolean isUnboxed(int idx);
+
+    /**
+     * Set all values of Model, values[idx] is set for the property at idx. Returns Model.
+     *
+     * @param model T
+     * @param values Object[] with the same length as {@link #getProperties()}
+     * @return T model
+     * @throws BlueprintTemplateException
+     */
+    public <T> T setAll(T model, Object[] values) throws BlueprintTemplateException;
+
+    /**
+     * Get value of Model for the property at idx
+     *
+     * @param model Object
+     * @param idx int index of the property
+     * @return Object get value
+     * @throws BlueprintTemplateException
+     */
+    public Object get(Object model, int idx) throws BlueprintTemplateException;
+
+    /**
+     * Get all values of Model, in index order
+     *
+     * @param model Object
+     * @return Object[]
+     * @throws BlueprintTemplateException
+     */
+    public Object[] getAll(Object model) throws BlueprintTemplateException;
+
+    /**
+     * Get the values of Model for the properties marked in read, in index order. The value
+     * of a property that is not read is null.
+     *
+     * @param model Object
+     * @param read boolean[] with the same length as {@link #getProperties()}
+     * @return Object[]
+     * @throws BlueprintTemplateException
+     */
+    public Object[] getAll(Object model, boolean[] read) throws BlueprintTemplateException;
+}
@@ -0,0 +1,103 @@
+package com.tobedevoured.modelcitizen.template;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Default {@link PropertyAccessor} for a {@link BlueprintTemplate} that does
+ * not implement {@link BulkBlueprintTemplate}. Each index is delegated to the
+ * template by property name.
+ */
+public class TemplatePropertyAccessor implements PropertyAccessor {
+
+    private final BlueprintTemplate template;
+    private final String[] properties;
+
+    public TemplatePropertyAccessor(BlueprintTemplate template, String[] properties) {
+        this.template = template;
+        this.properties = properties;
+    }
+
+    public BlueprintTemplate getTemplate() {
+        return template;
+    }
+
+    public String[] getProperties() {
+        return properties;
+    }
+
+    public <T> T set(T model, int idx, Object value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], value);
+    }
+
+    public <T> T setInt(T model, int idx, int value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], Integer.valueOf(value));
+    }
+
+    public <T> T setLong(T model, int idx, long value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], Long.valueOf(value));
+    }
+
+    public <T> T setFloat(T model, int idx, float value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], Float.valueOf(value));
+    }
+
+    public <T> T setDouble(T model, int idx, double value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], Double.valueOf(value));
+    }
+
+    public <T> T setBoolean(T model, int idx, boolean value) throws BlueprintTemplateException {
+        return template.set(model, properties[idx], Boolean.valueOf(value));
+    }
+
+    public boolean isUnboxed(int idx) {
+        return false;
+    }
+
+    public <T> T setAll(T model, Object[] values) throws BlueprintTemplateException {
+        for (int idx = 0; idx < properties.length; idx++) {
+            model = template.set(model, properties[idx], values[idx]);
+        }
+
+        return model;
+    }
+
+    public Object get(Object model, int idx) throws BlueprintTemplateException {
+        return template.get(model, properties[idx]);
+    }
+
+    public Object[] getAll(Object model) throws BlueprintTemplateException {
+        Object[] values = new Object[properties.length];
+        for (int idx = 0; idx < properties.length; idx++) {
+            values[idx] = template.get(model, properties[idx]);
+        }
+
+        return values;
+    }
+
+    public Object[] getAll(Object model, boolean[] read) throws BlueprintTemplateException {
+        Object[] values = new Object[properties.length];
+        for (int idx = 0; idx < properties.length; idx++) {
+            if (read[idx]) {
+                values[idx] = template.get(model, properties[idx]);
+            }
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,94 @@
+package com.tobedevoured.modelcitizen.util;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Bloom filter of 64 bit hashes. A hash that was put is always reported as possibly contained,
+ * a hash that was not is reported with the false positive probability the filter was sized for,
+ * rising once more hashes than expected are put. Not thread-safe.
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Create new BloomFilter
+     *
+     * @param expected      long number of hashes expected
+     * @param falsePositive double probability of a false positive for the expected hashes
+     */
+    public BloomFilter(long expected, double falsePositive) {
+        if (expected < 1) {
+            expected = 1;
+        }
+        if (falsePositive <= 0 || falsePositive >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+
+        double ln2 = Math.log(2);
+        long optimal = (long) Math.ceil(-expected * Math.log(falsePositive) / (ln2 * ln2));
+        bits = new long[(int) Math.min(Integer.MAX_VALUE, (optimal + 63) >>> 6)];
+        bitCount = (long) bits.length << 6;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * ln2));
+    }
+
+    public void put(long hash) {
+        long combined = hash;
+        long increment = SplitMix.mix(hash) | 1;
+        for (int x = 0; x < hashCount; x++) {
+            long bit = (combined >>> 1) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+            combined += increment;
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        long combined = hash;
+        long increment = SplitMix.mix(hash) | 1;
+        for (int x = 0; x < hashCount; x++) {
+            long bit = (combined >>> 1) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += increment;
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(bits, 0);
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Size of the filter in bits
+     *
+     * @return long
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+}
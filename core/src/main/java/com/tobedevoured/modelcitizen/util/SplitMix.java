@@ -0,0 +1,68 @@
+package com.tobedevoured.modelcitizen.util;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * SplitMix64 random bits. A stream of random values is a counter advanced by {@link #GAMMA}
+ * and mixed, so any value of the stream can be computed from its position without
+ * sharing mutable state between threads.
+ */
+public final class SplitMix {
+
+    /**
+     * Increment of the counter of a stream
+     */
+    public static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+    private SplitMix() {
+    }
+
+    /**
+     * Mix the bits of a value, so consecutive values give unrelated results
+     *
+     * @param value long
+     * @return long
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Value at a position of the stream of a seed
+     *
+     * @param seed     long
+     * @param position long
+     * @return long
+     */
+    public static long at(long seed, long position) {
+        return mix(seed + (position + 1) * GAMMA);
+    }
+
+    /**
+     * Uniform double in [0, 1) from the high 53 bits of random bits
+     *
+     * @param random long
+     * @return double
+     */
+    public static double toUnit(long random) {
+        return (random >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tobedevoured.modelcitizen.util;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Values already used by a field that must be unique. A value is kept as a 64 bit hash in a
+ * {@link LongHashSet}, checked first against a {@link BloomFilter} so most new values do not
+ * probe the set. Memory is 12 to 22 bytes per value however large the values are, as the set is
+ * between three eighths and three quarters full. Two different values with the same hash are treated as equal, which
+ * only rejects a value that was unique, with a probability that is negligible for billions of
+ * values.
+ *
+ * A value can be added for an owner, such as the seeded stream of a Model, which is kept as a
+ * claim: a hash of the value and the owner in a second LongHashSet, another 11 to 21 bytes per
+ * value. The same owner may add the value again, so a Model created again from the same stream
+ * keeps its values. Values added without an owner take no claim.
+ */
+public class UniqueValues {
+
+    private final BloomFilter bloomFilter;
+    private final LongHashSet hashes;
+    private final LongHashSet claims;
+    private final int attempts;
+
+    /**
+     * Create new UniqueValues
+     *
+     * @param expected int number of values expected, sizing the Bloom filter
+     * @param attempts int number of values tried before giving up on a unique value
+     */
+    public UniqueValues(int expected, int attempts) {
+        this.bloomFilter = new BloomFilter(expected, 0.01);
+        this.hashes = new LongHashSet();
+        this.claims = new LongHashSet();
+        this.attempts = attempts;
+    }
+
+    /**
+     * Add the value if it has not been used
+     *
+     * @param value Object
+     * @return boolean true if the value had not been used
+     */
+    public boolean add(Object value) {
+        return add(value, 0);
+    }
+
+    /**
+     * Add the value if it has not been used, or has been used by the owner
+     *
+     * @param value Object
+     * @param owner long owner of the value, 0 for none
+     * @return boolean true if the value had not been used by another owner
+     */
+    public synchronized boolean add(Object value, long owner) {
+        long hash = hash(value);
+        long claim = owner == 0 ? 0 : SplitMix.mix(hash + owner * SplitMix.GAMMA);
+        if (bloomFilter.mightContain(hash) && hashes.contains(hash)) {
+            return claim != 0 && claims.contains(claim);
+        }
+
+        bloomFilter.put(hash);
+        hashes.add(hash);
+        if (claim != 0) {
+            claims.add(claim);
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return hashes.size();
+    }
+
+    public synchronized void clear() {
+        bloomFilter.clear();
+        hashes.clear();
+        claims.clear();
+    }
+
+    /**
+     * Number of values tried before giving up on a unique value
+     *
+     * @return int
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * 64 bit hash of a value: integral Numbers by their value, so an Integer and a Long of the same
+     * value are equal. CharSequences are hashed by their characters, other values by the characters
+     * of their toString and their class, so 1.0f, 1.0d and "1.0" differ.
+     *
+     * @param value Object
+     * @return long
+     */
+    public static long hash(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return SplitMix.mix(((Number) value).longValue());
+        }
+
+        // FNV-1a over the chars, mixed so short values spread over all the bits
+        long hash = 0xcbf29ce484222325L;
+        CharSequence chars;
+        if (value instanceof CharSequence) {
+            chars = (CharSequence) value;
+        } else {
+            chars = String.valueOf(value);
+            hash = SplitMix.mix(hash ^ (value == null ? 0 : value.getClass().getName().hashCode()));
+        }
+
+        for (int x = 0; x < chars.length(); x++) {
+            hash ^= chars.charAt(x);
+            hash *= 0x100000001b3L;
+        }
+        return SplitMix.mix(hash ^ chars.length());
+    }
+}
@@ -20,11 +20,17 @@ package com.tobedevoured.modelcitizen;
  */
 
 import com.tobedevoured.modelcitizen.blueprint.CarBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.UserBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.WheelBlueprint;
+import com.tobedevoured.modelcitizen.erector.Command;
 import com.tobedevoured.modelcitizen.field.DefaultField;
 import com.tobedevoured.modelcitizen.field.ModelField;
 import com.tobedevoured.modelcitizen.model.Car;
 import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
 import com.tobedevoured.modelcitizen.template.JavaBeanTemplate;
+import com.tobedevoured.modelcitizen.util.Pair;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -32,6 +38,8 @@ import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class ErectorTest {
 
@@ -63,4 +71,31 @@ public class ErectorTest {
         Float val = (Float) erector.getTemplate().get(car, "mileage");
         assertEquals(new Float(123.456), val);
     }
+
+    @Test
+    public void testClear() {
+        erector.addCommand(defaultField, Command.SKIP_INJECTION);
+        erector.setReference(new Car());
+
+        erector.clear();
+
+        assertTrue(erector.getCommands(defaultField).isEmpty());
+        assertNull(erector.getReference());
+    }
+
+    @Test
+    public void testReferenceIsClearedAfterCreate() throws ModelFactoryException {
+        ModelFactory modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(carBlueprint);
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new UserBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+
+        assertNotNull(modelFactory.createModel(new Car()));
+
+        Erector carErector = modelFactory.getErectors().get(Pair.of(ModelFactory.DEFAULT_BLUEPRINT_NAME, (Class) Car.class));
+        assertNull(carErector.getReference());
+    }
 }
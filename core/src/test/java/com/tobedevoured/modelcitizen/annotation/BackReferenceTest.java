@@ -0,0 +1,227 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class BackReferenceTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new ParentBlueprint());
+        modelFactory.registerBlueprint(new ChildBlueprint());
+    }
+
+    @Test
+    public void testBackReference() throws ModelFactoryException {
+        assertBackReferences(modelFactory.createModel(Parent.class));
+    }
+
+    @Test
+    public void testBackReferenceFromPlan() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.createModel(Parent.class);
+
+        assertBackReferences(modelFactory.createModel(Parent.class));
+    }
+
+    @Test
+    public void testBackReferenceBulk() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.setBulkCreateThreshold(2);
+        modelFactory.setCollectionSize(Parent.class, "children", 50);
+
+        Parent parent = modelFactory.createModel(Parent.class);
+        assertEquals(50, parent.getChildren().size());
+        assertBackReferences(parent);
+    }
+
+    @Test
+    public void testBackReferenceFromReference() throws ModelFactoryException {
+        Parent parent = modelFactory.createModel(Parent.class);
+
+        // Models are created for the reference model's List, a Mapped Model is used as is
+        Parent copy = modelFactory.createModel(parent);
+        for (int x = 0; x < copy.getChildren().size(); x++) {
+            assertNotSame(parent.getChildren().get(x), copy.getChildren().get(x));
+            assertSame(copy, copy.getChildren().get(x).getParent());
+        }
+        assertSame(parent, copy.getFavorite().getParent());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testBackReferenceInterned() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new InternedParentBlueprint());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testBackReferenceDefault() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new DefaultParentBlueprint());
+    }
+
+    private void assertBackReferences(Parent parent) {
+        assertSame(parent, parent.getFavorite().getParent());
+        assertEquals("child of parent", parent.getFavorite().getName());
+
+        for (Child child : parent.getChildren()) {
+            assertSame(parent, child.getParent());
+            // The parent is set before the Child's own fields are populated
+            assertEquals("child of parent", child.getName());
+        }
+
+        for (Child child : parent.getOthers()) {
+            assertSame(parent, child.getParent());
+        }
+
+        for (Child child : parent.getSiblings()) {
+            assertSame(parent, child.getParent());
+        }
+    }
+
+    public static class Parent {
+        private String name;
+        private Child favorite;
+        private List<Child> children;
+        private Set<Child> others;
+        private Child[] siblings;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Child getFavorite() {
+            return favorite;
+        }
+
+        public void setFavorite(Child favorite) {
+            this.favorite = favorite;
+        }
+
+        public List<Child> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Child> children) {
+            this.children = children;
+        }
+
+        public Set<Child> getOthers() {
+            return others;
+        }
+
+        public void setOthers(Set<Child> others) {
+            this.others = others;
+        }
+
+        public Child[] getSiblings() {
+            return siblings;
+        }
+
+        public void setSiblings(Child[] siblings) {
+            this.siblings = siblings;
+        }
+    }
+
+    public static class Child {
+        private String name;
+        private Parent parent;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Parent getParent() {
+            return parent;
+        }
+
+        public void setParent(Parent parent) {
+            this.parent = parent;
+        }
+    }
+
+    @Blueprint(Parent.class)
+    public static class ParentBlueprint {
+        @Default
+        public String name = "parent";
+
+        @Mapped
+        @BackReference("parent")
+        public Child favorite;
+
+        @MappedList(target = Child.class, size = 3)
+        @BackReference("parent")
+        public List<Child> children;
+
+        @MappedSet(target = Child.class, size = 2)
+        @BackReference("parent")
+        public Set<Child> others;
+
+        @MappedArray(size = 2)
+        @BackReference("parent")
+        public Child[] siblings;
+    }
+
+    @Blueprint(Child.class)
+    public static class ChildBlueprint {
+        @Default
+        public FieldCallback<String> name = new FieldCallback<String>() {
+            @Override
+            public String get(Object referenceModel) {
+                Parent parent = ((Child) referenceModel).getParent();
+                return parent == null ? "orphan" : "child of " + parent.getClass().getSimpleName().toLowerCase();
+            }
+        };
+    }
+
+    @Blueprint(Parent.class)
+    public static class InternedParentBlueprint {
+        @MappedList(target = Child.class, size = 3)
+        @Interned
+        @BackReference("parent")
+        public List<Child> children;
+    }
+
+    @Blueprint(Parent.class)
+    public static class DefaultParentBlueprint {
+        @Default
+        @BackReference("parent")
+        public String name = "parent";
+    }
+}
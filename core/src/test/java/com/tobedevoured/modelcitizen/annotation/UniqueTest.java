@@ -0,0 +1,238 @@
+package com.tobedevoured.modelcitizen.annotation;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.sampler.VirtualPopulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class UniqueTest {
+
+    private ModelFactory modelFactory;
+    private RepeatingEmail email;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        email = new RepeatingEmail();
+        AccountBlueprint blueprint = new AccountBlueprint();
+        blueprint.email = email;
+
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(blueprint);
+    }
+
+    @Test
+    public void testUniqueCallback() throws ModelFactoryException {
+        assertUnique(modelFactory.createModels(Account.class, 1000));
+
+        // Each value is returned twice, the second one is rejected
+        assertEquals(1999, email.calls);
+    }
+
+    @Test
+    public void testUniqueFromPlan() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        assertUnique(modelFactory.createModels(Account.class, 1000));
+    }
+
+    @Test
+    public void testUniqueConstant() throws ModelFactoryException {
+        modelFactory.registerBlueprint("admin", new AdminBlueprint());
+
+        modelFactory.createModel("admin", Account.class);
+        try {
+            modelFactory.createModel("admin", Account.class);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertEquals("Unable to create a unique value for field role after 1 attempts", e.getMessage());
+        }
+
+        modelFactory.clearUniqueValues();
+        assertEquals("admin", modelFactory.createModel("admin", Account.class).getRole());
+    }
+
+    @Test
+    public void testReferenceValuesKept() throws ModelFactoryException {
+        Account account = new Account();
+        account.setEmail("same@example.com");
+
+        assertEquals("same@example.com", modelFactory.createModel(account).getEmail());
+        assertEquals("same@example.com", modelFactory.createModel(account).getEmail());
+    }
+
+    @Test
+    public void testSeededRebuildKeepsValues() throws ModelFactoryException {
+        SeededEmailBlueprint blueprint = new SeededEmailBlueprint();
+        blueprint.email = new SeededEmail(modelFactory);
+        modelFactory.registerBlueprint("seeded", blueprint);
+
+        VirtualPopulation<Account> accounts = new VirtualPopulation<Account>(modelFactory, "seeded", Account.class, 200);
+        Set<String> emails = new HashSet<String>();
+        for (int x = 0; x < 200; x++) {
+            String email = accounts.get(x).getEmail();
+            assertTrue(emails.add(email));
+
+            // Created again from the same stream, the Model keeps its value
+            assertEquals(email, accounts.get(x).getEmail());
+        }
+    }
+
+    @Test
+    public void testSeededRebuildOfConstant() throws ModelFactoryException {
+        modelFactory.registerBlueprint("admin", new AdminBlueprint());
+
+        assertEquals("admin", modelFactory.createSeededModel("admin", Account.class, 3).getRole());
+        assertEquals("admin", modelFactory.createSeededModel("admin", Account.class, 3).getRole());
+        try {
+            modelFactory.createSeededModel("admin", Account.class, 4);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertEquals("Unable to create a unique value for field role after 1 attempts", e.getMessage());
+        }
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testUniqueRequiresDefault() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new UniqueWithoutDefaultBlueprint());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testUniquePrimitive() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new UniquePrimitiveBlueprint());
+    }
+
+    private static void assertUnique(List<Account> accounts) {
+        Set<String> emails = new HashSet<String>();
+        for (Account account : accounts) {
+            assertTrue(emails.add(account.getEmail()));
+        }
+    }
+
+    public static class Account {
+        private String email;
+        private String role;
+        private int logins;
+        private Account referrer;
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+
+        public int getLogins() {
+            return logins;
+        }
+
+        public void setLogins(int logins) {
+            this.logins = logins;
+        }
+
+        public Account getReferrer() {
+            return referrer;
+        }
+
+        public void setReferrer(Account referrer) {
+            this.referrer = referrer;
+        }
+    }
+
+    /**
+     * Returns user-0@example.com, user-0@example.com, user-1@example.com, ...
+     */
+    static class RepeatingEmail extends FieldCallback<String> {
+        int calls = 0;
+
+        public String get(Object referenceModel) {
+            return "user-" + (calls++ / 2) + "@example.com";
+        }
+    }
+
+    @Blueprint(Account.class)
+    public static class AccountBlueprint {
+        @Default
+        @Unique
+        public FieldCallback<String> email;
+    }
+
+    /**
+     * Returns one of 1000 emails from the random bits of the ModelFactory
+     */
+    static class SeededEmail extends FieldCallback<String> {
+        private final ModelFactory modelFactory;
+
+        SeededEmail(ModelFactory modelFactory) {
+            this.modelFactory = modelFactory;
+        }
+
+        public String get(Object referenceModel) {
+            return "user-" + ((modelFactory.nextRandom() >>> 1) % 1000) + "@example.com";
+        }
+    }
+
+    @Blueprint(Account.class)
+    public static class SeededEmailBlueprint {
+        @Default
+        @Unique(attempts = 100)
+        public FieldCallback<String> email;
+    }
+
+    @Blueprint(Account.class)
+    public static class AdminBlueprint {
+        @Default(force = true)
+        @Unique(attempts = 1)
+        public String role = "admin";
+    }
+
+    @Blueprint(Account.class)
+    public static class UniqueWithoutDefaultBlueprint {
+        @Mapped
+        @Nullable
+        @Unique
+        public Account referrer;
+    }
+
+    @Blueprint(Account.class)
+    public static class UniquePrimitiveBlueprint {
+        @Default
+        @Unique
+        public int logins = 1;
+    }
+}
@@ -24,13 +24,13 @@ import java.util.Map;
 import java.util.Set;
 
 
+import com.tobedevoured.modelcitizen.annotation.BackReference;
 import com.tobedevoured.modelcitizen.annotation.Blueprint;
 import com.tobedevoured.modelcitizen.annotation.Default;
 import com.tobedevoured.modelcitizen.annotation.Mapped;
 import com.tobedevoured.modelcitizen.annotation.MappedList;
 import com.tobedevoured.modelcitizen.annotation.MappedSet;
 import com.tobedevoured.modelcitizen.annotation.Nullable;
-import com.tobedevoured.modelcitizen.callback.AfterCreateCallback;
 import com.tobedevoured.modelcitizen.model.Car;
 import com.tobedevoured.modelcitizen.model.Driver;
 import com.tobedevoured.modelcitizen.model.Wheel;
@@ -50,7 +50,9 @@ public class CarBlueprint {
     @Default
     public Map status = new HashMap();
 
+    // Set the Car for each of the Car's wheels
     @MappedList(target = Wheel.class, size = 4, force = true)
+    @BackReference("car")
     public List<Wheel> wheels;
 
     @MappedSet(target = Wheel.class, size = 1)
@@ -63,16 +65,4 @@ public class CarBlueprint {
     @Nullable
     public Driver passenger = null;
 
-    // Set the Car for each of the Car's wheels
-    AfterCreateCallback<Car> afterCreate = new AfterCreateCallback<Car>() {
-        @Override
-        public Car afterCreate(Car model) {
-            for(Wheel wheel : model.getWheels() ) {
-                wheel.setCar(model);
-            }
-
-            return model;
-        }
-    };
-
 }
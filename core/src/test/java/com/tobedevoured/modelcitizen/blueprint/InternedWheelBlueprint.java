@@ -0,0 +1,48 @@
+package com.tobedevoured.modelcitizen.blueprint;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.List;
+
+import com.tobedevoured.modelcitizen.Scope;
+import com.tobedevoured.modelcitizen.annotation.*;
+import com.tobedevoured.modelcitizen.callback.ConstructorCallback;
+import com.tobedevoured.modelcitizen.model.Option;
+import com.tobedevoured.modelcitizen.model.Wheel;
+
+@Blueprint(value=Wheel.class, alias="interned")
+public class InternedWheelBlueprint {
+
+    ConstructorCallback constructor = new ConstructorCallback() {
+
+        @Override
+        public Object createInstance() {
+            return new Wheel("interned");
+        }
+
+    };
+
+    @MappedList(target = Option.class, size = 3)
+    @Interned
+    public List<Option> options;
+
+    @MappedList(target = Option.class, size = 2)
+    @Interned(Scope.BATCH)
+    public List<Option> variants;
+}
@@ -0,0 +1,117 @@
+package com.tobedevoured.modelcitizen.cache;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ModelCacheTest {
+
+    private ModelCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ModelCache();
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        assertNull(cache.get("a"));
+        cache.put("a", "model a");
+        assertEquals("model a", cache.get("a"));
+        assertEquals("model a", cache.get("a"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2.0 / 3, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.setMaximumSize(2);
+        cache.put("a", "model a");
+        cache.put("b", "model b");
+        cache.get("a");
+        cache.put("c", "model c");
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testEvictsByWeight() {
+        cache.setWeigher(new Weigher() {
+            public long weigh(Object key, Object model) {
+                return ((String) model).length();
+            }
+        });
+        cache.setMaximumWeight(10);
+
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        assertEquals(10, cache.getTotalWeight());
+
+        cache.put("c", "123");
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getTotalWeight());
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testSoftValues() {
+        cache.setSoftValues(true);
+        cache.put("a", "model a");
+        assertEquals("model a", cache.get("a"));
+    }
+
+    @Test
+    public void testDrainsClearedSoftValues() {
+        cache.setSoftValues(true);
+        cache.put("a", "model a");
+        cache.put("b", "model b");
+
+        cache.clearSoftValues();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+        assertEquals(2, cache.getStats().getEvictionCount());
+
+        cache.put("a", "model a");
+        assertEquals("model a", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put("a", "model a");
+        cache.put("b", "model b");
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+    }
+}
@@ -21,7 +21,7 @@ package com.tobedevoured.modelcitizen.callback;
 import com.tobedevoured.modelcitizen.CreateModelException;
 import com.tobedevoured.modelcitizen.ModelFactory;
 import com.tobedevoured.modelcitizen.RegisterBlueprintException;
-import com.tobedevoured.modelcitizen.blueprint.CarBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.CoolCarBlueprint;
 import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
 import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
 import com.tobedevoured.modelcitizen.blueprint.WheelBlueprint;
@@ -40,7 +40,7 @@ public class AfterCreateCallbackTest {
         modelFactory.registerBlueprint(DriverBlueprint.class);
         modelFactory.registerBlueprint(WheelBlueprint.class);
         modelFactory.registerBlueprint(OptionBlueprint.class);
-        modelFactory.registerBlueprint(CarBlueprint.class);
+        modelFactory.registerBlueprint(CoolCarBlueprint.class);
         modelFactory.registerBlueprint(OptionBlueprint.class);
         modelFactory.registerBlueprint("different", OptionBlueprint.class);
     }
@@ -0,0 +1,192 @@
+package com.tobedevoured.modelcitizen.callback;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.blueprint.PrimitiveCarBlueprint;
+import com.tobedevoured.modelcitizen.field.DefaultField;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.template.BlueprintTemplateException;
+import com.tobedevoured.modelcitizen.template.JavaBeanTemplate;
+import com.tobedevoured.modelcitizen.template.PropertyAccessor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveFieldCallbackTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new PrimitiveCarBlueprint());
+        modelFactory.registerBlueprint(new GaugeBlueprint());
+        modelFactory.registerBlueprint(new ScaleBlueprint());
+    }
+
+    @Test
+    public void testCreateModelWithPrimitiveFieldCallback() throws CreateModelException {
+        Car car = modelFactory.createModel("primitive", Car.class);
+
+        assertEquals("primitive make", car.getMake());
+        assertEquals(42.5f, car.getMileage(), 0);
+    }
+
+    @Test
+    public void testPrimitiveSettersCallSetter() throws BlueprintTemplateException {
+        PropertyAccessor accessor = new JavaBeanTemplate().bind(Scale.class, new String[]{"weight"});
+        Scale scale = new Scale();
+
+        assertFalse(accessor.isUnboxed(0));
+        accessor.setFloat(scale, 0, 3f);
+
+        assertEquals(6f, scale.getWeight(), 0);
+        assertTrue(scale.isTouched());
+    }
+
+    @Test
+    public void testPrimitiveFieldCallbackCallsSetter() throws BlueprintTemplateException {
+        PropertyAccessor accessor = new JavaBeanTemplate().bind(Car.class, new String[]{"make", "mileage"});
+        Car car = new Car();
+
+        new PrimitiveCarBlueprint().mileage.inject(accessor, car, 1, car);
+
+        assertEquals(42.5f, car.getMileage(), 0);
+    }
+
+    @Test
+    public void testCreateModelCallsPrimitiveSetter() throws CreateModelException {
+        Scale scale = modelFactory.createModel(Scale.class);
+        assertEquals(6f, scale.getWeight(), 0);
+        assertTrue(scale.isTouched());
+
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.createModel(Scale.class);
+        scale = modelFactory.createModel(Scale.class);
+        assertEquals(6f, scale.getWeight(), 0);
+        assertTrue(scale.isTouched());
+    }
+
+    @Test
+    public void testCreateModelWithPrimitiveDefaults() throws CreateModelException {
+        Gauge first = modelFactory.createModel(Gauge.class);
+        Gauge second = modelFactory.createModel(new Gauge());
+
+        assertEquals(3.5, first.getLevel(), 0);
+        assertTrue(first.isEnabled());
+        assertEquals(3.5, second.getLevel(), 0);
+        assertTrue(second.isEnabled());
+        assertEquals(first.getCount() + 1, second.getCount());
+    }
+
+    @Test
+    public void testCharDefaultIsNotPrimitive() {
+        DefaultField defaultField = new DefaultField();
+        defaultField.setPrimitiveValue(char.class, 'c');
+
+        assertFalse(defaultField.isPrimitive());
+        assertEquals('c', defaultField.getValue());
+    }
+
+    @Blueprint(Scale.class)
+    public static class ScaleBlueprint {
+
+        @Default(force = true)
+        public float weight = 3f;
+    }
+
+    @Blueprint(Gauge.class)
+    public static class GaugeBlueprint {
+
+        @Default(force = true)
+        public double level = 3.5;
+
+        @Default(force = true)
+        public IntFieldCallback count = new IntFieldCallback() {
+            private int next = 1;
+
+            @Override
+            public int getInt(Object referenceModel) {
+                return next++;
+            }
+        };
+
+        @Default(force = true)
+        public boolean enabled = true;
+    }
+
+    public static class Gauge {
+
+        private double reading;
+        private int count;
+        private boolean enabled;
+
+        public double getLevel() {
+            return reading;
+        }
+
+        public void setLevel(double level) {
+            this.reading = level;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Scale {
+
+        private float weight;
+        private boolean touched;
+
+        public float getWeight() {
+            return weight;
+        }
+
+        // Stores twice the weight, so writes that skip the setter are visible
+        public void setWeight(float weight) {
+            this.weight = weight * 2;
+            this.touched = true;
+        }
+
+        public boolean isTouched() {
+            return touched;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.tobedevoured.modelcitizen.collection;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.blueprint.*;
+import com.tobedevoured.modelcitizen.callback.ConstructorCallback;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Option;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class CollectionFactoryTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+        modelFactory.registerBlueprint(new UnmodifiableWheelBlueprint());
+    }
+
+    @Test
+    public void testJdkCollectionFactory() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        assertTrue(modelFactory.getCollectionFactory() instanceof JdkCollectionFactory);
+        assertEquals(ArrayList.class, car.getWheels().getClass());
+        assertEquals(4, car.getWheels().size());
+    }
+
+    @Test
+    public void testCompactCollectionFactory() throws ModelFactoryException {
+        modelFactory.setCollectionFactory(new CompactCollectionFactory());
+        Car car = modelFactory.createModel(Car.class);
+
+        assertTrue(car.getWheels() instanceof CompactCollectionFactory.CompactList);
+        assertEquals(4, car.getWheels().size());
+        assertSame(car, car.getWheels().get(3).getCar());
+        assertEquals(Collections.singleton(car.getSpares().iterator().next()), car.getSpares());
+
+        try {
+            car.getWheels().add(new Wheel("extra"));
+            fail("CompactList is unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCompactSet() {
+        CompactCollectionFactory factory = new CompactCollectionFactory();
+
+        Set<Integer> small = new LinkedHashSet<Integer>(Arrays.asList(3, 1, 2));
+        Set<Integer> large = new LinkedHashSet<Integer>();
+        for (int x = 100; x > 0; x--) {
+            large.add(x * 31);
+        }
+        large.add(null);
+
+        for (Set<Integer> models : Arrays.asList(small, large)) {
+            Set compact = (Set) factory.complete(null, new LinkedHashSet<Integer>(models));
+
+            assertTrue(compact instanceof CompactCollectionFactory.CompactSet);
+            assertEquals(models, compact);
+            assertEquals(models.hashCode(), compact.hashCode());
+            assertEquals(new ArrayList<Integer>(models), new ArrayList<Integer>(compact));
+            assertFalse(compact.contains(7));
+            for (Integer model : models) {
+                assertTrue(compact.contains(model));
+            }
+
+            try {
+                compact.remove(models.iterator().next());
+                fail("CompactSet is unmodifiable");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testFieldCollectionFactory() throws ModelFactoryException {
+        Wheel wheel = modelFactory.createModel("unmodifiable", Wheel.class);
+
+        assertEquals(2, wheel.getOptions().size());
+        try {
+            wheel.getOptions().clear();
+            fail("options are unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        // Other Blueprints use the factory's CollectionFactory
+        modelFactory.createModel(Wheel.class).getOptions().clear();
+    }
+
+    @Blueprint(value = Wheel.class, alias = "unmodifiable")
+    public static class UnmodifiableWheelBlueprint {
+
+        ConstructorCallback constructor = new ConstructorCallback() {
+            @Override
+            public Object createInstance() {
+                return new Wheel("unmodifiable");
+            }
+        };
+
+        @MappedList(target = Option.class, size = 2, collectionFactory = UnmodifiableCollectionFactory.class)
+        public List<Option> options;
+    }
+}
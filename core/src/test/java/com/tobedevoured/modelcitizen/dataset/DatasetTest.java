@@ -0,0 +1,275 @@
+package com.tobedevoured.modelcitizen.dataset;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.sampler.ZipfSampler;
+
+public class DatasetTest {
+
+    private static ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws ModelFactoryException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CustomerBlueprint());
+        modelFactory.registerBlueprint(new OrderBlueprint());
+        modelFactory.registerBlueprint(new LineBlueprint());
+        modelFactory.setSeed(11);
+    }
+
+    @Test
+    public void scaledCardinalities() throws ModelFactoryException {
+        Dataset dataset = define(10);
+        RecordingSink sink = new RecordingSink();
+        dataset.generate(sink);
+
+        assertEquals(10, sink.rows.get("Customer").size());
+        assertEquals(100, sink.rows.get("Order").size());
+        assertEquals(400, sink.rows.get("Line").size());
+        assertEquals(3, sink.ended);
+
+        List<Object> customers = sink.rows.get("Customer");
+        for (Object row : sink.rows.get("Order")) {
+            Order order = (Order) row;
+            assertNotNull(order.getCustomer());
+            assertTrue(containsCode(customers, order.getCustomer().getCode()));
+        }
+        for (Object row : sink.rows.get("Line")) {
+            assertNotNull(((Line) row).getOrder().getCustomer());
+        }
+    }
+
+    @Test
+    public void deterministic() throws ModelFactoryException {
+        Dataset dataset = define(5);
+        dataset.setParallelism(1);
+        dataset.setChunkSize(1000);
+        RecordingSink first = new RecordingSink();
+        dataset.generate(first);
+
+        dataset = define(5);
+        dataset.setParallelism(4);
+        dataset.setChunkSize(7);
+        RecordingSink second = new RecordingSink();
+        dataset.generate(second);
+
+        assertEquals(codes(first.rows.get("Customer")), codes(second.rows.get("Customer")));
+        assertEquals(5, new HashSet<Long>(codes(first.rows.get("Customer"))).size());
+        assertEquals(first.rows.get("Order").size(), second.rows.get("Order").size());
+        for (int x = 0; x < first.rows.get("Order").size(); x++) {
+            Order one = (Order) first.rows.get("Order").get(x);
+            Order other = (Order) second.rows.get("Order").get(x);
+            assertEquals(one.getCode(), other.getCode());
+            assertEquals(one.getCustomer().getCode(), other.getCustomer().getCode());
+        }
+
+        // A referenced row is the row at its index
+        Table<?> customers = dataset.getTables().get(0);
+        assertEquals(((Customer) first.rows.get("Customer").get(3)).getCode(), ((Customer) customers.get(3)).getCode());
+
+        modelFactory.setSeed(12);
+        assertFalse(((Customer) first.rows.get("Customer").get(3)).getCode().equals(((Customer) customers.get(3)).getCode()));
+    }
+
+    @Test
+    public void referencedRowsAreCached() throws ModelFactoryException {
+        Dataset dataset = define(10);
+        dataset.setParallelism(1);
+        Table<?> customers = dataset.getTables().get(0);
+        Table<?> orders = dataset.getTables().get(1);
+        RecordingSink sink = new RecordingSink();
+        dataset.generate(sink);
+
+        assertTrue(customers.getCache().size() > 0);
+        assertTrue(customers.getCache().size() <= 10);
+        Map<Long, Customer> referenced = new HashMap<Long, Customer>();
+        for (Object row : sink.rows.get("Order")) {
+            Customer customer = ((Order) row).getCustomer();
+            Customer previous = referenced.put(customer.getCode(), customer);
+            assertTrue(previous == null || previous == customer);
+        }
+
+        // A new seed clears the cache
+        modelFactory.setSeed(12);
+        orders.get(0);
+        assertEquals(1, customers.getCache().size());
+
+        customers.setCacheSize(0);
+        assertNull(customers.getCache());
+        assertNotSame(((Order) orders.get(0)).getCustomer(), ((Order) orders.get(0)).getCustomer());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void referenceDeclaredLater() {
+        Dataset dataset = new Dataset(modelFactory, 1);
+        Table<Order> orders = dataset.table(Order.class, 1);
+        Table<Customer> customers = dataset.table(Customer.class, 1);
+        orders.reference("customer", customers);
+    }
+
+    @Test
+    public void sinkFailure() throws ModelFactoryException {
+        Dataset dataset = define(1);
+        try {
+            dataset.generate(new RecordingSink() {
+                public void write(Table<?> table, long index, Object row) throws IOException {
+                    throw new IOException("disk full");
+                }
+            });
+            fail("DatasetException expected");
+        } catch (DatasetException e) {
+            assertEquals("disk full", e.getCause().getMessage());
+        }
+    }
+
+    private Dataset define(double scale) {
+        Dataset dataset = new Dataset(modelFactory, scale);
+        Table<Customer> customers = dataset.table(Customer.class, 1);
+        Table<Order> orders = dataset.table(Order.class, 10)
+                .reference("customer", customers, new ZipfSampler((int) customers.size(), 1));
+        dataset.table(Line.class, 40).reference("order", orders);
+        return dataset;
+    }
+
+    private static boolean containsCode(List<Object> customers, long code) {
+        for (Object customer : customers) {
+            if (((Customer) customer).getCode() == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Long> codes(List<Object> customers) {
+        List<Long> codes = new ArrayList<Long>();
+        for (Object customer : customers) {
+            codes.add(((Customer) customer).getCode());
+        }
+        return codes;
+    }
+
+    static class RecordingSink implements DatasetSink {
+        final Map<String, List<Object>> rows = new LinkedHashMap<String, List<Object>>();
+        int ended = 0;
+
+        public void begin(Table<?> table) throws IOException {
+            rows.put(table.getName(), new ArrayList<Object>());
+        }
+
+        public void write(Table<?> table, long index, Object row) throws IOException {
+            assertEquals(rows.get(table.getName()).size(), index);
+            rows.get(table.getName()).add(row);
+        }
+
+        public void end(Table<?> table) throws IOException {
+            ended++;
+        }
+    }
+
+    public static class Customer {
+        private Long code;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+    }
+
+    public static class Order {
+        private Long code;
+        private Customer customer;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    public static class Line {
+        private Order order;
+
+        public Order getOrder() {
+            return order;
+        }
+
+        public void setOrder(Order order) {
+            this.order = order;
+        }
+    }
+
+    static class RandomCode extends FieldCallback<Long> {
+        public Long get(Object referenceModel) {
+            return modelFactory.nextRandom();
+        }
+    }
+
+    @Blueprint(Customer.class)
+    public static class CustomerBlueprint {
+        @Default
+        public FieldCallback<Long> code = new RandomCode();
+    }
+
+    @Blueprint(Order.class)
+    public static class OrderBlueprint {
+        @Default
+        public FieldCallback<Long> code = new RandomCode();
+
+        @Mapped
+        public Customer customer;
+    }
+
+    @Blueprint(Line.class)
+    public static class LineBlueprint {
+        @Mapped
+        public Order order;
+    }
+}
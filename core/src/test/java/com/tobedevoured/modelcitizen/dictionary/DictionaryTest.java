@@ -0,0 +1,192 @@
+package com.tobedevoured.modelcitizen.dictionary;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.FromDictionary;
+import com.tobedevoured.modelcitizen.annotation.Unique;
+
+public class DictionaryTest {
+
+    private static final String DIRECTORY = "target/dictionary-test";
+    private static final String CITIES = DIRECTORY + "/cities.dict";
+    private static final String NAMES = DIRECTORY + "/names.dict";
+    private static final List<String> CITY_WORDS = Arrays.asList("Z\u00fcrich", "Krak\u00f3w", "Lyon", "Porto");
+
+    @BeforeClass
+    public static void writeDictionaries() throws IOException {
+        File directory = new File(DIRECTORY);
+        directory.mkdirs();
+
+        DictionaryWriter.write(new File(CITIES), CITY_WORDS, new double[]{7, 1, 2, 0});
+
+        File text = new File(directory, "names.txt");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(text), "UTF-8");
+        try {
+            for (int x = 0; x < 500; x++) {
+                writer.write("name-" + x + "\n");
+            }
+            writer.write("\n");
+        } finally {
+            writer.close();
+        }
+        DictionaryWriter.convert(text, new File(NAMES));
+    }
+
+    @Test
+    public void openedOnce() throws IOException {
+        Dictionary dictionary = Dictionary.open(CITIES);
+        assertSame(dictionary, Dictionary.open(new File(CITIES)));
+        assertSame(dictionary, Dictionary.open(new File(DIRECTORY, "../dictionary-test/cities.dict")));
+
+        assertEquals(4, dictionary.size());
+        assertTrue(dictionary.isWeighted());
+        for (int x = 0; x < CITY_WORDS.size(); x++) {
+            assertEquals(CITY_WORDS.get(x), dictionary.get(x));
+        }
+
+        ByteBuffer bytes = dictionary.getBytes(0);
+        assertEquals("Z\u00fcrich".getBytes("UTF-8").length, bytes.remaining());
+        assertTrue(bytes.isReadOnly());
+    }
+
+    @Test
+    public void closed() throws IOException {
+        Dictionary dictionary = Dictionary.open(CITIES);
+
+        assertTrue(Dictionary.close(new File(CITIES)));
+        assertFalse(Dictionary.close(new File(CITIES)));
+
+        // still readable while referenced, mapped again when opened
+        assertEquals(CITY_WORDS.get(0), dictionary.get(0));
+        Dictionary reopened = Dictionary.open(CITIES);
+        assertNotSame(dictionary, reopened);
+        assertEquals(CITY_WORDS.get(0), reopened.get(0));
+    }
+
+    @Test
+    public void weightedPicks() throws IOException {
+        Dictionary dictionary = Dictionary.open(CITIES);
+        Random random = new Random(4);
+        int[] counts = new int[4];
+        for (int x = 0; x < 100000; x++) {
+            counts[dictionary.pickIndex(random.nextLong())]++;
+        }
+
+        assertEquals(0.7, counts[0] / 100000d, 0.01);
+        assertEquals(0.1, counts[1] / 100000d, 0.01);
+        assertEquals(0.2, counts[2] / 100000d, 0.01);
+        assertEquals(0, counts[3]);
+    }
+
+    @Test
+    public void convertedText() throws IOException {
+        Dictionary dictionary = Dictionary.open(NAMES);
+        assertEquals(500, dictionary.size());
+        assertFalse(dictionary.isWeighted());
+        assertEquals("name-499", dictionary.get(499));
+    }
+
+    @Test(expected = IOException.class)
+    public void notADictionary() throws IOException {
+        Dictionary.open(new File(DIRECTORY, "names.txt"));
+    }
+
+    @Test
+    public void blueprintField() throws ModelFactoryException {
+        ModelFactory modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new PersonBlueprint());
+
+        modelFactory.setSeed(9);
+        List<Person> people = modelFactory.createModels(Person.class, 300);
+        modelFactory.setSeed(9);
+        modelFactory.clearUniqueValues();
+        List<Person> again = modelFactory.createModels(Person.class, 300);
+
+        Set<String> names = new HashSet<String>();
+        for (int x = 0; x < people.size(); x++) {
+            assertTrue(CITY_WORDS.contains(people.get(x).getCity()));
+            assertEquals(people.get(x).getCity(), again.get(x).getCity());
+            assertEquals(people.get(x).getName(), again.get(x).getName());
+            assertTrue(names.add(people.get(x).getName()));
+        }
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void missingDictionary() throws RegisterBlueprintException {
+        new ModelFactory().registerBlueprint(new MissingBlueprint());
+    }
+
+    public static class Person {
+        private String name;
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    @Blueprint(Person.class)
+    public static class PersonBlueprint {
+        @FromDictionary(NAMES)
+        @Unique
+        public String name;
+
+        @FromDictionary(CITIES)
+        public String city;
+    }
+
+    @Blueprint(Person.class)
+    public static class MissingBlueprint {
+        @FromDictionary(DIRECTORY + "/missing.dict")
+        public String name;
+    }
+}
@@ -21,16 +21,25 @@ package com.tobedevoured.modelcitizen.modelfactory;
 import com.tobedevoured.modelcitizen.CreateModelException;
 import com.tobedevoured.modelcitizen.ModelFactory;
 import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
 import com.tobedevoured.modelcitizen.blueprint.*;
 import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Option;
 import com.tobedevoured.modelcitizen.model.Wheel;
+import com.tobedevoured.modelcitizen.policy.PolicyException;
+import com.tobedevoured.modelcitizen.policy.SkipReferenceFieldPolicy;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class ByReferenceTest {
 
@@ -90,4 +99,109 @@ public class ByReferenceTest {
         assertEquals("Car Wheels blueprint forced to the mapping of 4", 4, car.getWheels().size());
         assertEquals("The Car reference model should have 0 spares", 0, car.getSpares().size());
     }
+
+    @Test
+    public void testUnmappedReferencePropertiesAreNotCopied() throws CreateModelException {
+        Wheel wheel = modelFactory.createModel(new Wheel("mega tire"));
+
+        assertEquals("tire name", wheel.getName());
+    }
+
+    @Test
+    public void testCopyReferenceProperties() throws CreateModelException {
+        modelFactory.setCopyReferenceProperties(true);
+
+        Car car = new Car();
+        Wheel reference = new Wheel("mega tire");
+        reference.setCar(car);
+        reference.setColor("red");
+
+        Wheel wheel = modelFactory.createModel(reference);
+
+        assertEquals("mega tire", wheel.getName());
+        assertSame(car, wheel.getCar());
+        assertEquals("red", wheel.getColor());
+        assertEquals(wheelBlueprint.size, wheel.getSize());
+    }
+
+    @Test
+    public void testSharedReferenceModelIsCreatedOnce() throws CreateModelException {
+        Option option = new Option();
+        option.setName("shared");
+
+        Wheel reference = new Wheel("mega tire");
+        reference.setOptions(Arrays.asList(option, option));
+
+        Wheel wheel = modelFactory.createModel(reference);
+
+        assertEquals(2, wheel.getOptions().size());
+        assertNotSame(option, wheel.getOptions().get(0));
+        assertEquals("shared", wheel.getOptions().get(0).getName());
+        assertSame(wheel.getOptions().get(0), wheel.getOptions().get(1));
+    }
+
+    @Test
+    public void testReuseReferenceModels() throws CreateModelException {
+        modelFactory.setReuseReferenceModels(true);
+
+        Option option = new Option();
+        Wheel reference = new Wheel("mega tire");
+        reference.setOptions(Arrays.asList(option));
+
+        Wheel wheel = modelFactory.createModel(reference);
+
+        assertSame(option, wheel.getOptions().get(0));
+        assertNull(option.getName());
+    }
+
+    @Test
+    public void testSkippedReferencePropertiesAreNotRead() throws RegisterBlueprintException, PolicyException, CreateModelException {
+        modelFactory.registerBlueprint(new GadgetBlueprint());
+        modelFactory.addPolicy(new SkipReferenceFieldPolicy("secret", Gadget.class));
+
+        Gadget reference = new Gadget();
+        reference.setName("reference name");
+
+        Gadget gadget = modelFactory.createModel(reference);
+
+        assertEquals("reference name", gadget.getName());
+        assertEquals(1, reference.nameReads);
+    }
+
+    @Blueprint(Gadget.class)
+    public static class GadgetBlueprint {
+
+        @Default
+        public String name = "gadget";
+
+        @Default
+        public String secret = "blueprint secret";
+    }
+
+    public static class Gadget {
+
+        private String name;
+        private String secret;
+        private int nameReads;
+
+        public String getName() {
+            nameReads++;
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getSecret() {
+            if (secret == null) {
+                throw new IllegalStateException("secret of the reference model must not be read");
+            }
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
 }
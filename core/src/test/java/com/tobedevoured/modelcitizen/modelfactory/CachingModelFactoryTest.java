@@ -0,0 +1,327 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CachingModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.blueprint.*;
+import com.tobedevoured.modelcitizen.cache.BlueprintModelCloner;
+import com.tobedevoured.modelcitizen.cache.CloneModelException;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.collection.UnmodifiableCollectionFactory;
+import com.tobedevoured.modelcitizen.lazy.LazyModelList;
+import com.tobedevoured.modelcitizen.lazy.VirtualModelList;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CachingModelFactoryTest {
+
+    private CachingModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new CachingModelFactory();
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new UserBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+    }
+
+    @Test
+    public void testCachesModel() throws ModelFactoryException {
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertSame(car1, car2);
+        assertNotSame(car1, modelFactory.createModel(Car.class, false));
+
+        assertEquals(1, modelFactory.getCacheStats().getHitCount());
+        assertEquals(2, modelFactory.getCacheStats().getMissCount());
+
+        // Only the outermost Model is cached
+        assertEquals(2, modelFactory.getCache().size());
+    }
+
+    @Test
+    public void testReferenceModelsAreNotCached() throws ModelFactoryException {
+        Car car = new Car();
+        assertNotSame(modelFactory.createModel(car), modelFactory.createModel(car));
+        assertEquals(0, modelFactory.getCache().size());
+    }
+
+    @Test
+    public void testRegisterBlueprintInvalidatesCache() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+        modelFactory.registerBlueprint(new CarBlueprint());
+        assertNotSame(car, modelFactory.createModel(Car.class));
+    }
+
+    @Test
+    public void testSeedIsPartOfKey() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        modelFactory.setSeed(7);
+        Car seeded = modelFactory.createModel(Car.class);
+        assertNotSame(car, seeded);
+        assertSame(seeded, modelFactory.createModel(Car.class));
+
+        modelFactory.setSeed(0);
+        assertSame(car, modelFactory.createModel(Car.class));
+    }
+
+    @Test
+    public void testOverridesArePartOfKey() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        Car projected = modelFactory.createModel(Car.class, Projection.of("make"));
+        assertNotSame(car, projected);
+        assertNull(projected.getWheels());
+        assertSame(projected, modelFactory.createModel(Car.class, Projection.of("make")));
+
+        Car sized = modelFactory.createModel(Car.class, SizeOverrides.of("wheels", 2));
+        assertNotSame(car, sized);
+        assertEquals(2, sized.getWheels().size());
+        assertSame(sized, modelFactory.createModel(Car.class, SizeOverrides.of("wheels", 2)));
+        assertNotSame(sized, modelFactory.createModel(Car.class, SizeOverrides.of("wheels", 3)));
+    }
+
+    @Test
+    public void testCollectionSizesInvalidateCache() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        modelFactory.setCollectionSize(Car.class, "wheels", 2);
+        Car resized = modelFactory.createModel(Car.class);
+        assertNotSame(car, resized);
+        assertEquals(2, resized.getWheels().size());
+
+        modelFactory.clearCollectionSizes();
+        Car cleared = modelFactory.createModel(Car.class);
+        assertNotSame(resized, cleared);
+        assertEquals(4, cleared.getWheels().size());
+    }
+
+    @Test
+    public void testCollectionFactoryInvalidatesCache() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        modelFactory.setCollectionFactory(new UnmodifiableCollectionFactory());
+        Car unmodifiable = modelFactory.createModel(Car.class);
+        assertNotSame(car, unmodifiable);
+        try {
+            unmodifiable.getWheels().clear();
+            fail("Wheels are unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCreateFromPlansInvalidatesCache() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class);
+
+        modelFactory.setCreateFromPlans(true);
+        Car fromPlan = modelFactory.createModel(Car.class);
+        assertNotSame(car, fromPlan);
+        assertSame(fromPlan, modelFactory.createModel(Car.class));
+
+        modelFactory.setCreateFromPlans(false);
+        assertNotSame(fromPlan, modelFactory.createModel(Car.class));
+    }
+
+    @Test
+    public void testCopyLazyAndVirtualLists() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new BoltBlueprint());
+        modelFactory.registerBlueprint(new HubBlueprint());
+        modelFactory.setSeed(3);
+        BlueprintModelCloner cloner = new BlueprintModelCloner(modelFactory);
+
+        Hub hub = modelFactory.createModel(Hub.class);
+        Bolt first = hub.getBolts().get(0);
+        Hub copy = cloner.clone(hub);
+
+        LazyModelList<Bolt> bolts = (LazyModelList<Bolt>) copy.getBolts();
+        assertTrue(bolts.isCreated(0));
+        assertNotSame(first, bolts.get(0));
+        assertEquals(first.getCode(), bolts.get(0).getCode());
+        assertFalse(bolts.isCreated(1));
+        assertEquals(hub.getBolts().get(1).getCode(), bolts.get(1).getCode());
+
+        VirtualModelList<Bolt> spares = (VirtualModelList<Bolt>) copy.getSpares();
+        assertNotSame(hub.getSpares(), spares);
+        assertFalse(spares.isMaterialized());
+        assertEquals(hub.getSpares().get(2).getCode(), spares.get(2).getCode());
+
+        hub.getSpares().remove(0);
+        spares = (VirtualModelList<Bolt>) cloner.clone(hub).getSpares();
+        assertTrue(spares.isMaterialized());
+        assertEquals(2, spares.size());
+        assertNotSame(hub.getSpares().get(0), spares.get(0));
+        assertEquals(hub.getSpares().get(0).getCode(), spares.get(0).getCode());
+    }
+
+    @Test
+    public void testCopyOnRead() throws ModelFactoryException {
+        modelFactory.setCopyOnRead(true);
+
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertNotSame(car1, car2);
+        assertEquals(car1.getMake(), car2.getMake());
+        assertNotSame(car1.getDriver(), car2.getDriver());
+        assertEquals(car1.getDriver().getName(), car2.getDriver().getName());
+
+        assertNotSame(car1.getWheels(), car2.getWheels());
+        assertEquals(car1.getWheels().size(), car2.getWheels().size());
+        for (Wheel wheel : car2.getWheels()) {
+            assertFalse(car1.getWheels().contains(wheel));
+
+            // The graph is copied once, the copied wheels reference the copied car
+            assertSame(car2, wheel.getCar());
+        }
+    }
+
+    @Test
+    public void testCopyOnReadCopiesMaps() throws ModelFactoryException {
+        modelFactory.setCopyOnRead(true);
+
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertNotSame(car1.getStatus(), car2.getStatus());
+        assertEquals(car1.getStatus(), car2.getStatus());
+    }
+
+    @Test
+    public void testCopyOnReadKeepsUnmodifiableCollections() throws ModelFactoryException {
+        modelFactory.setCollectionFactory(new UnmodifiableCollectionFactory());
+        modelFactory.setCopyOnRead(true);
+
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertNotSame(car1.getWheels(), car2.getWheels());
+        assertEquals(car1.getWheels().getClass(), car2.getWheels().getClass());
+        assertEquals(car1.getSpares().getClass(), car2.getSpares().getClass());
+        assertSame(car2, car2.getWheels().get(0).getCar());
+    }
+
+    @Test
+    public void testCloneArrays() throws ModelFactoryException {
+        BlueprintModelCloner cloner = new BlueprintModelCloner(modelFactory);
+
+        int[] codes = new int[]{1, 2, 3};
+        int[] copiedCodes = cloner.clone(codes);
+        assertNotSame(codes, copiedCodes);
+        assertArrayEquals(codes, copiedCodes);
+
+        Car[] cars = new Car[]{modelFactory.createModel(Car.class, false)};
+        Car[] copiedCars = cloner.clone(cars);
+        assertNotSame(cars, copiedCars);
+        assertNotSame(cars[0], copiedCars[0]);
+        assertEquals(cars[0].getMake(), copiedCars[0].getMake());
+    }
+
+    @Test(expected = CloneModelException.class)
+    public void testCloneCollectionThatCannotBeCreated() throws ModelFactoryException {
+        final List<Car> cars = new ArrayList<Car>();
+        cars.add(new Car());
+
+        List<Car> view = new AbstractList<Car>() {
+            public Car get(int index) {
+                return cars.get(index);
+            }
+
+            public int size() {
+                return cars.size();
+            }
+        };
+
+        new BlueprintModelCloner(modelFactory).clone(Collections.singletonMap("cars", view));
+    }
+
+    public static class Bolt {
+        private Long code;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+    }
+
+    public static class Hub {
+        private List<Bolt> bolts;
+        private List<Bolt> spares;
+
+        public List<Bolt> getBolts() {
+            return bolts;
+        }
+
+        public void setBolts(List<Bolt> bolts) {
+            this.bolts = bolts;
+        }
+
+        public List<Bolt> getSpares() {
+            return spares;
+        }
+
+        public void setSpares(List<Bolt> spares) {
+            this.spares = spares;
+        }
+    }
+
+    @Blueprint(Bolt.class)
+    public class BoltBlueprint {
+        @Default
+        public FieldCallback<Long> code = new FieldCallback<Long>() {
+            public Long get(Object referenceModel) {
+                return modelFactory.nextRandom();
+            }
+        };
+    }
+
+    @Blueprint(Hub.class)
+    public static class HubBlueprint {
+        @MappedList(target = Bolt.class, size = 3, lazy = true)
+        public List<Bolt> bolts;
+
+        @MappedList(target = Bolt.class, size = 3, virtual = true, window = 1)
+        public List<Bolt> spares;
+    }
+}
@@ -0,0 +1,189 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.blueprint.*;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Driver;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import com.tobedevoured.modelcitizen.projection.SizeOverrides;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class CollectionSizeTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+    }
+
+    @Test
+    public void testFactorySize() throws ModelFactoryException {
+        modelFactory.setCollectionSize(Car.class, "wheels", 10);
+        modelFactory.setCollectionSize(Driver.class, "favoriteCars", 7);
+
+        Car car = modelFactory.createModel(Car.class);
+        assertEquals(10, car.getWheels().size());
+        for (Wheel wheel : car.getWheels()) {
+            assertSame(car, wheel.getCar());
+        }
+        assertEquals(7, car.getDriver().getFavoriteCars().size());
+
+        modelFactory.clearCollectionSizes();
+        assertEquals(4, modelFactory.createModel(Car.class).getWheels().size());
+    }
+
+    @Test
+    public void testSizeOverrides() throws ModelFactoryException {
+        SizeOverrides sizeOverrides = SizeOverrides.of("wheels", 2).with("wheels.options", 5).with("spares", 3);
+        Car car = modelFactory.createModel(Car.class, sizeOverrides);
+
+        assertEquals(2, car.getWheels().size());
+        for (Wheel wheel : car.getWheels()) {
+            assertEquals(5, wheel.getOptions().size());
+            assertEquals(2, wheel.getVariants().size());
+        }
+        assertEquals(3, car.getSpares().size());
+
+        // Overrides only apply to the call
+        car = modelFactory.createModel(Car.class);
+        assertEquals(4, car.getWheels().size());
+        assertEquals(3, car.getWheels().get(0).getOptions().size());
+    }
+
+    @Test
+    public void testBulkCreate() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.setBulkCreateThreshold(10);
+        modelFactory.setCollectionSize(Car.class, "wheels", 20);
+
+        Car car = modelFactory.createModel(Car.class);
+        assertEquals(20, car.getWheels().size());
+
+        Set<Wheel> distinct = new HashSet<Wheel>(car.getWheels());
+        assertEquals(20, distinct.size());
+        for (Wheel wheel : car.getWheels()) {
+            assertEquals("tire name", wheel.getName());
+            assertEquals(new Integer(10), wheel.getSize());
+            assertEquals(3, wheel.getOptions().size());
+            assertSame(car, wheel.getCar());
+        }
+    }
+
+    @Test
+    public void testBulkCreateRequiresPlans() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new TagBlueprint());
+        modelFactory.registerBlueprint(new RackBlueprint());
+        modelFactory.setBulkCreateThreshold(2);
+        Tag.constructed = 0;
+
+        // Each Tag is built as usual, keeping the name set by every other constructor call
+        Rack rack = modelFactory.createModel(Rack.class);
+        assertEquals(4, rack.getTags().size());
+        for (int x = 0; x < 4; x++) {
+            assertEquals(x % 2 == 0 ? "constructed" : "tag", rack.getTags().get(x).getName());
+        }
+    }
+
+    @Test
+    public void testOverrideEmptyList() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new TagBlueprint());
+        modelFactory.registerBlueprint("empty", new EmptyRackBlueprint());
+
+        assertTrue(modelFactory.createModel("empty", Rack.class).getTags().isEmpty());
+
+        modelFactory.setCollectionSize(Rack.class, "tags", 3);
+        Rack rack = modelFactory.createModel("empty", Rack.class);
+        assertEquals(3, rack.getTags().size());
+        for (Tag tag : rack.getTags()) {
+            assertNotNull(tag);
+        }
+
+        assertEquals(2, modelFactory.createModel("empty", Rack.class, SizeOverrides.of("tags", 2)).getTags().size());
+    }
+
+    public static class Tag {
+        static int constructed;
+
+        private String name;
+
+        public Tag() {
+            if (constructed++ % 2 == 0) {
+                name = "constructed";
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Rack {
+        private List<Tag> tags;
+
+        public List<Tag> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<Tag> tags) {
+            this.tags = tags;
+        }
+    }
+
+    @Blueprint(Tag.class)
+    public static class TagBlueprint {
+        @Default
+        public String name = "tag";
+    }
+
+    @Blueprint(Rack.class)
+    public static class RackBlueprint {
+        @MappedList(target = Tag.class, size = 4)
+        public List<Tag> tags;
+    }
+
+    @Blueprint(Rack.class)
+    public static class EmptyRackBlueprint {
+        @MappedList(target = Tag.class, size = 0)
+        public List<Tag> tags;
+    }
+}
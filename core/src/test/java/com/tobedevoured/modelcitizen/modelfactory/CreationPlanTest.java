@@ -0,0 +1,264 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.blueprint.*;
+import com.tobedevoured.modelcitizen.callback.ConstructorCallback;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Driver;
+import com.tobedevoured.modelcitizen.model.Option;
+import com.tobedevoured.modelcitizen.model.User;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import com.tobedevoured.modelcitizen.policy.MappedSingletonPolicy;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CreationPlanTest {
+
+    private ModelFactory modelFactory;
+    private CarBlueprint carBlueprint = new CarBlueprint();
+    private WheelBlueprint wheelBlueprint = new WheelBlueprint();
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.registerBlueprint(carBlueprint);
+        modelFactory.registerBlueprint(wheelBlueprint);
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new UserBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+    }
+
+    @Test
+    public void testCreateModelFromPlan() throws ModelFactoryException {
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertNotSame(car1, car2);
+        assertEquals(carBlueprint.make, car2.getMake());
+        assertEquals(0.0f, car2.getMileage(), 0);
+        assertNull(car2.getPassenger());
+
+        assertNotSame(car1.getDriver(), car2.getDriver());
+        assertEquals("Lev the Driver", car2.getDriver().getName());
+        assertEquals(3, car2.getDriver().getFavoriteCars().size());
+
+        assertEquals(4, car2.getWheels().size());
+        assertNotSame(car1.getWheels().get(0), car2.getWheels().get(0));
+        for (Wheel wheel : car2.getWheels()) {
+            assertEquals("tire name", wheel.getName());
+            assertEquals(wheelBlueprint.size, wheel.getSize());
+            assertEquals(3, wheel.getOptions().size());
+
+            // AfterCreateCallback still runs
+            assertSame(car2, wheel.getCar());
+        }
+        assertEquals(1, car2.getSpares().size());
+    }
+
+    @Test
+    public void testCallbacksAreEvaluatedForEachModel() throws ModelFactoryException {
+        User user1 = modelFactory.createModel(User.class);
+        User user2 = modelFactory.createModel(User.class);
+
+        assertTrue(user1.getUsername().startsWith("username"));
+        assertFalse(user1.getUsername().equals(user2.getUsername()));
+        assertEquals(3, user2.getEmails().size());
+    }
+
+    @Test
+    public void testPoliciesStillApply() throws ModelFactoryException {
+        modelFactory.createModel(Car.class);
+        modelFactory.addPolicy(new MappedSingletonPolicy(Driver.class));
+
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+
+        assertSame(car1.getDriver(), car2.getDriver());
+    }
+
+    @Test
+    public void testConstructorCallbackIsNotPlanned() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new GizmoBlueprint());
+
+        Gizmo first = modelFactory.createModel(Gizmo.class);
+        Gizmo second = modelFactory.createModel(Gizmo.class);
+        Gizmo third = modelFactory.createModel(Gizmo.class);
+
+        assertEquals("constructed", first.getName());
+        assertEquals("gizmo", second.getName());
+        assertEquals("constructed", third.getName());
+    }
+
+    @Test
+    public void testListFilledByConstructorIsKept() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new KitBlueprint());
+
+        modelFactory.createModel(Kit.class);
+        Kit kit = modelFactory.createModel(Kit.class);
+
+        assertEquals(1, kit.getOptions().size());
+        assertEquals("constructed", kit.getOptions().get(0).getName());
+    }
+
+    @Test
+    public void testPlanReadsPropertiesOnce() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new GaugeBlueprint());
+        int models = 100;
+
+        // Without a plan the default of each field is only used once the getter returned null
+        modelFactory.setCreateFromPlans(false);
+        Gauge.reads = 0;
+        for (int x = 0; x < models; x++) {
+            modelFactory.createModel(Gauge.class);
+        }
+        assertEquals(models * 3, Gauge.reads);
+
+        // The plan reads the first Model and only sets the values of the others
+        modelFactory.setCreateFromPlans(true);
+        Gauge.reads = 0;
+        Gauge gauge = null;
+        for (int x = 0; x < models; x++) {
+            gauge = modelFactory.createModel(Gauge.class);
+        }
+        assertEquals(3, Gauge.reads);
+        assertEquals("psi", gauge.unit);
+    }
+
+    @Blueprint(Gizmo.class)
+    public static class GizmoBlueprint {
+
+        ConstructorCallback constructor = new ConstructorCallback() {
+            private int count = 0;
+
+            @Override
+            public Object createInstance() {
+                Gizmo gizmo = new Gizmo();
+                if (count++ % 2 == 0) {
+                    gizmo.setName("constructed");
+                }
+                return gizmo;
+            }
+        };
+
+        @Default
+        public String name = "gizmo";
+    }
+
+    public static class Gizmo {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Blueprint(Gauge.class)
+    public static class GaugeBlueprint {
+
+        @Default
+        public String name = "gauge";
+
+        @Default
+        public String unit = "psi";
+
+        @Default
+        public String scale = "linear";
+    }
+
+    public static class Gauge {
+
+        private static int reads;
+
+        private String name;
+        private String unit;
+        private String scale;
+
+        public String getName() {
+            reads++;
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUnit() {
+            reads++;
+            return unit;
+        }
+
+        public void setUnit(String unit) {
+            this.unit = unit;
+        }
+
+        public String getScale() {
+            reads++;
+            return scale;
+        }
+
+        public void setScale(String scale) {
+            this.scale = scale;
+        }
+    }
+
+    @Blueprint(Kit.class)
+    public static class KitBlueprint {
+
+        @MappedList(target = Option.class, size = 3)
+        public List<Option> options;
+    }
+
+    public static class Kit {
+
+        private List<Option> options = new ArrayList<Option>();
+
+        public Kit() {
+            Option option = new Option();
+            option.setName("constructed");
+            options.add(option);
+        }
+
+        public List<Option> getOptions() {
+            return options;
+        }
+
+        public void setOptions(List<Option> options) {
+            this.options = options;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.annotation.Nullable;
+import com.tobedevoured.modelcitizen.blueprint.CarBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.WheelBlueprint;
+import com.tobedevoured.modelcitizen.model.Car;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DepthLimitTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() {
+        modelFactory = new ModelFactory();
+    }
+
+    @Test
+    public void testMaxDepth() throws RegisterBlueprintException {
+        modelFactory.setRejectBlueprintCycles(false);
+        modelFactory.registerBlueprint(new NodeBlueprint());
+        modelFactory.setMaxDepth(5);
+
+        try {
+            modelFactory.createModel(Node.class);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Maximum depth of 5"));
+            assertTrue(e.getMessage(), e.getMessage().contains("Node.child > Node.child > Node.child > Node.child > Node.child > Node"));
+        }
+    }
+
+    @Test
+    public void testMaxNodes() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new TreeBlueprint());
+        modelFactory.registerBlueprint(new BranchBlueprint());
+        modelFactory.registerBlueprint(new LeafBlueprint());
+
+        // 1 Tree, 10 Branches and 100 Leaves
+        Tree tree = modelFactory.createModel(Tree.class);
+        assertEquals(10, tree.getBranches().size());
+
+        // The budget is for each outermost Model
+        modelFactory.setMaxNodes(111);
+        modelFactory.createModel(Tree.class);
+        modelFactory.createModel(Tree.class);
+
+        modelFactory.setMaxNodes(50);
+        try {
+            modelFactory.createModel(Tree.class);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Maximum of 50 Models"));
+            assertTrue(e.getMessage(), e.getMessage().contains("Tree.branches > Branch.leaves > Leaf"));
+        }
+    }
+
+    @Test
+    public void testMaxDepthFromPlan() throws RegisterBlueprintException {
+        modelFactory.setRejectBlueprintCycles(false);
+        modelFactory.registerBlueprint(new NodeBlueprint());
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.setMaxDepth(5);
+
+        try {
+            modelFactory.createModel(Node.class);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Maximum depth of 5"));
+        }
+    }
+
+    @Test
+    public void testBlueprintCycle() throws ModelFactoryException {
+        assertTrue(modelFactory.isRejectBlueprintCycles());
+
+        // A Nullable field does not always create a Model
+        modelFactory.registerBlueprint(new NullableNodeBlueprint());
+        assertNull(modelFactory.createModel(Node.class).getChild());
+
+        try {
+            modelFactory.registerBlueprint(new NodeBlueprint());
+            fail("RegisterBlueprintException expected");
+        } catch (RegisterBlueprintException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Node(default) > Node(default)"));
+        }
+
+        // The rejected Blueprint is not registered
+        assertNull(modelFactory.createModel(Node.class).getChild());
+        assertEquals(1, modelFactory.getBlueprints().size());
+    }
+
+    @Test
+    public void testExistingGraph() throws ModelFactoryException {
+        modelFactory.setMaxDepth(3);
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+
+        Car car = modelFactory.createModel(Car.class);
+        assertEquals(4, car.getWheels().size());
+    }
+
+    public static class Node {
+        private String name;
+        private Node child;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Node getChild() {
+            return child;
+        }
+
+        public void setChild(Node child) {
+            this.child = child;
+        }
+    }
+
+    @Blueprint(Node.class)
+    public static class NodeBlueprint {
+        @Default
+        public String name = "node";
+
+        @Mapped
+        public Node child;
+    }
+
+    @Blueprint(Node.class)
+    public static class NullableNodeBlueprint {
+        @Default
+        public String name = "node";
+
+        @Mapped
+        @Nullable
+        public Node child;
+    }
+
+    public static class Tree {
+        private List<Branch> branches;
+
+        public List<Branch> getBranches() {
+            return branches;
+        }
+
+        public void setBranches(List<Branch> branches) {
+            this.branches = branches;
+        }
+    }
+
+    public static class Branch {
+        private List<Leaf> leaves;
+
+        public List<Leaf> getLeaves() {
+            return leaves;
+        }
+
+        public void setLeaves(List<Leaf> leaves) {
+            this.leaves = leaves;
+        }
+    }
+
+    public static class Leaf {
+        private String color;
+
+        public String getColor() {
+            return color;
+        }
+
+        public void setColor(String color) {
+            this.color = color;
+        }
+    }
+
+    @Blueprint(Tree.class)
+    public static class TreeBlueprint {
+        @MappedList(target = Branch.class, size = 10)
+        public List<Branch> branches;
+    }
+
+    @Blueprint(Branch.class)
+    public static class BranchBlueprint {
+        @MappedList(target = Leaf.class, size = 10)
+        public List<Leaf> leaves;
+    }
+
+    @Blueprint(Leaf.class)
+    public static class LeafBlueprint {
+        @Default
+        public String color = "green";
+    }
+}
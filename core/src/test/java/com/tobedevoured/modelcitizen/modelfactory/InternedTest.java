@@ -0,0 +1,127 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Interned;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.InternedWheelBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Driver;
+import com.tobedevoured.modelcitizen.model.Option;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InternedTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint(new InternedWheelBlueprint());
+    }
+
+    @Test
+    public void testInternedInFactory() throws ModelFactoryException {
+        Wheel wheel1 = modelFactory.createModel("interned", Wheel.class);
+        Wheel wheel2 = modelFactory.createModel("interned", Wheel.class);
+
+        Option option = wheel1.getOptions().get(0);
+        assertEquals("option", option.getName());
+        assertEquals(3, wheel1.getOptions().size());
+        for (Option other : wheel1.getOptions()) {
+            assertSame(option, other);
+        }
+        assertSame(option, wheel2.getOptions().get(0));
+
+        modelFactory.clearInterned();
+        Wheel wheel3 = modelFactory.createModel("interned", Wheel.class);
+        assertNotSame(option, wheel3.getOptions().get(0));
+    }
+
+    @Test
+    public void testInternedInBatch() throws ModelFactoryException {
+        List<Wheel> wheels = modelFactory.createModels("interned", Wheel.class, 3);
+        assertEquals(3, wheels.size());
+
+        Option variant = wheels.get(0).getVariants().get(0);
+        for (Wheel wheel : wheels) {
+            assertSame(variant, wheel.getVariants().get(0));
+            assertSame(variant, wheel.getVariants().get(1));
+        }
+
+        Wheel wheel = modelFactory.createModel("interned", Wheel.class);
+        assertNotSame(variant, wheel.getVariants().get(0));
+        assertSame(wheel.getVariants().get(0), wheel.getVariants().get(1));
+    }
+
+    @Test
+    public void testInternedModelIsKeyedByInternedValues() throws ModelFactoryException {
+        Option option = modelFactory.createModel("interned", Wheel.class).getOptions().get(0);
+        option.setName("changed");
+
+        // The interned model is keyed by its values when it was interned
+        Option other = modelFactory.createModel("interned", Wheel.class).getOptions().get(0);
+        assertSame(option, other);
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testInternedDefaultIsRejected() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new InternedDefaultBlueprint());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testInternedModelWithMappedModelsIsRejected() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new InternedDriverCarBlueprint());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testInternedModelWithMappedModelsRegisteredLaterIsRejected() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new InternedDriverCarBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+    }
+
+    @Blueprint(Car.class)
+    public static class InternedDriverCarBlueprint {
+        @Mapped
+        @Interned
+        public Driver driver;
+    }
+
+    @Blueprint(Option.class)
+    public static class InternedDefaultBlueprint {
+        @Default
+        @Interned
+        public String name = "option";
+    }
+}
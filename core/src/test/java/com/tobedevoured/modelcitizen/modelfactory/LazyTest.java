@@ -0,0 +1,247 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.lazy.LazyModelList;
+import com.tobedevoured.modelcitizen.lazy.LazyModelProxy;
+import com.tobedevoured.modelcitizen.model.Driver;
+import com.tobedevoured.modelcitizen.model.Option;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LazyTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint(new EngineBlueprint());
+        modelFactory.registerBlueprint(new LazyGarageBlueprint());
+        modelFactory.registerBlueprint(new CrateBlueprint());
+        modelFactory.registerBlueprint(new ShelfBlueprint());
+    }
+
+    @Test
+    public void testLazyMapped() throws ModelFactoryException {
+        Garage garage = modelFactory.createModel(Garage.class);
+
+        assertFalse(LazyModelProxy.isCreated(garage.getEngine()));
+        assertEquals(300, garage.getEngine().getHorsepower());
+        assertTrue(LazyModelProxy.isCreated(garage.getEngine()));
+    }
+
+    @Test
+    public void testLazyMappedList() throws ModelFactoryException {
+        Garage garage = modelFactory.createModel(Garage.class);
+
+        assertTrue(garage.getOptions() instanceof LazyModelList);
+        LazyModelList<Option> options = (LazyModelList<Option>) garage.getOptions();
+        assertEquals(3, options.size());
+        assertFalse(options.isCreated(1));
+
+        Option option = options.get(1);
+        assertEquals("option", option.getName());
+        assertTrue(options.isCreated(1));
+        assertFalse(options.isCreated(0));
+        assertSame(option, options.get(1));
+
+        options.remove(0);
+        options.add(new Option());
+        assertEquals(3, options.size());
+        assertSame(option, options.get(0));
+    }
+
+    @Test
+    public void testLazyFromPlan() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.createModel(Garage.class);
+
+        Garage garage = modelFactory.createModel(Garage.class);
+        assertFalse(LazyModelProxy.isCreated(garage.getEngine()));
+        assertEquals(300, garage.getEngine().getHorsepower());
+        assertFalse(((LazyModelList) garage.getOptions()).isCreated(0));
+    }
+
+    @Test
+    public void testLazyMappedListKeepsProjection() throws ModelFactoryException {
+        Shelf shelf = modelFactory.createModel(Shelf.class, Projection.of("crates.label"));
+
+        Crate crate = shelf.getCrates().get(1);
+        assertEquals("crate", crate.getLabel());
+        assertNull(crate.getCode());
+    }
+
+    @Test
+    public void testLazyMappedListIsSeeded() throws ModelFactoryException {
+        modelFactory.setSeed(7);
+
+        Shelf shelf1 = modelFactory.createSeededModel(ModelFactory.DEFAULT_BLUEPRINT_NAME, Shelf.class, 42);
+        Shelf shelf2 = modelFactory.createSeededModel(ModelFactory.DEFAULT_BLUEPRINT_NAME, Shelf.class, 42);
+
+        // Read in a different order, and after other Models have been created
+        String code = shelf1.getCrates().get(2).getCode();
+        modelFactory.createModel(Shelf.class).getCrates().get(2);
+        shelf2.getCrates().get(0);
+
+        assertNotNull(code);
+        assertEquals(code, shelf2.getCrates().get(2).getCode());
+        assertFalse(code.equals(shelf1.getCrates().get(0).getCode()));
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testLazyMappedRequiresInterface() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new LazyClassBlueprint());
+    }
+
+    public interface Engine {
+        int getHorsepower();
+    }
+
+    public static class V8Engine implements Engine {
+        private int horsepower;
+
+        public int getHorsepower() {
+            return horsepower;
+        }
+
+        public void setHorsepower(int horsepower) {
+            this.horsepower = horsepower;
+        }
+    }
+
+    public static class Garage {
+        private Engine engine;
+        private List<Option> options;
+        private Driver driver;
+
+        public Engine getEngine() {
+            return engine;
+        }
+
+        public void setEngine(Engine engine) {
+            this.engine = engine;
+        }
+
+        public List<Option> getOptions() {
+            return options;
+        }
+
+        public void setOptions(List<Option> options) {
+            this.options = options;
+        }
+
+        public Driver getDriver() {
+            return driver;
+        }
+
+        public void setDriver(Driver driver) {
+            this.driver = driver;
+        }
+    }
+
+    @Blueprint(V8Engine.class)
+    public static class EngineBlueprint {
+        @Default(force = true)
+        public int horsepower = 300;
+    }
+
+    @Blueprint(Garage.class)
+    public static class LazyGarageBlueprint {
+        @Mapped(target = V8Engine.class, lazy = true)
+        public Engine engine;
+
+        @MappedList(target = Option.class, size = 3, lazy = true)
+        public List<Option> options;
+    }
+
+    @Blueprint(Garage.class)
+    public static class LazyClassBlueprint {
+        @Mapped(lazy = true)
+        public Driver driver;
+    }
+
+    public static class Crate {
+        private String label;
+        private String code;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+    }
+
+    public static class Shelf {
+        private List<Crate> crates;
+
+        public List<Crate> getCrates() {
+            return crates;
+        }
+
+        public void setCrates(List<Crate> crates) {
+            this.crates = crates;
+        }
+    }
+
+    @Blueprint(Crate.class)
+    public class CrateBlueprint {
+        @Default
+        public String label = "crate";
+
+        @Default
+        public FieldCallback<String> code = new FieldCallback<String>() {
+            @Override
+            public String get(Object referenceModel) {
+                return Long.toHexString(modelFactory.nextRandom());
+            }
+        };
+    }
+
+    @Blueprint(Shelf.class)
+    public static class ShelfBlueprint {
+        @MappedList(target = Crate.class, size = 3, lazy = true)
+        public List<Crate> crates;
+    }
+}
@@ -0,0 +1,208 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.ArrayFill;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.MappedArray;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.WheelBlueprint;
+import com.tobedevoured.modelcitizen.field.MappedArrayField;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class MappedArrayTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = createModelFactory();
+    }
+
+    private ModelFactory createModelFactory() throws RegisterBlueprintException {
+        ModelFactory modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new SensorBlueprint());
+        return modelFactory;
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws ModelFactoryException {
+        Sensor sensor = modelFactory.createModel(Sensor.class);
+
+        assertArrayEquals(new int[]{1, 3, 5, 7, 9}, sensor.getIds());
+        assertArrayEquals(new long[]{7, 7, 7}, sensor.getOffsets());
+
+        assertEquals(100, sensor.getReadings().length);
+        for (double reading : sensor.getReadings()) {
+            assertTrue(reading >= -1 && reading < 1);
+        }
+
+        // Each Model continues the random sequence
+        Sensor other = modelFactory.createModel(Sensor.class);
+        assertFalse(Arrays.equals(sensor.getReadings(), other.getReadings()));
+
+        // The same seed gives the same arrays
+        assertArrayEquals(sensor.getReadings(), createModelFactory().createModel(Sensor.class).getReadings(), 0);
+    }
+
+    @Test
+    public void testRandomArraysAreSeededPerModel() throws ModelFactoryException {
+        modelFactory.setSeed(7);
+        Sensor sensor = modelFactory.createSeededModel(ModelFactory.DEFAULT_BLUEPRINT_NAME, Sensor.class, 3);
+
+        // Other Models drawing random arrays do not change the arrays of the stream
+        modelFactory.createModel(Sensor.class);
+        Sensor again = modelFactory.createSeededModel(ModelFactory.DEFAULT_BLUEPRINT_NAME, Sensor.class, 3);
+
+        assertArrayEquals(sensor.getReadings(), again.getReadings(), 0);
+    }
+
+    @Test
+    public void testRandomShortAndByteArrays() {
+        MappedArrayField arrayField = new MappedArrayField();
+        arrayField.setFill(ArrayFill.RANDOM);
+        arrayField.setMin(-3);
+        arrayField.setMax(3);
+
+        arrayField.setTarget(short.class);
+        short[] shorts = (short[]) arrayField.createPrimitiveArray(1000, 11);
+        for (short value : shorts) {
+            assertTrue(value >= -3 && value < 3);
+        }
+        assertArrayEquals(shorts, (short[]) arrayField.createPrimitiveArray(1000, 11));
+
+        arrayField.setTarget(byte.class);
+        byte[] bytes = (byte[]) arrayField.createPrimitiveArray(1000, 11);
+        for (byte value : bytes) {
+            assertTrue(value >= -3 && value < 3);
+        }
+        assertFalse(Arrays.equals(bytes, (byte[]) arrayField.createPrimitiveArray(1000, 12)));
+    }
+
+    @Test
+    public void testModelArray() throws ModelFactoryException {
+        Sensor sensor = modelFactory.createModel(Sensor.class);
+
+        assertEquals(3, sensor.getWheels().length);
+        for (Wheel wheel : sensor.getWheels()) {
+            assertEquals("tire name", wheel.getName());
+        }
+        assertNotSame(sensor.getWheels()[0], sensor.getWheels()[1]);
+    }
+
+    @Test
+    public void testArraySizeAndReference() throws ModelFactoryException {
+        modelFactory.setCollectionSize(Sensor.class, "readings", 1000);
+        modelFactory.setCollectionSize(Sensor.class, "wheels", 5);
+
+        Sensor sensor = modelFactory.createModel(Sensor.class);
+        assertEquals(1000, sensor.getReadings().length);
+        assertEquals(5, sensor.getWheels().length);
+
+        Sensor reference = new Sensor();
+        reference.setIds(new int[]{42});
+        assertArrayEquals(new int[]{42}, modelFactory.createModel(reference).getIds());
+    }
+
+    @Test
+    public void testCreationPlan() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.createModel(Sensor.class);
+
+        Sensor sensor = modelFactory.createModel(Sensor.class);
+        assertArrayEquals(new int[]{1, 3, 5, 7, 9}, sensor.getIds());
+        assertEquals(3, sensor.getWheels().length);
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testArrayRequired() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new BadSensorBlueprint());
+    }
+
+    public static class Sensor {
+        private int[] ids;
+        private long[] offsets;
+        private double[] readings;
+        private Wheel[] wheels;
+
+        public int[] getIds() {
+            return ids;
+        }
+
+        public void setIds(int[] ids) {
+            this.ids = ids;
+        }
+
+        public long[] getOffsets() {
+            return offsets;
+        }
+
+        public void setOffsets(long[] offsets) {
+            this.offsets = offsets;
+        }
+
+        public double[] getReadings() {
+            return readings;
+        }
+
+        public void setReadings(double[] readings) {
+            this.readings = readings;
+        }
+
+        public Wheel[] getWheels() {
+            return wheels;
+        }
+
+        public void setWheels(Wheel[] wheels) {
+            this.wheels = wheels;
+        }
+    }
+
+    @Blueprint(Sensor.class)
+    public static class SensorBlueprint {
+        @MappedArray(size = 5, fill = ArrayFill.SEQUENCE, value = 1, step = 2)
+        public int[] ids;
+
+        @MappedArray(size = 3, value = 7)
+        public long[] offsets;
+
+        @MappedArray(size = 100, fill = ArrayFill.RANDOM, min = -1, max = 1, seed = 42)
+        public double[] readings;
+
+        @MappedArray(size = 3)
+        public Wheel[] wheels;
+    }
+
+    @Blueprint(Sensor.class)
+    public static class BadSensorBlueprint {
+        @MappedArray(size = 3)
+        public Wheel wheels;
+    }
+}
@@ -0,0 +1,258 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.BackReference;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.MappedArray;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.annotation.MappedListByAliases;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ParallelTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.setParallelism(4);
+        modelFactory.registerBlueprint(new HiveBlueprint());
+        modelFactory.registerBlueprint(new BeeBlueprint());
+        modelFactory.registerBlueprint("worker", new WorkerBeeBlueprint());
+        modelFactory.registerBlueprint(new CellBlueprint());
+        modelFactory.setCollectionSize(Hive.class, "bees", 1000);
+    }
+
+    @Test
+    public void testParallel() throws ModelFactoryException {
+        Hive hive = modelFactory.createModel(Hive.class);
+
+        // Models are assembled in index order
+        assertEquals(1000, hive.getBees().size());
+        for (int x = 0; x < hive.getBees().size(); x++) {
+            Bee bee = hive.getBees().get(x);
+            assertEquals(x % 2 == 0 ? "drone" : "worker", bee.getRole());
+            assertSame(hive, bee.getHive());
+            assertEquals(3, bee.getCells().size());
+        }
+
+        assertEquals(100, hive.getCells().length);
+        for (Cell cell : hive.getCells()) {
+            assertEquals("wax", cell.getMaterial());
+        }
+
+        Set<String> threads = new HashSet<String>();
+        for (Bee bee : hive.getBees()) {
+            threads.add(bee.getThread());
+        }
+        for (String thread : threads) {
+            assertTrue(thread, thread.startsWith("model-factory-"));
+        }
+
+        // Nested Models are created on the thread of their parent
+        for (Bee bee : hive.getBees()) {
+            for (Cell cell : bee.getCells()) {
+                assertEquals(bee.getThread(), cell.getThread());
+            }
+        }
+    }
+
+    @Test
+    public void testParallelFromPlan() throws ModelFactoryException {
+        modelFactory.setCreateFromPlans(true);
+        modelFactory.setBulkCreateThreshold(10);
+        modelFactory.createModel(Hive.class);
+
+        Hive hive = modelFactory.createModel(Hive.class);
+        assertEquals(1000, hive.getBees().size());
+        for (int x = 0; x < hive.getBees().size(); x++) {
+            assertEquals(x % 2 == 0 ? "drone" : "worker", hive.getBees().get(x).getRole());
+            assertSame(hive, hive.getBees().get(x).getHive());
+        }
+    }
+
+    @Test
+    public void testParallelDepthLimit() throws ModelFactoryException {
+        modelFactory.setMaxDepth(2);
+
+        try {
+            modelFactory.createModel(Hive.class);
+            fail("CreateModelException expected");
+        } catch (CreateModelException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Hive.bees > Bee.cells > Cell"));
+        }
+    }
+
+    @Test(expected = CreateModelException.class)
+    public void testParallelFailure() throws ModelFactoryException {
+        modelFactory.registerBlueprint(new BadHiveBlueprint());
+        modelFactory.createModel(Hive.class);
+    }
+
+    public static class Hive {
+        private List<Bee> bees;
+        private Cell[] cells;
+
+        public List<Bee> getBees() {
+            return bees;
+        }
+
+        public void setBees(List<Bee> bees) {
+            this.bees = bees;
+        }
+
+        public Cell[] getCells() {
+            return cells;
+        }
+
+        public void setCells(Cell[] cells) {
+            this.cells = cells;
+        }
+    }
+
+    public static class Bee {
+        private String role;
+        private String thread;
+        private Hive hive;
+        private List<Cell> cells;
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public void setThread(String thread) {
+            this.thread = thread;
+        }
+
+        public Hive getHive() {
+            return hive;
+        }
+
+        public void setHive(Hive hive) {
+            this.hive = hive;
+        }
+
+        public List<Cell> getCells() {
+            return cells;
+        }
+
+        public void setCells(List<Cell> cells) {
+            this.cells = cells;
+        }
+    }
+
+    public static class Cell {
+        private String material;
+        private String thread;
+
+        public String getMaterial() {
+            return material;
+        }
+
+        public void setMaterial(String material) {
+            this.material = material;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public void setThread(String thread) {
+            this.thread = thread;
+        }
+    }
+
+    private static final FieldCallback<String> CURRENT_THREAD = new FieldCallback<String>() {
+        @Override
+        public String get(Object referenceModel) {
+            return Thread.currentThread().getName();
+        }
+    };
+
+    @Blueprint(Hive.class)
+    public static class HiveBlueprint {
+        @MappedListByAliases(target = Bee.class, aliases = {"default", "worker"}, parallel = true)
+        @BackReference("hive")
+        public List<Bee> bees;
+
+        @MappedArray(size = 100, parallel = true)
+        public Cell[] cells;
+    }
+
+    @Blueprint(Hive.class)
+    public static class BadHiveBlueprint {
+        @MappedListByAliases(target = Bee.class, aliases = {"default", "missing"}, parallel = true)
+        public List<Bee> bees;
+    }
+
+    @Blueprint(Bee.class)
+    public static class BeeBlueprint {
+        @Default
+        public String role = "drone";
+
+        @Default
+        public FieldCallback<String> thread = CURRENT_THREAD;
+
+        @MappedList(target = Cell.class, size = 3, parallel = true)
+        public List<Cell> cells;
+    }
+
+    @Blueprint(Bee.class)
+    public static class WorkerBeeBlueprint {
+        @Default
+        public String role = "worker";
+
+        @Default
+        public FieldCallback<String> thread = CURRENT_THREAD;
+
+        @MappedList(target = Cell.class, size = 3, parallel = true)
+        public List<Cell> cells;
+    }
+
+    @Blueprint(Cell.class)
+    public static class CellBlueprint {
+        @Default
+        public String material = "wax";
+
+        @Default
+        public FieldCallback<String> thread = CURRENT_THREAD;
+    }
+}
@@ -0,0 +1,99 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.CreateModelException;
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.blueprint.*;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Wheel;
+import com.tobedevoured.modelcitizen.projection.Projection;
+import com.tobedevoured.modelcitizen.util.Pair;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProjectionTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+    }
+
+    @Test
+    public void testCreateModelWithProjection() throws ModelFactoryException {
+        Projection projection = Projection.of("make", "wheels.size", "driver");
+        Car car = modelFactory.createModel(Car.class, projection);
+
+        assertEquals("car make", car.getMake());
+        assertNull(car.getManufacturer());
+        assertNull(car.getSpares());
+
+        // driver is populated in full
+        assertEquals("Lev the Driver", car.getDriver().getName());
+        assertEquals(3, car.getDriver().getFavoriteCars().size());
+
+        assertEquals(4, car.getWheels().size());
+        for (Wheel wheel : car.getWheels()) {
+            assertEquals(new Integer(10), wheel.getSize());
+            assertNull(wheel.getColor());
+            assertNull(wheel.getOptions());
+            assertSame(car, wheel.getCar());
+        }
+    }
+
+    @Test
+    public void testNestedProjection() throws ModelFactoryException {
+        Car car = modelFactory.createModel(Car.class, Projection.of("wheels", "driver.age", "driver.name"));
+
+        assertNull(car.getMake());
+        assertEquals("Lev the Driver", car.getDriver().getName());
+        assertEquals(new Integer(16), car.getDriver().getAge());
+        assertNull(car.getDriver().getFavoriteCars());
+        assertEquals(3, car.getWheels().get(0).getOptions().size());
+
+        // Projection does not leak into later Models
+        assertEquals("car make", modelFactory.createModel(Car.class).getMake());
+    }
+
+    @Test
+    public void testProjectionIsCompiledPerErector() throws ModelFactoryException {
+        Projection projection = Projection.of("make", "wheels.size");
+        Erector erector = modelFactory.getErectors().get(Pair.of(ModelFactory.DEFAULT_BLUEPRINT_NAME, (Class) Car.class));
+
+        boolean[] included = projection.compile(erector);
+        assertSame(included, projection.compile(erector));
+    }
+
+    @Test(expected = CreateModelException.class)
+    public void testUnknownField() throws ModelFactoryException {
+        modelFactory.createModel(Car.class, Projection.of("make", "color"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.tobedevoured.modelcitizen.modelfactory;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.lazy.VirtualModelList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class VirtualListTest {
+
+    private static ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new ItemBlueprint());
+        modelFactory.registerBlueprint(new WarehouseBlueprint());
+        modelFactory.setSeed(3);
+    }
+
+    @Test
+    public void testHugeList() throws ModelFactoryException {
+        Warehouse warehouse = modelFactory.createModel(Warehouse.class);
+
+        List<Item> items = warehouse.getItems();
+        assertTrue(items instanceof VirtualModelList);
+        assertEquals(5000000, items.size());
+
+        Item item = items.get(4999999);
+        assertSame(item, items.get(4999999));
+
+        // Iterating past the window creates the Model again, equal to the first one
+        int count = 0;
+        for (Item each : items) {
+            assertNotNull(each.getCode());
+            if (++count == 200) {
+                break;
+            }
+        }
+        assertNotSame(item, items.get(4999999));
+        assertEquals(item.getCode(), items.get(4999999).getCode());
+        assertFalse(items.get(0).getCode().equals(items.get(1).getCode()));
+    }
+
+    @Test
+    public void testDeterministicUnderSeed() throws ModelFactoryException {
+        Warehouse first = modelFactory.createModel(Warehouse.class);
+        Warehouse second = modelFactory.createModel(Warehouse.class);
+        assertFalse(first.getItems().get(10).getCode().equals(second.getItems().get(10).getCode()));
+
+        modelFactory.setSeed(3);
+        Warehouse again = modelFactory.createModel(Warehouse.class);
+        assertEquals(first.getItems().get(10).getCode(), again.getItems().get(10).getCode());
+    }
+
+    @Test
+    public void testMaterializeOnMutation() throws ModelFactoryException {
+        modelFactory.setCollectionSize(Warehouse.class, "items", 10);
+        Warehouse warehouse = modelFactory.createModel(Warehouse.class);
+        VirtualModelList<Item> items = (VirtualModelList<Item>) warehouse.getItems();
+
+        Item second = items.get(1);
+        assertFalse(items.isMaterialized());
+
+        Item added = new Item();
+        items.add(added);
+        assertTrue(items.isMaterialized());
+        assertEquals(11, items.size());
+        assertSame(second, items.get(1));
+        assertSame(added, items.get(10));
+
+        Item first = items.get(0);
+        items.remove(1);
+        assertSame(first, items.get(0));
+        assertEquals(10, items.size());
+    }
+
+    @Test(expected = RegisterBlueprintException.class)
+    public void testLazyAndVirtual() throws RegisterBlueprintException {
+        modelFactory.registerBlueprint(new LazyVirtualBlueprint());
+    }
+
+    public static class Item {
+        private Long code;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+    }
+
+    public static class Warehouse {
+        private List<Item> items;
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    static class RandomCode extends FieldCallback<Long> {
+        public Long get(Object referenceModel) {
+            return modelFactory.nextRandom();
+        }
+    }
+
+    @Blueprint(Item.class)
+    public static class ItemBlueprint {
+        @Default
+        public FieldCallback<Long> code = new RandomCode();
+    }
+
+    @Blueprint(Warehouse.class)
+    public static class WarehouseBlueprint {
+        @MappedList(target = Item.class, size = 5000000, virtual = true, window = 100)
+        public List<Item> items;
+    }
+
+    @Blueprint(Warehouse.class)
+    public static class LazyVirtualBlueprint {
+        @MappedList(target = Item.class, size = 10, lazy = true, virtual = true)
+        public List<Item> items;
+    }
+}
@@ -0,0 +1,156 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.blueprint.CarBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.OptionBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.UserBlueprint;
+import com.tobedevoured.modelcitizen.blueprint.WheelBlueprint;
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Driver;
+
+public class MappedPoolPolicyTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CarBlueprint());
+        modelFactory.registerBlueprint(new WheelBlueprint());
+        modelFactory.registerBlueprint(new DriverBlueprint());
+        modelFactory.registerBlueprint(new UserBlueprint());
+        modelFactory.registerBlueprint(new OptionBlueprint());
+        modelFactory.registerBlueprint("different", new OptionBlueprint());
+    }
+
+    @Test
+    public void roundRobin() throws ModelFactoryException {
+        MappedPoolPolicy policy = new MappedPoolPolicy(Driver.class, 3);
+        modelFactory.addPolicy(policy);
+
+        List<Car> cars = modelFactory.createModels(Car.class, 10);
+
+        for (int idx = 0; idx < cars.size(); idx++) {
+            assertNotNull(cars.get(idx).getDriver());
+            assertSame(cars.get(idx % 3).getDriver(), cars.get(idx).getDriver());
+        }
+        assertNotSame(cars.get(0).getDriver(), cars.get(1).getDriver());
+        assertNotSame(cars.get(1).getDriver(), cars.get(2).getDriver());
+        assertEquals(3, policy.getPool().size());
+    }
+
+    @Test
+    public void fill() throws ModelFactoryException {
+        MappedPoolPolicy policy = new MappedPoolPolicy(Driver.class, 5);
+        modelFactory.addPolicy(policy);
+
+        assertTrue(policy.getPool().isEmpty());
+
+        policy.fill(modelFactory);
+        List<Object> pool = policy.getPool();
+        assertEquals(5, pool.size());
+
+        Car car = modelFactory.createModel(Car.class);
+        assertSame(pool.get(0), car.getDriver());
+    }
+
+    @Test
+    public void random() throws ModelFactoryException {
+        MappedPoolPolicy policy = new MappedPoolPolicy(Driver.class, 4, MappedPoolPolicy.Selection.RANDOM);
+        modelFactory.addPolicy(policy);
+        policy.fill(modelFactory);
+        List<Object> pool = policy.getPool();
+
+        modelFactory.setSeed(42);
+        List<Integer> slots = new ArrayList<Integer>();
+        for (Car car : modelFactory.createModels(Car.class, 50)) {
+            int slot = indexOf(pool, car.getDriver());
+            assertTrue(slot >= 0);
+            slots.add(slot);
+        }
+        assertEquals(4, new java.util.HashSet<Integer>(slots).size());
+
+        // The same seed of the ModelFactory draws the same slots
+        modelFactory.setSeed(42);
+        List<Car> cars = modelFactory.createModels(Car.class, 50);
+        for (int idx = 0; idx < slots.size(); idx++) {
+            assertEquals(slots.get(idx).intValue(), indexOf(pool, cars.get(idx).getDriver()));
+        }
+    }
+
+    @Test
+    public void concurrentDraws() throws Exception {
+        final MappedPoolPolicy policy = new MappedPoolPolicy(Driver.class, 3);
+        modelFactory.addPolicy(policy);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<List<Car>>> futures = new ArrayList<Future<List<Car>>>();
+        try {
+            for (int idx = 0; idx < 8; idx++) {
+                futures.add(executorService.submit(new Callable<List<Car>>() {
+                    public List<Car> call() throws Exception {
+                        return modelFactory.createModels(Car.class, 25);
+                    }
+                }));
+            }
+
+            Set<Object> drivers = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+            for (Future<List<Car>> future : futures) {
+                for (Car car : future.get()) {
+                    drivers.add(car.getDriver());
+                }
+            }
+
+            // Slots created at the same time keep the first Model set
+            assertEquals(3, drivers.size());
+            assertTrue(policy.getPool().containsAll(drivers));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static int indexOf(List<Object> pool, Object model) {
+        for (int idx = 0; idx < pool.size(); idx++) {
+            if (pool.get(idx) == model) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,169 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.sampler.ListPopulation;
+import com.tobedevoured.modelcitizen.sampler.Population;
+import com.tobedevoured.modelcitizen.sampler.ZipfSampler;
+
+public class MappedSamplePolicyTest {
+
+    private ModelFactory modelFactory;
+    private List<Customer> customers;
+    private Map<Customer, Integer> indexes;
+
+    @Before
+    public void setUp() throws ModelFactoryException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CustomerBlueprint());
+        modelFactory.registerBlueprint(new OrderBlueprint());
+
+        customers = modelFactory.createModels(Customer.class, 100);
+        indexes = new IdentityHashMap<Customer, Integer>();
+        for (int idx = 0; idx < customers.size(); idx++) {
+            indexes.put(customers.get(idx), idx);
+        }
+    }
+
+    @Test
+    public void uniform() throws ModelFactoryException {
+        modelFactory.addPolicy(new MappedSamplePolicy(Customer.class, new ListPopulation<Customer>(customers)));
+
+        int[] counts = sample(5000);
+        for (int count : counts) {
+            assertTrue(count > 0);
+        }
+    }
+
+    @Test
+    public void zipf() throws ModelFactoryException {
+        modelFactory.addPolicy(new MappedSamplePolicy(Customer.class, new ListPopulation<Customer>(customers), new ZipfSampler(100, 1.2)));
+
+        int[] counts = sample(5000);
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertTrue(counts[0] > 5000 / 5);
+    }
+
+    @Test
+    public void deterministicUnderSeed() throws ModelFactoryException {
+        modelFactory.addPolicy(new MappedSamplePolicy(Customer.class, new ListPopulation<Customer>(customers), new ZipfSampler(100, 0.5)));
+
+        modelFactory.setSeed(7);
+        List<Integer> first = sampled(modelFactory.createModels(Order.class, 200));
+
+        modelFactory.setSeed(7);
+        List<Integer> second = sampled(modelFactory.createModels(Order.class, 200));
+        assertEquals(first, second);
+
+        modelFactory.setSeed(8);
+        assertFalse(first.equals(sampled(modelFactory.createModels(Order.class, 200))));
+    }
+
+    @Test
+    public void virtualPopulation() throws ModelFactoryException {
+        Population<Customer> population = new Population<Customer>() {
+            public long size() {
+                return 1000000;
+            }
+
+            public Customer get(long index) {
+                Customer customer = new Customer();
+                customer.setId(index);
+                return customer;
+            }
+        };
+        modelFactory.addPolicy(new MappedSamplePolicy(Customer.class, population));
+
+        for (Order order : modelFactory.createModels(Order.class, 100)) {
+            assertTrue(order.getCustomer().getId() >= 0);
+            assertTrue(order.getCustomer().getId() < 1000000);
+        }
+    }
+
+    private int[] sample(int orders) throws ModelFactoryException {
+        int[] counts = new int[customers.size()];
+        for (int index : sampled(modelFactory.createModels(Order.class, orders))) {
+            counts[index]++;
+        }
+        return counts;
+    }
+
+    private List<Integer> sampled(List<Order> orders) {
+        List<Integer> sampled = new ArrayList<Integer>();
+        for (Order order : orders) {
+            Integer index = indexes.get(order.getCustomer());
+            assertNotNull(index);
+            sampled.add(index);
+        }
+        return sampled;
+    }
+
+    public static class Customer {
+        private long id;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+    }
+
+    public static class Order {
+        private Customer customer;
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    @Blueprint(Customer.class)
+    public static class CustomerBlueprint {
+        @Default
+        public long id = -1;
+    }
+
+    @Blueprint(Order.class)
+    public static class OrderBlueprint {
+        @Mapped
+        public Customer customer;
+    }
+}
@@ -20,12 +20,24 @@ package com.tobedevoured.modelcitizen.policy;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import com.tobedevoured.modelcitizen.ModelFactory;
 import com.tobedevoured.modelcitizen.ModelFactoryException;
 import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.Scope;
 import com.tobedevoured.modelcitizen.blueprint.CarBlueprint;
 import com.tobedevoured.modelcitizen.blueprint.DriverBlueprint;
 import com.tobedevoured.modelcitizen.blueprint.UserBlueprint;
@@ -81,4 +93,70 @@ public class MappedSingletonPolicyTest {
         assertEquals(car2.getDriver(), driver);
         assertEquals(car3.getDriver(), driver);
     }
+
+    @Test
+    public void singletonPolicyConcurrent() throws Exception {
+        modelFactory.addPolicy(new MappedSingletonPolicy(Driver.class));
+
+        Set<Driver> drivers = createConcurrently(8);
+        assertEquals(1, drivers.size());
+    }
+
+    @Test
+    public void singletonPolicyThreadScope() throws Exception {
+        MappedSingletonPolicy policy = new MappedSingletonPolicy(Driver.class, Scope.THREAD);
+        modelFactory.addPolicy(policy);
+
+        Car car1 = modelFactory.createModel(Car.class);
+        Car car2 = modelFactory.createModel(Car.class);
+        assertSame(car1.getDriver(), car2.getDriver());
+        assertNull(policy.getSingleton());
+
+        Set<Driver> drivers = createConcurrently(4);
+        assertEquals(4, drivers.size());
+        assertFalse(drivers.contains(car1.getDriver()));
+
+        policy.clearThreadSingleton();
+        assertNotSame(car1.getDriver(), modelFactory.createModel(Car.class).getDriver());
+    }
+
+    @Test
+    public void singletonPolicyBatchScope() throws ModelFactoryException {
+        modelFactory.addPolicy(new MappedSingletonPolicy(Driver.class, Scope.BATCH));
+
+        List<Car> cars = modelFactory.createModels(Car.class, 3);
+        assertSame(cars.get(0).getDriver(), cars.get(1).getDriver());
+        assertSame(cars.get(0).getDriver(), cars.get(2).getDriver());
+
+        Car car = modelFactory.createModel(Car.class);
+        assertNotSame(cars.get(0).getDriver(), car.getDriver());
+    }
+
+    /**
+     * Create a Car on each of the threads at the same time, returning the distinct Drivers
+     */
+    private Set<Driver> createConcurrently(int threads) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Car>> futures = new ArrayList<Future<Car>>();
+            for (int x = 0; x < threads; x++) {
+                futures.add(executor.submit(new Callable<Car>() {
+                    public Car call() throws Exception {
+                        start.await();
+                        return modelFactory.createModel(Car.class);
+                    }
+                }));
+            }
+            start.countDown();
+
+            Set<Driver> drivers = Collections.newSetFromMap(new IdentityHashMap<Driver, Boolean>());
+            for (Future<Car> future : futures) {
+                drivers.add(future.get().getDriver());
+            }
+            return drivers;
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
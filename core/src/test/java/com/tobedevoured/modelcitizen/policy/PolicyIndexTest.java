@@ -0,0 +1,263 @@
+package com.tobedevoured.modelcitizen.policy;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.Erector;
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.RegisterBlueprintException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.annotation.MappedList;
+import com.tobedevoured.modelcitizen.erector.Command;
+import com.tobedevoured.modelcitizen.field.ModelField;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class PolicyIndexTest {
+
+    private ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws RegisterBlueprintException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new GarageBlueprint());
+        modelFactory.registerBlueprint(new ToolBlueprint());
+        modelFactory.registerBlueprint("spare", new SpareToolBlueprint());
+    }
+
+    @Test
+    public void testFieldPolicyByAlias() throws ModelFactoryException {
+        RecordingFieldPolicy spares = new RecordingFieldPolicy();
+        modelFactory.addPolicy("spare", spares);
+
+        RecordingFieldPolicy tools = new RecordingFieldPolicy();
+        modelFactory.addPolicy(tools);
+
+        modelFactory.createModel(Garage.class);
+        assertEquals(Collections.singletonList("spares"), spares.fields);
+        assertEquals(Collections.singletonList("hammer"), tools.fields);
+    }
+
+    @Test
+    public void testBlueprintPolicyByAlias() throws ModelFactoryException {
+        RecordingBlueprintPolicy policy = new RecordingBlueprintPolicy();
+        modelFactory.addPolicy("spare", policy);
+
+        Garage garage = modelFactory.createModel(Garage.class);
+        assertEquals(3, garage.getSpares().size());
+        assertEquals(3, policy.models.size());
+        for (Object model : policy.models) {
+            assertEquals("spare", ((Tool) model).getName());
+        }
+
+        modelFactory.createModel(Tool.class);
+        assertEquals(3, policy.models.size());
+
+        modelFactory.createModel("spare", Tool.class);
+        assertEquals(4, policy.models.size());
+    }
+
+    @Test
+    public void testPoliciesByTarget() throws ModelFactoryException {
+        RecordingFieldPolicy spares = new RecordingFieldPolicy();
+        modelFactory.addPolicy("spare", spares);
+        RecordingFieldPolicy tools = new RecordingFieldPolicy();
+        modelFactory.addPolicy(tools);
+        RecordingBlueprintPolicy policy = new RecordingBlueprintPolicy();
+        modelFactory.addPolicy(policy);
+
+        assertEquals(Arrays.<FieldPolicy>asList(spares, tools), modelFactory.getFieldPolicies().get(Tool.class));
+        assertEquals(Collections.<BlueprintPolicy>singletonList(policy), modelFactory.getBlueprintPolicies().get(Tool.class));
+        assertNull(modelFactory.getFieldPolicies().get(Garage.class));
+    }
+
+    @Test
+    public void testPoliciesResolvedAgain() throws ModelFactoryException {
+        modelFactory.createModel(Garage.class);
+
+        // Policies added after creating Models apply
+        RecordingBlueprintPolicy policy = new RecordingBlueprintPolicy();
+        modelFactory.addPolicy(policy);
+        modelFactory.createModel(Garage.class);
+        assertEquals(1, policy.models.size());
+
+        // and still apply to a Blueprint registered again
+        modelFactory.registerBlueprint(new ToolBlueprint());
+        modelFactory.createModel(Garage.class);
+        assertEquals(2, policy.models.size());
+    }
+
+    @Test
+    public void testStaticPolicies() throws ModelFactoryException {
+        CountingStaticPolicy blueprintPolicy = new CountingStaticPolicy();
+        modelFactory.addPolicy(blueprintPolicy);
+
+        // Resolved for each registered Blueprint of the target when added
+        assertEquals(1, blueprintPolicy.resolved);
+
+        // A Policy for another alias leaves the resolved Policies of the Tool
+        modelFactory.addPolicy("spare", new RecordingBlueprintPolicy());
+        assertEquals(1, blueprintPolicy.resolved);
+
+        StaticSkipPolicy fieldPolicy = new StaticSkipPolicy();
+        modelFactory.addPolicy(fieldPolicy);
+
+        for (int x = 0; x < 5; x++) {
+            Garage garage = modelFactory.createModel(Garage.class);
+            assertNull(garage.getHammer());
+            assertEquals(3, garage.getSpares().size());
+
+            Tool tool = new Tool();
+            tool.setName("saw");
+            assertEquals("hammer", modelFactory.createModel(tool).getName());
+        }
+
+        // The FieldPolicy only resolves the Policies of the Garage again
+        assertEquals(1, blueprintPolicy.resolved);
+        assertEquals(0, blueprintPolicy.processed);
+        assertEquals(1, fieldPolicy.resolved);
+    }
+
+    static class CountingStaticPolicy implements StaticBlueprintPolicy {
+        int resolved = 0;
+        int processed = 0;
+
+        public Map<ModelField, Set<Command>> getStaticCommands(ModelFactory modelFactory, Erector erector) {
+            resolved++;
+            return Collections.singletonMap(erector.getModelField("name"), Collections.singleton(Command.SKIP_REFERENCE_INJECTION));
+        }
+
+        public Map<ModelField, Set<Command>> process(ModelFactory modelFactory, Erector erector, Object model) {
+            processed++;
+            return Collections.emptyMap();
+        }
+
+        public Class getTarget() {
+            return Tool.class;
+        }
+    }
+
+    static class StaticSkipPolicy implements StaticFieldPolicy {
+        int resolved = 0;
+
+        public Command getStaticCommand(ModelFactory modelFactory, Erector erector, ModelField modelField) {
+            resolved++;
+            return Command.SKIP_INJECTION;
+        }
+
+        public Command process(ModelFactory modelFactory, Erector erector, ModelField modelField, Object model) {
+            throw new IllegalStateException("static Policy processed");
+        }
+
+        public Class getTarget() {
+            return Tool.class;
+        }
+    }
+
+    static class RecordingFieldPolicy implements FieldPolicy {
+        final List<String> fields = new ArrayList<String>();
+
+        public Command process(ModelFactory modelFactory, Erector erector, ModelField modelField, Object model) {
+            fields.add(modelField.getName());
+            return null;
+        }
+
+        public Class getTarget() {
+            return Tool.class;
+        }
+    }
+
+    static class RecordingBlueprintPolicy implements BlueprintPolicy {
+        final List<Object> models = new ArrayList<Object>();
+
+        public Map<ModelField, Set<Command>> process(ModelFactory modelFactory, Erector erector, Object model) {
+            models.add(model);
+            return Collections.emptyMap();
+        }
+
+        public Class getTarget() {
+            return Tool.class;
+        }
+    }
+
+    public static class Garage {
+        private Tool hammer;
+        private List<Tool> spares;
+
+        public Tool getHammer() {
+            return hammer;
+        }
+
+        public void setHammer(Tool hammer) {
+            this.hammer = hammer;
+        }
+
+        public List<Tool> getSpares() {
+            return spares;
+        }
+
+        public void setSpares(List<Tool> spares) {
+            this.spares = spares;
+        }
+    }
+
+    public static class Tool {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Blueprint(Garage.class)
+    public static class GarageBlueprint {
+        @Mapped
+        public Tool hammer;
+
+        @MappedList(target = Tool.class, size = 3, alias = "spare")
+        public List<Tool> spares;
+    }
+
+    @Blueprint(Tool.class)
+    public static class ToolBlueprint {
+        @Default
+        public String name = "hammer";
+    }
+
+    @Blueprint(Tool.class)
+    public static class SpareToolBlueprint {
+        @Default
+        public String name = "spare";
+    }
+}
@@ -0,0 +1,98 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SamplerTest {
+
+    private static final int DRAWS = 200000;
+
+    @Test
+    public void aliasFollowsWeights() {
+        double[] weights = {1, 0, 3, 6};
+        int[] counts = draw(new AliasSampler(weights), 4);
+
+        assertEquals(0, counts[1]);
+        assertEquals(0.1, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(0.3, counts[2] / (double) DRAWS, 0.01);
+        assertEquals(0.6, counts[3] / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    public void zipf() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1);
+        int[] counts = draw(sampler, 1000);
+
+        double harmonic = 0;
+        for (int k = 1; k <= 1000; k++) {
+            harmonic += 1.0 / k;
+        }
+        assertEquals(1 / harmonic, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(1 / (2 * harmonic), counts[1] / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    public void uniform() {
+        int[] counts = draw(new UniformSampler(10), 10);
+        for (int count : counts) {
+            assertEquals(0.1, count / (double) DRAWS, 0.01);
+        }
+    }
+
+    @Test
+    public void hotKeys() {
+        HotKeySampler sampler = new HotKeySampler(100, 5, 0.8);
+        int[] counts = draw(sampler, 100);
+
+        int hot = 0;
+        for (int idx = 0; idx < 5; idx++) {
+            hot += counts[idx];
+        }
+        assertEquals(0.8, hot / (double) DRAWS, 0.01);
+        assertEquals(0.2 / 95, counts[50] / (double) DRAWS, 0.002);
+    }
+
+    @Test
+    public void sameBitsSameIndex() {
+        ZipfSampler sampler = new ZipfSampler(50, 1.5);
+        Random random = new Random(3);
+        for (int x = 0; x < 1000; x++) {
+            long bits = random.nextLong();
+            assertEquals(sampler.sample(bits), sampler.sample(bits));
+        }
+    }
+
+    private static int[] draw(Sampler sampler, int size) {
+        assertEquals(size, sampler.size());
+
+        Random random = new Random(1);
+        int[] counts = new int[size];
+        for (int x = 0; x < DRAWS; x++) {
+            long index = sampler.sample(random.nextLong());
+            assertTrue(index >= 0 && index < size);
+            counts[(int) index]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,197 @@
+package com.tobedevoured.modelcitizen.sampler;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tobedevoured.modelcitizen.ModelFactory;
+import com.tobedevoured.modelcitizen.ModelFactoryException;
+import com.tobedevoured.modelcitizen.annotation.Blueprint;
+import com.tobedevoured.modelcitizen.annotation.Default;
+import com.tobedevoured.modelcitizen.annotation.Mapped;
+import com.tobedevoured.modelcitizen.callback.FieldCallback;
+import com.tobedevoured.modelcitizen.policy.MappedSamplePolicy;
+
+public class VirtualPopulationTest {
+
+    private static ModelFactory modelFactory;
+
+    @Before
+    public void setUp() throws ModelFactoryException {
+        modelFactory = new ModelFactory();
+        modelFactory.registerBlueprint(new CustomerBlueprint());
+        modelFactory.registerBlueprint(new OrderBlueprint());
+        modelFactory.setSeed(5);
+    }
+
+    @Test
+    public void sameIndexSameModel() throws ModelFactoryException {
+        VirtualPopulation<Customer> customers = new VirtualPopulation<Customer>(modelFactory, Customer.class, 100000000L);
+
+        Customer customer = customers.get(73491);
+        assertNotSame(customer, customers.get(73491));
+        assertEquals(customer.getCode(), customers.get(73491).getCode());
+        assertFalse(customer.getCode().equals(customers.get(73492).getCode()));
+
+        // Other Models created in between do not change the Model of an index
+        modelFactory.createModels(Customer.class, 10);
+        assertEquals(customer.getCode(), customers.get(73491).getCode());
+
+        VirtualPopulation<Customer> other = new VirtualPopulation<Customer>(modelFactory, Customer.class, 100000000L);
+        assertEquals(customer.getCode(), other.get(73491).getCode());
+        other.setStream(1);
+        assertFalse(customer.getCode().equals(other.get(73491).getCode()));
+
+        modelFactory.setSeed(6);
+        assertFalse(customer.getCode().equals(customers.get(73491).getCode()));
+    }
+
+    @Test
+    public void boundedCache() throws ModelFactoryException {
+        VirtualPopulation<Customer> customers = new VirtualPopulation<Customer>(modelFactory, Customer.class, 1000);
+        customers.setCacheSize(2);
+
+        Customer first = customers.get(1);
+        assertSame(first, customers.get(1));
+
+        customers.get(2);
+        customers.get(3);
+        assertEquals(2, customers.getCache().size());
+
+        Customer again = customers.get(1);
+        assertNotSame(first, again);
+        assertEquals(first.getCode(), again.getCode());
+        assertEquals(1, customers.getCache().getStats().getHitCount());
+    }
+
+    @Test
+    public void cacheInvalidatedBySeed() throws ModelFactoryException {
+        VirtualPopulation<Customer> customers = new VirtualPopulation<Customer>(modelFactory, Customer.class, 1000);
+        customers.setCacheSize(10);
+
+        Customer first = customers.get(1);
+        assertSame(first, customers.get(1));
+
+        modelFactory.setSeed(6);
+        Customer reseeded = customers.get(1);
+        assertNotSame(first, reseeded);
+        assertFalse(first.getCode().equals(reseeded.getCode()));
+
+        modelFactory.setSeed(5);
+        assertEquals(first.getCode(), customers.get(1).getCode());
+    }
+
+    @Test
+    public void listView() throws ModelFactoryException {
+        VirtualPopulation<Customer> customers = new VirtualPopulation<Customer>(modelFactory, Customer.class, 50);
+        List<Customer> list = customers.asList();
+
+        assertEquals(50, list.size());
+        Set<Long> codes = new HashSet<Long>();
+        for (Customer customer : list) {
+            codes.add(customer.getCode());
+        }
+        assertEquals(50, codes.size());
+        assertEquals(customers.get(7).getCode(), list.get(7).getCode());
+
+        try {
+            list.add(new Customer());
+            fail("List view is unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void referencesResolvedLazily() throws ModelFactoryException {
+        VirtualPopulation<Customer> customers = new VirtualPopulation<Customer>(modelFactory, Customer.class, 10000000L);
+        modelFactory.addPolicy(new MappedSamplePolicy(Customer.class, customers, new HotKeySampler(10000000L, 10, 0.9)));
+
+        modelFactory.setSeed(5);
+        List<Order> orders = modelFactory.createModels(Order.class, 20);
+        modelFactory.setSeed(5);
+        List<Order> again = modelFactory.createModels(Order.class, 20);
+
+        for (int x = 0; x < orders.size(); x++) {
+            assertEquals(orders.get(x).getCode(), again.get(x).getCode());
+            assertEquals(orders.get(x).getCustomer().getCode(), again.get(x).getCustomer().getCode());
+        }
+    }
+
+    public static class Customer {
+        private Long code;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+    }
+
+    public static class Order {
+        private Long code;
+        private Customer customer;
+
+        public Long getCode() {
+            return code;
+        }
+
+        public void setCode(Long code) {
+            this.code = code;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    static class RandomCode extends FieldCallback<Long> {
+        public Long get(Object referenceModel) {
+            return modelFactory.nextRandom();
+        }
+    }
+
+    @Blueprint(Customer.class)
+    public static class CustomerBlueprint {
+        @Default
+        public FieldCallback<Long> code = new RandomCode();
+    }
+
+    @Blueprint(Order.class)
+    public static class OrderBlueprint {
+        @Default
+        public FieldCallback<Long> code = new RandomCode();
+
+        @Mapped
+        public Customer customer;
+    }
+}
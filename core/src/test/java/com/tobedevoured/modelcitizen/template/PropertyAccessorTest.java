@@ -0,0 +1,85 @@
+package com.tobedevoured.modelcitizen.template;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.tobedevoured.modelcitizen.model.Car;
+import com.tobedevoured.modelcitizen.model.Driver;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyAccessorTest {
+
+    private static final String[] PROPERTIES = new String[]{"make", "mileage", "driver"};
+
+    private JavaBeanTemplate template;
+
+    @Before
+    public void setUp() {
+        template = new JavaBeanTemplate();
+    }
+
+    @Test
+    public void javaBeanTemplateBindsJavaBeanPropertyAccessor() throws BlueprintTemplateException {
+        PropertyAccessor accessor = template.bind(Car.class, PROPERTIES);
+
+        assertTrue(accessor instanceof JavaBeanPropertyAccessor);
+        assertArrayEquals(PROPERTIES, accessor.getProperties());
+    }
+
+    @Test
+    public void setAllAndGetByIndex() throws BlueprintTemplateException {
+        PropertyAccessor accessor = template.bind(Car.class, PROPERTIES);
+        Driver driver = new Driver();
+
+        Car car = accessor.setAll(new Car(), new Object[]{"bulk make", 12.5f, driver});
+
+        assertEquals("bulk make", accessor.get(car, 0));
+        assertEquals(12.5f, (Float) accessor.get(car, 1), 0);
+        assertSame(driver, accessor.get(car, 2));
+        assertArrayEquals(new Object[]{"bulk make", 12.5f, driver}, accessor.getAll(car));
+    }
+
+    @Test
+    public void templatePropertyAccessorAdaptsTemplate() throws BlueprintTemplateException {
+        BlueprintTemplate nameOnlyTemplate = new BlueprintTemplate() {
+            public <T> T construct(Class<T> modelClass) throws BlueprintTemplateException {
+                return template.construct(modelClass);
+            }
+
+            public <T> T set(T model, String property, Object value) throws BlueprintTemplateException {
+                return template.set(model, property, value);
+            }
+
+            public Object get(Object model, String property) throws BlueprintTemplateException {
+                return template.get(model, property);
+            }
+        };
+
+        PropertyAccessor accessor = new TemplatePropertyAccessor(nameOnlyTemplate, PROPERTIES);
+        Car car = accessor.set(new Car(), 0, "adapted make");
+
+        assertEquals("adapted make", car.getMake());
+        assertEquals("adapted make", accessor.get(car, 0));
+    }
+}
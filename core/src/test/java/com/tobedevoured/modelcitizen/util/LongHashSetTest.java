@@ -0,0 +1,83 @@
+package com.tobedevoured.modelcitizen.util;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+    @Test
+    public void addAndContains() {
+        LongHashSet set = new LongHashSet();
+        Random random = new Random(1);
+        long[] values = new long[100000];
+        for (int x = 0; x < values.length; x++) {
+            values[x] = random.nextLong();
+            assertTrue(set.add(values[x]));
+        }
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+
+        assertEquals(values.length + 1, set.size());
+        for (long value : values) {
+            assertTrue(set.contains(value));
+            assertFalse(set.add(value));
+        }
+        assertFalse(set.contains(random.nextLong()));
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(values[0]));
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    public void bloomFilter() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        Random random = new Random(2);
+        for (int x = 0; x < 10000; x++) {
+            long hash = random.nextLong();
+            filter.put(hash);
+            assertTrue(filter.mightContain(hash));
+        }
+
+        int falsePositives = 0;
+        for (int x = 0; x < 10000; x++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertTrue("false positives " + falsePositives, falsePositives < 200);
+    }
+
+    @Test
+    public void uniqueValues() {
+        UniqueValues values = new UniqueValues(10, 1);
+        assertTrue(values.add("a"));
+        assertTrue(values.add("b"));
+        assertFalse(values.add("a"));
+        assertTrue(values.add(1L));
+        assertFalse(values.add(1));
+        assertEquals(3, values.size());
+    }
+}
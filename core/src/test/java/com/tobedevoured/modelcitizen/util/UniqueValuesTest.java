@@ -0,0 +1,59 @@
+package com.tobedevoured.modelcitizen.util;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class UniqueValuesTest {
+
+    @Test
+    public void hashByType() {
+        UniqueValues values = new UniqueValues(100, 1);
+
+        assertTrue(values.add(1.0f));
+        assertTrue(values.add(1.0d));
+        assertTrue(values.add("1.0"));
+        assertTrue(values.add(null));
+        assertTrue(values.add("null"));
+        assertFalse(values.add(new StringBuilder("1.0")));
+
+        // integral Numbers by their value
+        assertTrue(values.add(1));
+        assertFalse(values.add(1L));
+    }
+
+    @Test
+    public void claimsByOwner() {
+        UniqueValues values = new UniqueValues(100, 1);
+
+        assertTrue(values.add("a", 7));
+        assertTrue(values.add("a", 7));
+        assertFalse(values.add("a", 8));
+        assertFalse(values.add("a"));
+        assertTrue(values.add("b"));
+
+        // claims are not counted as values
+        assertEquals(2, values.size());
+
+        values.clear();
+        assertTrue(values.add("a", 8));
+    }
+}